@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cfg.AvailableSettings.HBM2DDL_AUTO;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_PASSWORD;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_USER;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Builds the {@link SessionFactoryImplementor} shared by the benchmarks: an in-memory
+ * H2 database with the {@link Book} / {@link Author} model, optionally pre-populated.
+ */
+public final class BenchmarkSessionFactory {
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build(String name) {
+		return build( name, Map.of() );
+	}
+
+	public static SessionFactoryImplementor build(String name, Map<String, Object> settings) {
+		return build( name, settings, Author.class, Book.class );
+	}
+
+	public static SessionFactoryImplementor build(String name, Map<String, Object> settings, Class<?>... entities) {
+		final Configuration configuration = new Configuration();
+		for ( Class<?> entity : entities ) {
+			configuration.addAnnotatedClass( entity );
+		}
+		configuration
+				.setProperty( JAKARTA_JDBC_URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1" )
+				.setProperty( JAKARTA_JDBC_USER, "sa" )
+				.setProperty( JAKARTA_JDBC_PASSWORD, "" )
+				.setProperty( HBM2DDL_AUTO, "create-drop" )
+				.setProperty( STATEMENT_BATCH_SIZE, 50 );
+		settings.forEach( (key, value) -> configuration.getProperties().put( key, value ) );
+		return (SessionFactoryImplementor) configuration.buildSessionFactory();
+	}
+
+	/**
+	 * Inserts {@code numberOfBooks} books, spread across 10 authors, with ids starting at 1.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int numberOfBooks) {
+		sessionFactory.inStatelessTransaction( session -> {
+			final Author[] authors = new Author[10];
+			for ( int i = 0; i < authors.length; i++ ) {
+				authors[i] = new Author( (long) i + 1, "Author " + i );
+				session.insert( authors[i] );
+			}
+			for ( int i = 1; i <= numberOfBooks; i++ ) {
+				session.insert( new Book(
+						(long) i,
+						"Title " + i,
+						"978-" + i,
+						BigDecimal.valueOf( i, 2 ),
+						LocalDate.of( 2000, 1, 1 ).plusDays( i ),
+						authors[i % authors.length]
+				) );
+			}
+		} );
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+/**
+ * A moderately wide entity with a lazy association, used by most of the benchmarks.
+ */
+@Entity
+public class Book {
+	@Id
+	private Long id;
+	private String title;
+	private String isbn;
+	private BigDecimal price;
+	private LocalDate published;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Author author;
+
+	protected Book() {
+	}
+
+	public Book(Long id, String title, String isbn, BigDecimal price, LocalDate published, Author author) {
+		this.id = id;
+		this.title = title;
+		this.isbn = isbn;
+		this.price = price;
+		this.published = published;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public LocalDate getPublished() {
+		return published;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Flush-time dirty checking of non-enhanced entities by {@code DefaultFlushEntityEventListener},
+ * with either no changes at all, or a single modified entity among {@link #managedEntities}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirtyCheckingBenchmark {
+	@Param({ "1000", "100000" })
+	private int managedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Book> books;
+	private int counter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "dirty_checking" );
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities );
+
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.getTransaction().rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void flushClean() {
+		session.flush();
+	}
+
+	@Benchmark
+	public void flushOneDirty() {
+		final Book book = books.get( counter++ % books.size() );
+		book.setTitle( "Title " + counter );
+		session.flush();
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+
+/**
+ * Loads the given entity classes itself, enhancing them at runtime with the
+ * default enhancement options (which include inline dirty tracking), and
+ * delegates everything else to its parent.
+ */
+public final class EnhancingClassLoader extends ClassLoader {
+	private final Set<String> entityClassNames;
+	private final Enhancer enhancer;
+
+	public EnhancingClassLoader(ClassLoader parent, Class<?>... entityClasses) {
+		super( parent );
+		this.entityClassNames = Set.of( Arrays.stream( entityClasses ).map( Class::getName ).toArray( String[]::new ) );
+		this.enhancer = new BytecodeProviderImpl().getEnhancer( new DefaultEnhancementContext() );
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		if ( !entityClassNames.contains( name ) ) {
+			return super.loadClass( name, resolve );
+		}
+		synchronized ( getClassLoadingLock( name ) ) {
+			Class<?> loaded = findLoadedClass( name );
+			if ( loaded == null ) {
+				final byte[] original = readClass( name );
+				final byte[] enhanced = enhancer.enhance( name, original );
+				final byte[] bytes = enhanced == null ? original : enhanced;
+				loaded = defineClass( name, bytes, 0, bytes.length );
+			}
+			if ( resolve ) {
+				resolveClass( loaded );
+			}
+			return loaded;
+		}
+	}
+
+	private byte[] readClass(String name) throws ClassNotFoundException {
+		try ( InputStream stream = getParent().getResourceAsStream( name.replace( '.', '/' ) + ".class" ) ) {
+			if ( stream == null ) {
+				throw new ClassNotFoundException( name );
+			}
+			return stream.readAllBytes();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Row hydration through {@code EntityInitializerImpl}: reading all {@link Book}s, either
+ * into a stateless session (hydration only) or a regular session (hydration plus
+ * registration in the persistence context).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityHydrationBenchmark {
+	@Param({ "100", "10000" })
+	private int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+	private StatelessSession statelessSession;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "entity_hydration" );
+		BenchmarkSessionFactory.populate( sessionFactory, rows );
+		statelessSession = sessionFactory.openStatelessSession();
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		statelessSession.close();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> hydrateStateless() {
+		return statelessSession.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@Benchmark
+	public List<Book> hydrateManaged() {
+		final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		session.clear();
+		return books;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.hibernate.cfg.AvailableSettings.CLASSLOADERS;
+
+/**
+ * Flushing a session managing 100k entities of which only 10 were modified, with
+ * plain entities, which are dirty-checked against their loaded state, and with
+ * entities enhanced at runtime to track their own dirtiness.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlushBenchmark {
+	private static final int MANAGED_ENTITIES = 100_000;
+	private static final int DIRTY_ENTITIES = 10;
+
+	@Param({ "false", "true" })
+	private boolean enhanced;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Named> items;
+	private int counter;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ClassNotFoundException {
+		if ( enhanced ) {
+			final ClassLoader classLoader = new EnhancingClassLoader( getClass().getClassLoader(), FlushItem.class );
+			sessionFactory = BenchmarkSessionFactory.build(
+					"flush_enhanced",
+					Map.of( CLASSLOADERS, List.of( classLoader ) ),
+					classLoader.loadClass( FlushItem.class.getName() )
+			);
+		}
+		else {
+			sessionFactory = BenchmarkSessionFactory.build( "flush", Map.of(), FlushItem.class );
+		}
+
+		sessionFactory.inTransaction( session -> session.createNativeMutationQuery(
+				"insert into FlushItem (id, name) select x, 'item ' || x from system_range(1, " + MANAGED_ENTITIES + ")"
+		).executeUpdate() );
+
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		items = session.createSelectionQuery( "from FlushItem", Named.class ).getResultList();
+		// the first flush of enhanced entities still compares them to their loaded state
+		session.flush();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.getTransaction().rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void flushFewDirty() {
+		for ( int i = 0; i < DIRTY_ENTITIES; i++ ) {
+			items.get( counter++ % items.size() ).setName( "item " + counter );
+		}
+		session.flush();
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * A narrow entity without associations, used by {@link FlushBenchmark}
+ * both as is and enhanced with dirty tracking.
+ */
+@Entity
+public class FlushItem implements Named {
+	@Id
+	private Long id;
+	private String name;
+
+	protected FlushItem() {
+	}
+
+	@Override
+	public void setName(String name) {
+		this.name = name;
+	}
+}
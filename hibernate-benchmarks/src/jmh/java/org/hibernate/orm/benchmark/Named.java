@@ -0,0 +1,13 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+/**
+ * Lets benchmarks modify an entity whose class may have been loaded,
+ * after enhancement, by an {@link EnhancingClassLoader}.
+ */
+public interface Named {
+	void setName(String name);
+}
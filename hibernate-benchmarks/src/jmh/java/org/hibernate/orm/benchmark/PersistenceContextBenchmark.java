@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lookups of managed entities in the {@code StatefulPersistenceContext}, both directly
+ * by {@link EntityKey} and through {@code Session#find}, which resolves from the
+ * persistence context without hitting the database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceContextBenchmark {
+	@Param({ "1000", "100000" })
+	private int managedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityKey[] keys;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "persistence_context" );
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		persistenceContext = session.getPersistenceContextInternal();
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		keys = new EntityKey[managedEntities];
+		for ( int i = 0; i < managedEntities; i++ ) {
+			keys[i] = session.generateEntityKey( (long) i + 1, persister );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void getEntityByKey(Blackhole blackhole) {
+		for ( EntityKey key : keys ) {
+			blackhole.consume( persistenceContext.getEntity( key ) );
+		}
+	}
+
+	@Benchmark
+	public void getEntryByEntity(Blackhole blackhole) {
+		for ( EntityKey key : keys ) {
+			blackhole.consume( persistenceContext.getEntry( persistenceContext.getEntity( key ) ) );
+		}
+	}
+
+	@Benchmark
+	public void findManaged(Blackhole blackhole) {
+		for ( int i = 1; i <= managedEntities; i++ ) {
+			blackhole.consume( session.find( Book.class, (long) i ) );
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.hibernate.cfg.PersistenceSettings.COMPACT_PERSISTENCE_CONTEXT;
+
+/**
+ * Memory needed per managed entity, with and without
+ * {@value org.hibernate.cfg.PersistenceSettings#COMPACT_PERSISTENCE_CONTEXT}.
+ * <p>
+ * Each invocation loads {@value #ENTITIES} entities into a fresh session; since the score
+ * is normalized per entity, {@code gc.alloc.rate.norm} reports the bytes allocated per
+ * managed entity (including the entity instance and its loaded state).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersistenceContextFootprintBenchmark {
+	private static final int ENTITIES = 100_000;
+
+	@Param({ "false", "true" })
+	private boolean compact;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"persistence_context_footprint",
+				Map.of( COMPACT_PERSISTENCE_CONTEXT, Boolean.toString( compact ) )
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, ENTITIES );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITIES)
+	public int loadIntoSession() {
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			return session.getPersistenceContextInternal().getNumberOfManagedEntities();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Hits in {@code QueryInterpretationCacheStandardImpl}, both for the raw HQL interpretation
+ * lookup and for the complete creation of a query object.  Run with more than one thread
+ * to observe contention on the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryPlanCacheBenchmark {
+	private static final String HQL = "from Book b where b.title = :title and b.price > :price";
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryInterpretationCache interpretationCache;
+	private HqlTranslator hqlTranslator;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "query_plan_cache" );
+		interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+		// warm the cache
+		interpretationCache.resolveHqlInterpretation( HQL, Book.class, hqlTranslator );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@State(Scope.Thread)
+	public static class SessionState {
+		private Session session;
+
+		@Setup(Level.Trial)
+		public void setUp(QueryPlanCacheBenchmark benchmark) {
+			session = benchmark.sessionFactory.openSession();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	@Threads(4)
+	public HqlInterpretation<Book> resolveHqlInterpretation() {
+		return interpretationCache.resolveHqlInterpretation( HQL, Book.class, hqlTranslator );
+	}
+
+	@Benchmark
+	@Threads(4)
+	public SelectionQuery<Book> createSelectionQuery(SessionState state) {
+		return state.session.createSelectionQuery( HQL, Book.class );
+	}
+}
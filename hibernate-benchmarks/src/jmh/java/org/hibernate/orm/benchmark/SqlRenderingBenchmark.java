@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Rendering of an already built SQL AST to a {@link JdbcOperationQuerySelect}
+ * by {@code AbstractSqlAstTranslator}, isolated from SQM interpretation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SqlRenderingBenchmark {
+	private SessionFactoryImplementor sessionFactory;
+	private SqlAstTranslatorFactory translatorFactory;
+	private SelectStatement byIdSelect;
+	private SelectStatement batchSelect;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "sql_rendering" );
+		translatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		byIdSelect = createSelect( persister, 1 );
+		batchSelect = createSelect( persister, 32 );
+	}
+
+	private SelectStatement createSelect(EntityPersister persister, int numberOfKeys) {
+		return LoaderSelectBuilder.createSelect(
+				persister,
+				null,
+				persister.getIdentifierMapping(),
+				null,
+				numberOfKeys,
+				new LoadQueryInfluencers( sessionFactory ),
+				LockOptions.NONE,
+				jdbcParameter -> {},
+				sessionFactory
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect renderSelectById() {
+		return translatorFactory.buildSelectTranslator( sessionFactory, byIdSelect )
+				.translate( null, QueryOptions.NONE );
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect renderSelectByIds() {
+		return translatorFactory.buildSelectTranslator( sessionFactory, batchSelect )
+				.translate( null, QueryOptions.NONE );
+	}
+}
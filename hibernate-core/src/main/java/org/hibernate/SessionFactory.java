@@ -15,6 +15,7 @@ import javax.naming.Referenceable;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.relational.SchemaManager;
 import org.hibernate.stat.Statistics;
@@ -315,6 +316,25 @@ public interface SessionFactory extends EntityManagerFactory, Referenceable, Ser
 	@Override
 	HibernateCriteriaBuilder getCriteriaBuilder();
 
+	/**
+	 * Compile the given HQL {@code select} query, producing a
+	 * {@link CompiledSelectionQuery} which may be executed in any
+	 * session belonging to this factory, by passing it to
+	 * {@link org.hibernate.query.QueryProducer#createSelectionQuery(CompiledSelectionQuery)}.
+	 *
+	 * @param hqlString The HQL {@code select} query as a string
+	 * @param resultType The {@link Class} object representing the
+	 *                   query result type
+	 *
+	 * @throws org.hibernate.query.IllegalSelectQueryException if the
+	 *         given HQL query is an {@code insert}, {@code update} or
+	 *         {@code delete} statement
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	<R> CompiledSelectionQuery<R> compileSelectionQuery(String hqlString, Class<R> resultType);
+
 	/**
 	 * Destroy this {@code SessionFactory} and release all its resources,
 	 * including caches and connection pools.
@@ -98,6 +98,28 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple records, as if by calling {@link #insert(Object)}
+	 * for each of the given instances, but using JDBC batching with a
+	 * batch size large enough to hold every instance, independently of
+	 * the {@linkplain SharedSessionContract#getJdbcBatchSize() configured
+	 * batch size}. Consecutive instances of the same entity type share a
+	 * single {@link java.sql.PreparedStatement}, but the pending batch
+	 * is executed whenever the statement changes, so that interleaving
+	 * instances of different entity types results in several smaller
+	 * batches. The last batch is executed before this method returns.
+	 * <p>
+	 * Batching is not possible for an entity whose identifier is
+	 * generated by the database on insert, and the instances of such
+	 * an entity are inserted one at a time.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
 	/**
 	 * Update a record.
 	 * <p>
@@ -119,6 +141,21 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Update multiple records, as if by calling {@link #update(Object)}
+	 * for each of the given instances, but using JDBC batching with a
+	 * batch size large enough to hold every instance. The last batch
+	 * is executed before this method returns.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
 	/**
 	 * Delete a record.
 	 * <p>
@@ -140,6 +177,21 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Delete multiple records, as if by calling {@link #delete(Object)}
+	 * for each of the given instances, but using JDBC batching with a
+	 * batch size large enough to hold every instance. The last batch
+	 * is executed before this method returns.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
 	/**
 	 * Use a SQL {@code merge into} statement to perform an upsert,
 	 * that is, to insert the record if it does not exist, or update
@@ -16,6 +16,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.cache.internal.ReferenceDataCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -49,6 +50,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
 	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<>();
+	private final Set<String> referenceDataCleanups = new HashSet<>();
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -78,6 +80,10 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				);
 			}
 
+			if ( persister.canUseReferenceDataCache() ) {
+				evictReferenceData( persister.getRootEntityName(), session );
+			}
+
 			final MappingMetamodelImplementor mappingMetamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
 			final Set<String> roles = mappingMetamodel.getCollectionRolesByEntityParticipant( persister.getEntityName() );
 			if ( roles != null ) {
@@ -123,6 +129,9 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				if ( entityDescriptor.hasNaturalIdentifier() && entityDescriptor.hasNaturalIdCache() ) {
 					naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
 				}
+				if ( entityDescriptor.canUseReferenceDataCache() ) {
+					evictReferenceData( entityDescriptor.getRootEntityName(), session );
+				}
 
 				final Set<String> roles = metamodel.getCollectionRolesByEntityParticipant( entityDescriptor.getEntityName() );
 				if ( roles != null ) {
@@ -235,9 +244,27 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				cleanup.release();
 			}
 			collectionCleanups.clear();
+
+			// evict again, since other sessions might have loaded the rows before completion
+			if ( !referenceDataCleanups.isEmpty() ) {
+				final ReferenceDataCache referenceDataCache =
+						session.getFactory().getFastSessionServices().referenceDataCache;
+				for ( String rootEntityName : referenceDataCleanups ) {
+					referenceDataCache.evictAll( rootEntityName );
+				}
+				referenceDataCleanups.clear();
+			}
 		};
 	}
 
+	private void evictReferenceData(String rootEntityName, SharedSessionContractImplementor session) {
+		final ReferenceDataCache referenceDataCache = session.getFactory().getFastSessionServices().referenceDataCache;
+		if ( referenceDataCache != null ) {
+			referenceDataCache.evictAll( rootEntityName );
+			referenceDataCleanups.add( rootEntityName );
+		}
+	}
+
 	@Override
 	public void beforeExecutions() throws HibernateException {
 		// nothing to do
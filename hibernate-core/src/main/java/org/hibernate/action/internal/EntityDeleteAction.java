@@ -6,6 +6,7 @@ package org.hibernate.action.internal;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.internal.ReferenceDataCache;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
@@ -241,9 +242,16 @@ public class EntityDeleteAction extends EntityAction {
 	@Override
 	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) throws HibernateException {
 		unlockCacheItem();
+		// another session might have loaded the row again before the transaction completed
+		evictReferenceData();
 		postCommitDelete( success );
 	}
 
+	@Override
+	protected boolean needsAfterTransactionCompletion() {
+		return super.needsAfterTransactionCompletion() || getPersister().canUseReferenceDataCache();
+	}
+
 	@Override
 	protected boolean hasPostCommitEventListeners() {
 		for ( PostDeleteEventListener listener: getFastSessionServices().eventListenerGroup_POST_COMMIT_DELETE.listeners() ) {
@@ -293,5 +301,20 @@ public class EntityDeleteAction extends EntityAction {
 		if ( persister.canWriteToCache() ) {
 			persister.getCacheAccessStrategy().remove( getSession(), ck );
 		}
+		evictReferenceData();
+	}
+
+	private void evictReferenceData() {
+		final EntityPersister persister = getPersister();
+		if ( persister.canUseReferenceDataCache() ) {
+			final ReferenceDataCache referenceDataCache = getFastSessionServices().referenceDataCache;
+			if ( referenceDataCache != null ) {
+				final SharedSessionContractImplementor session = getSession();
+				referenceDataCache.evict(
+						session.generateEntityKey( getId(), persister ),
+						session.getTenantIdentifierValue()
+				);
+			}
+		}
 	}
 }
@@ -68,6 +68,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 						.getService( BytecodeProvider.class );
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForQueryPlanCacheWarmup() );
 		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForRegistration() );
 	}
@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.Version;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Responsible for writing the HQL queries held in the
+ * {@linkplain QueryInterpretationCache interpretation cache} to the
+ * {@linkplain AvailableSettings#QUERY_PLAN_CACHE_WARMUP_FILE warm-up file}
+ * when the {@link SessionFactory} is closed, and for interpreting the
+ * queries listed in the file when the {@code SessionFactory} is created.
+ * <p>
+ * The file holds the query strings and result type names, along with a
+ * fingerprint of the Hibernate version, the dialect, and the names of the
+ * entities and their attributes. A file with a different fingerprint, or
+ * which can't be read, is ignored. A query which can no longer be
+ * interpreted is skipped.
+ *
+ * @since 7.0
+ */
+class SessionFactoryObserverForQueryPlanCacheWarmup implements SessionFactoryObserver {
+	private static final Logger log = CoreLogging.logger( SessionFactoryObserverForQueryPlanCacheWarmup.class );
+
+	private static final int MAGIC = 0x48514C43;
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path file = resolveWarmupFile( sessionFactory );
+		if ( file == null || !Files.isReadable( file ) ) {
+			return;
+		}
+
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		if ( !queryEngine.getInterpretationCache().isEnabled() ) {
+			return;
+		}
+
+		final List<QueryEntry> entries;
+		try {
+			entries = read( file, fingerprint( sessionFactory ) );
+		}
+		catch (IOException | RuntimeException e) {
+			// a truncated or corrupt file is just not used
+			log.debugf( e, "Unable to read query plan cache warm-up file '%s'", file );
+			return;
+		}
+
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		int count = 0;
+		for ( QueryEntry entry : entries ) {
+			try {
+				final Class<?> resultType = entry.resultTypeName == null
+						? null
+						: classLoaderService.classForName( entry.resultTypeName );
+				queryEngine.interpretHql( entry.queryString, resultType );
+				count++;
+			}
+			catch (RuntimeException e) {
+				log.debugf( e, "Skipping query from query plan cache warm-up file: %s", entry.queryString );
+			}
+		}
+		log.debugf( "Interpreted %s queries from query plan cache warm-up file '%s'", count, file );
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path file = resolveWarmupFile( sessionFactory );
+		// the query engine and metamodel are missing if the factory failed to start
+		if ( file == null
+				|| sessionFactory.getQueryEngine() == null
+				|| sessionFactory.getRuntimeMetamodels() == null ) {
+			return;
+		}
+
+		final List<QueryEntry> entries = new ArrayList<>();
+		sessionFactory.getQueryEngine().getInterpretationCache().forEachHqlInterpretation(
+				(queryString, resultType) -> entries.add(
+						new QueryEntry( queryString, resultType == null ? null : resultType.getName() )
+				)
+		);
+		if ( entries.isEmpty() ) {
+			return;
+		}
+
+		try {
+			write( file, fingerprint( sessionFactory ), entries );
+			log.debugf( "Wrote %s queries to query plan cache warm-up file '%s'", entries.size(), file );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to write query plan cache warm-up file '%s'", file );
+		}
+	}
+
+	private static Path resolveWarmupFile(SessionFactoryImplementor sessionFactory) {
+		final Map<String, Object> settings =
+				sessionFactory.getServiceRegistry().requireService( ConfigurationService.class ).getSettings();
+		final String fileName = ConfigurationHelper.getString( AvailableSettings.QUERY_PLAN_CACHE_WARMUP_FILE, settings );
+		return fileName == null || fileName.isBlank() ? null : Paths.get( fileName );
+	}
+
+	/**
+	 * A hash of everything a serialized query string depends on, besides
+	 * the query string itself.
+	 */
+	private static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		final Map<String, String> attributesByEntity = new TreeMap<>();
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor(
+				persister -> {
+					final String[] propertyNames = persister.getPropertyNames().clone();
+					Arrays.sort( propertyNames );
+					attributesByEntity.put(
+							persister.getEntityName(),
+							persister.getIdentifierPropertyName() + Arrays.toString( propertyNames )
+					);
+				}
+		);
+
+		final StringBuilder description = new StringBuilder()
+				.append( Version.getVersionString() )
+				.append( ';' )
+				.append( sessionFactory.getJdbcServices().getDialect().getClass().getName() );
+		attributesByEntity.forEach(
+				(entityName, attributes) -> description.append( ';' ).append( entityName ).append( attributes )
+		);
+
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			return HexFormat.of().formatHex( digest.digest( description.toString().getBytes( StandardCharsets.UTF_8 ) ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static List<QueryEntry> read(Path file, String fingerprint) throws IOException {
+		// no count in the file can exceed its size
+		final long fileSize = Files.size( file );
+		try ( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( in.readInt() != MAGIC ) {
+				log.debugf( "Ignoring query plan cache warm-up file '%s' with unknown format", file );
+				return List.of();
+			}
+			if ( !fingerprint.equals( in.readUTF() ) ) {
+				log.debugf( "Ignoring query plan cache warm-up file '%s' written for a different domain model", file );
+				return List.of();
+			}
+			final int count = readCount( in, fileSize );
+			final List<QueryEntry> entries = new ArrayList<>( count );
+			for ( int i = 0; i < count; i++ ) {
+				final String resultTypeName = in.readBoolean() ? in.readUTF() : null;
+				final byte[] queryString = new byte[readCount( in, fileSize )];
+				in.readFully( queryString );
+				entries.add( new QueryEntry( new String( queryString, StandardCharsets.UTF_8 ), resultTypeName ) );
+			}
+			return entries;
+		}
+	}
+
+	private static int readCount(DataInputStream in, long fileSize) throws IOException {
+		final int count = in.readInt();
+		if ( count < 0 || count > fileSize ) {
+			throw new IOException( "Invalid count " + count + " in query plan cache warm-up file" );
+		}
+		return count;
+	}
+
+	private static void write(Path file, String fingerprint, List<QueryEntry> entries) throws IOException {
+		final Path absoluteFile = file.toAbsolutePath();
+		final Path directory = absoluteFile.getParent();
+		if ( directory != null ) {
+			Files.createDirectories( directory );
+		}
+		// write a temporary file, and then move it, so that
+		// a concurrent reader never sees a partial file
+		final Path temporaryFile = Files.createTempFile( directory, absoluteFile.getFileName().toString(), ".tmp" );
+		try {
+			try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				out.writeInt( MAGIC );
+				out.writeUTF( fingerprint );
+				out.writeInt( entries.size() );
+				for ( QueryEntry entry : entries ) {
+					out.writeBoolean( entry.resultTypeName != null );
+					if ( entry.resultTypeName != null ) {
+						out.writeUTF( entry.resultTypeName );
+					}
+					// a query string may be longer than writeUTF() allows
+					final byte[] queryString = entry.queryString.getBytes( StandardCharsets.UTF_8 );
+					out.writeInt( queryString.length );
+					out.write( queryString );
+				}
+			}
+			Files.move( temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		finally {
+			Files.deleteIfExists( temporaryFile );
+		}
+	}
+
+	private record QueryEntry(String queryString, String resultTypeName) {
+	}
+}
@@ -77,6 +77,7 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTI
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_DELETES_WITH_ARRAY_PARAMETER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
@@ -108,12 +109,14 @@ import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.REFERENCE_DATA_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_QUERY_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -125,10 +128,14 @@ import static org.hibernate.cfg.AvailableSettings.USE_SQL_COMMENTS;
 import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.JdbcSettings.RESULT_SET_PREFETCH_SIZE;
+import static org.hibernate.cfg.PersistenceSettings.COMPACT_PERSISTENCE_CONTEXT;
+import static org.hibernate.cfg.PersistenceSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
+import static org.hibernate.cfg.QuerySettings.STREAM_DETACH_RESULTS;
 import static org.hibernate.cfg.QuerySettings.XML_FUNCTIONS_ENABLED;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -207,6 +214,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean orderInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean UnownedAssociationTransientCheck;
+	private final boolean compactPersistenceContextEnabled;
+	private final boolean lazyPersisterInitializationEnabled;
+	private final int jdbcResultSetPrefetchSize;
+	private final boolean streamDetachResultsEnabled;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
 
@@ -243,7 +254,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
+	private boolean compactQueryCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private int referenceDataCacheSize;
 
 	// Schema tooling
 	private SchemaAutoTooling schemaAutoTooling;
@@ -252,6 +265,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private boolean jdbcBatchDeletesWithArrayParameter;
 	private Integer jdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
@@ -484,6 +498,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					false
 			);
 			this.autoEvictCollectionCache = configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
+			this.compactQueryCacheEntriesEnabled = configurationService.getSetting(
+					USE_COMPACT_QUERY_CACHE_ENTRIES,
+					BOOLEAN,
+					false
+			);
 		}
 		else {
 			this.secondLevelCacheEnabled = false;
@@ -495,7 +514,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.structuredCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
+			this.compactQueryCacheEntriesEnabled = false;
 		}
+		this.referenceDataCacheSize = getInt( REFERENCE_DATA_CACHE_SIZE, configurationSettings, 0 );
 
 		try {
 			this.schemaAutoTooling = SchemaAutoTooling.interpret( (String) configurationSettings.get( AvailableSettings.HBM2DDL_AUTO ) );
@@ -523,6 +544,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.jdbcBatchDeletesWithArrayParameter =
+				getBoolean( BATCH_DELETES_WITH_ARRAY_PARAMETER, configurationSettings, false );
 		this.scrollableResultSetsEnabled = getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -634,6 +657,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				isJpaBootstrap()
 		);
 
+		this.compactPersistenceContextEnabled = getBoolean(
+				COMPACT_PERSISTENCE_CONTEXT,
+				configurationSettings,
+				false
+		);
+
+		this.lazyPersisterInitializationEnabled = getBoolean(
+				LAZY_PERSISTER_INITIALIZATION,
+				configurationSettings,
+				false
+		);
+
+		this.jdbcResultSetPrefetchSize = getInt( RESULT_SET_PREFETCH_SIZE, configurationSettings, 0 );
+		this.streamDetachResultsEnabled = getBoolean( STREAM_DETACH_RESULTS, configurationSettings );
+
 		this.passProcedureParameterNames = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PASS_PROCEDURE_PARAMETER_NAMES,
 				configurationSettings,
@@ -1106,6 +1144,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return directReferenceCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactQueryCacheEntriesEnabled() {
+		return compactQueryCacheEntriesEnabled;
+	}
+
+	@Override
+	public int getReferenceDataCacheSize() {
+		return referenceDataCacheSize;
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
@@ -1126,6 +1174,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchDeletesWithArrayParameter() {
+		return jdbcBatchDeletesWithArrayParameter;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1271,6 +1324,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return UnownedAssociationTransientCheck;
 	}
 
+	@Override
+	public boolean isCompactPersistenceContextEnabled() {
+		return compactPersistenceContextEnabled;
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return lazyPersisterInitializationEnabled;
+	}
+
+	@Override
+	public int getJdbcResultSetPrefetchSize() {
+		return jdbcResultSetPrefetchSize;
+	}
+
+	@Override
+	public boolean isStreamDetachResultsEnabled() {
+		return streamDetachResultsEnabled;
+	}
+
 	@Override
 	public int getPreferredSqlTypeCodeForBoolean() {
 		return preferredSqlTypeCodeForBoolean;
@@ -0,0 +1,356 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.model.process.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarFile;
+
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.logging.Logger;
+
+/**
+ * Reads and writes the {@linkplain org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT_FILE
+ * snapshot} of a {@link ScanResult}.
+ * <p>
+ * The file holds the names of the located classes, packages and mapping files,
+ * along with a fingerprint of the Hibernate version, the scan options, and the
+ * scanned archives, and the URL of the archive each resource was found in. A
+ * snapshot is only used if its fingerprint matches, and if every class, package
+ * and mapping file it lists can still be found within its archive.
+ * <p>
+ * The fingerprint of a JAR file is its size and modification time. Walking an
+ * exploded archive would cost as much as scanning it, so the fingerprint of a
+ * directory is only its own modification time, and that of its manifest, if any.
+ *
+ * @since 7.0
+ */
+final class ScanResultSnapshot {
+	private static final Logger log = Logger.getLogger( ScanResultSnapshot.class );
+
+	private static final int MAGIC = 0x48534353;
+
+	private ScanResultSnapshot() {
+	}
+
+	/**
+	 * A hash of everything the result of a scan depends on.
+	 *
+	 * @param detectionSetting the value of {@value org.hibernate.cfg.AvailableSettings#SCANNER_DISCOVERY},
+	 *                         which also determines whether {@code hbm.xml} files are detected
+	 */
+	static String fingerprint(
+			ScanEnvironment scanEnvironment,
+			ScanOptions scanOptions,
+			@Nullable String detectionSetting) {
+		final StringBuilder description = new StringBuilder()
+				.append( Version.getVersionString() )
+				.append( ';' )
+				.append( scanOptions.canDetectUnlistedClassesInRoot() )
+				.append( scanOptions.canDetectUnlistedClassesInNonRoot() )
+				.append( ';' )
+				.append( detectionSetting );
+		appendArchive( description, scanEnvironment.getRootUrl() );
+		if ( scanEnvironment.getNonRootUrls() != null ) {
+			for ( URL url : scanEnvironment.getNonRootUrls() ) {
+				appendArchive( description, url );
+			}
+		}
+		description.append( ';' ).append( scanEnvironment.getExplicitlyListedClassNames() );
+		description.append( ';' ).append( scanEnvironment.getExplicitlyListedMappingFiles() );
+
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			return HexFormat.of().formatHex( digest.digest( description.toString().getBytes( StandardCharsets.UTF_8 ) ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static void appendArchive(StringBuilder description, URL url) {
+		if ( url == null ) {
+			return;
+		}
+		description.append( ';' ).append( url.toExternalForm() );
+		final Path path = toPath( url );
+		if ( path == null ) {
+			return;
+		}
+		try {
+			if ( Files.isDirectory( path ) ) {
+				description.append( '@' ).append( Files.getLastModifiedTime( path ).toMillis() );
+				final Path manifest = path.resolve( JarFile.MANIFEST_NAME );
+				if ( Files.isRegularFile( manifest ) ) {
+					final BasicFileAttributes attributes = Files.readAttributes( manifest, BasicFileAttributes.class );
+					description.append( '@' ).append( attributes.lastModifiedTime().toMillis() )
+							.append( ':' ).append( attributes.size() );
+				}
+			}
+			else {
+				final BasicFileAttributes attributes = Files.readAttributes( path, BasicFileAttributes.class );
+				description.append( '@' ).append( attributes.lastModifiedTime().toMillis() )
+						.append( ':' ).append( attributes.size() );
+			}
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to read attributes of archive '%s'", url );
+		}
+	}
+
+	private static Path toPath(URL url) {
+		if ( !"file".equals( url.getProtocol() ) ) {
+			return null;
+		}
+		try {
+			return Path.of( url.toURI() );
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Read the snapshot held in the given file.
+	 *
+	 * @return the snapshot, or {@code null} if the file is missing, was written
+	 *         for a different fingerprint, or lists a resource which is no longer
+	 *         in the archive it was found in
+	 */
+	static ScanResult read(Path file, String fingerprint, ScanEnvironment scanEnvironment) {
+		if ( !Files.isReadable( file ) ) {
+			return null;
+		}
+		try ( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) );
+				Archives archives = new Archives( scanEnvironment ) ) {
+			if ( in.readInt() != MAGIC ) {
+				log.debugf( "Ignoring scan snapshot file '%s' with unknown format", file );
+				return null;
+			}
+			if ( !fingerprint.equals( in.readUTF() ) ) {
+				log.debugf( "Ignoring scan snapshot file '%s' written for different archives", file );
+				return null;
+			}
+
+			final int packageCount = in.readInt();
+			final Set<PackageDescriptor> packages = new HashSet<>( packageCount );
+			for ( int i = 0; i < packageCount; i++ ) {
+				final String name = in.readUTF();
+				final URL url = archives.locate( in.readUTF(), packageInfoFileName( name ) );
+				if ( url == null ) {
+					log.debugf( "Ignoring scan snapshot file '%s' listing missing package '%s'", file, name );
+					return null;
+				}
+				packages.add( new PackageDescriptorImpl( name, new UrlInputStreamAccess( url ) ) );
+			}
+
+			final int classCount = in.readInt();
+			final Set<ClassDescriptor> classes = new HashSet<>( classCount );
+			for ( int i = 0; i < classCount; i++ ) {
+				final String name = in.readUTF();
+				final ClassDescriptor.Categorization categorization =
+						ClassDescriptor.Categorization.values()[in.readByte()];
+				final URL url = archives.locate( in.readUTF(), classFileName( name ) );
+				if ( url == null ) {
+					log.debugf( "Ignoring scan snapshot file '%s' listing missing class '%s'", file, name );
+					return null;
+				}
+				classes.add( new ClassDescriptorImpl( name, categorization, new UrlInputStreamAccess( url ) ) );
+			}
+
+			final int mappingFileCount = in.readInt();
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>( mappingFileCount );
+			for ( int i = 0; i < mappingFileCount; i++ ) {
+				final String name = in.readUTF();
+				final URL url = archives.locate( in.readUTF(), name );
+				if ( url == null ) {
+					log.debugf( "Ignoring scan snapshot file '%s' listing missing mapping file '%s'", file, name );
+					return null;
+				}
+				mappingFiles.add( new MappingFileDescriptorImpl( name, new UrlInputStreamAccess( url ) ) );
+			}
+
+			log.debugf( "Using scan snapshot file '%s'", file );
+			return new ScanResultImpl( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan snapshot file '%s'", file );
+			return null;
+		}
+	}
+
+	/**
+	 * Write the given result of a scan to the given file. Nothing is written
+	 * if one of the located resources can't be found in a local directory or
+	 * JAR file among the scanned archives.
+	 */
+	static void write(Path file, String fingerprint, ScanEnvironment scanEnvironment, ScanResult scanResult) {
+		try {
+			final Path absoluteFile = file.toAbsolutePath();
+			final Path directory = absoluteFile.getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			// write a temporary file, and then move it, so that
+			// a concurrent reader never sees a partial file
+			final Path temporaryFile = Files.createTempFile( directory, absoluteFile.getFileName().toString(), ".tmp" );
+			try {
+				try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) );
+						Archives archives = new Archives( scanEnvironment ) ) {
+					out.writeInt( MAGIC );
+					out.writeUTF( fingerprint );
+					out.writeInt( scanResult.getLocatedPackages().size() );
+					for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+						out.writeUTF( packageDescriptor.getName() );
+						out.writeUTF( archives.origin( packageInfoFileName( packageDescriptor.getName() ) ) );
+					}
+					out.writeInt( scanResult.getLocatedClasses().size() );
+					for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+						out.writeUTF( classDescriptor.getName() );
+						out.writeByte( classDescriptor.getCategorization().ordinal() );
+						out.writeUTF( archives.origin( classFileName( classDescriptor.getName() ) ) );
+					}
+					out.writeInt( scanResult.getLocatedMappingFiles().size() );
+					for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+						out.writeUTF( mappingFileDescriptor.getName() );
+						out.writeUTF( archives.origin( mappingFileDescriptor.getName() ) );
+					}
+				}
+				Files.move( temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+			log.debugf( "Wrote scan snapshot file '%s'", file );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to write scan snapshot file '%s'", file );
+		}
+	}
+
+	private static String classFileName(String className) {
+		return className.replace( '.', '/' ) + ".class";
+	}
+
+	private static String packageInfoFileName(String packageName) {
+		return packageName.replace( '.', '/' ) + "/package-info.class";
+	}
+
+	/**
+	 * The scanned archives, within which the resources listed in a snapshot
+	 * are located. A snapshot records, for each resource, the URL of the
+	 * archive it was found in, and a resource is only restored from that
+	 * archive, rather than from wherever the class loader finds a resource
+	 * of the same name. Only local directories and JAR files are supported.
+	 */
+	private static final class Archives implements AutoCloseable {
+		private final List<URL> urls = new ArrayList<>();
+		private final Map<String, JarFile> jarFiles = new HashMap<>();
+
+		private Archives(ScanEnvironment scanEnvironment) {
+			if ( scanEnvironment.getRootUrl() != null ) {
+				urls.add( scanEnvironment.getRootUrl() );
+			}
+			if ( scanEnvironment.getNonRootUrls() != null ) {
+				urls.addAll( scanEnvironment.getNonRootUrls() );
+			}
+		}
+
+		/**
+		 * The URL of the archive holding the named resource.
+		 *
+		 * @throws IOException if no scanned archive holds it
+		 */
+		String origin(String relativeName) throws IOException {
+			for ( URL archiveUrl : urls ) {
+				final String origin = archiveUrl.toExternalForm();
+				if ( locate( origin, relativeName ) != null ) {
+					return origin;
+				}
+			}
+			throw new IOException( "Unable to locate '" + relativeName + "' within a scanned archive" );
+		}
+
+		/**
+		 * The URL of the named resource within the given archive, or
+		 * {@code null} if it is not one of the scanned archives, or
+		 * does not hold the resource.
+		 */
+		@Nullable URL locate(String origin, String relativeName) throws IOException {
+			for ( URL archiveUrl : urls ) {
+				if ( archiveUrl.toExternalForm().equals( origin ) ) {
+					return locate( archiveUrl, relativeName );
+				}
+			}
+			return null;
+		}
+
+		private @Nullable URL locate(URL archiveUrl, String relativeName) throws IOException {
+			final Path path = toPath( archiveUrl );
+			if ( path == null ) {
+				return null;
+			}
+			else if ( Files.isDirectory( path ) ) {
+				final Path resource = path.resolve( relativeName );
+				return Files.isRegularFile( resource ) ? resource.toUri().toURL() : null;
+			}
+			else if ( Files.isRegularFile( path ) ) {
+				final String origin = archiveUrl.toExternalForm();
+				JarFile jarFile = jarFiles.get( origin );
+				if ( jarFile == null ) {
+					jarFile = new JarFile( path.toFile() );
+					jarFiles.put( origin, jarFile );
+				}
+				return jarFile.getEntry( relativeName ) == null
+						? null
+						: URI.create( "jar:" + path.toUri() + "!/" + relativeName ).toURL();
+			}
+			else {
+				return null;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			for ( JarFile jarFile : jarFiles.values() ) {
+				jarFile.close();
+			}
+		}
+	}
+}
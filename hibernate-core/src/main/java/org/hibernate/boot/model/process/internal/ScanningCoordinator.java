@@ -6,6 +6,7 @@ package org.hibernate.boot.model.process.internal;
 
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -32,6 +33,9 @@ import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 import org.jboss.logging.Logger;
 
@@ -60,23 +64,61 @@ public class ScanningCoordinator {
 			return;
 		}
 
-		final ClassLoaderAccess classLoaderAccess = new ClassLoaderAccessImpl(
-				bootstrapContext.getJpaTempClassLoader(),
-				bootstrapContext.getServiceRegistry().requireService( ClassLoaderService.class )
-		);
+		final ClassLoaderService classLoaderService =
+				bootstrapContext.getServiceRegistry().requireService( ClassLoaderService.class );
 
-		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
-		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
-		final ScanResult scanResult = scanner.scan(
-				bootstrapContext.getScanEnvironment(),
-				bootstrapContext.getScanOptions(),
-				StandardScanParameters.INSTANCE
-		);
+		final Path snapshotFile = resolveSnapshotFile( bootstrapContext );
+		final String fingerprint = snapshotFile == null
+				? null
+				: ScanResultSnapshot.fingerprint(
+						bootstrapContext.getScanEnvironment(),
+						bootstrapContext.getScanOptions(),
+						resolveDetectionSetting( bootstrapContext )
+				);
+		ScanResult scanResult = snapshotFile == null
+				? null
+				: ScanResultSnapshot.read( snapshotFile, fingerprint, bootstrapContext.getScanEnvironment() );
+
+		if ( scanResult == null ) {
+			final ClassLoaderAccess classLoaderAccess =
+					new ClassLoaderAccessImpl( bootstrapContext.getJpaTempClassLoader(), classLoaderService );
+
+			// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
+			// to the index as we discovered them via scanning and .  Currently
+			final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+			scanResult = scanner.scan(
+					bootstrapContext.getScanEnvironment(),
+					bootstrapContext.getScanOptions(),
+					StandardScanParameters.INSTANCE
+			);
+			if ( snapshotFile != null ) {
+				ScanResultSnapshot.write( snapshotFile, fingerprint, bootstrapContext.getScanEnvironment(), scanResult );
+			}
+		}
 
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
 	}
 
+	private static Path resolveSnapshotFile(BootstrapContext bootstrapContext) {
+		final ConfigurationService configurationService =
+				bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+		if ( configurationService == null ) {
+			return null;
+		}
+		final String fileName =
+				ConfigurationHelper.getString( AvailableSettings.SCANNER_SNAPSHOT_FILE, configurationService.getSettings() );
+		return fileName == null || fileName.isBlank() ? null : Path.of( fileName );
+	}
+
+	private static String resolveDetectionSetting(BootstrapContext bootstrapContext) {
+		// the scan options do not expose whether hbm.xml files are detected, so use the setting they derive it from
+		final ConfigurationService configurationService =
+				bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+		return configurationService == null
+				? null
+				: ConfigurationHelper.getString( AvailableSettings.SCANNER_DISCOVERY, configurationService.getSettings() );
+	}
+
 	private static final Class<?>[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
 
 	@SuppressWarnings("unchecked")
@@ -284,6 +284,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactQueryCacheEntriesEnabled() {
+		return delegate.isCompactQueryCacheEntriesEnabled();
+	}
+
+	@Override
+	public int getReferenceDataCacheSize() {
+		return delegate.getReferenceDataCacheSize();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
@@ -463,6 +473,31 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isUnownedAssociationTransientCheck();
 	}
 
+	@Override
+	public boolean isJdbcBatchDeletesWithArrayParameter() {
+		return delegate.isJdbcBatchDeletesWithArrayParameter();
+	}
+
+	@Override
+	public boolean isCompactPersistenceContextEnabled() {
+		return delegate.isCompactPersistenceContextEnabled();
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return delegate.isLazyPersisterInitializationEnabled();
+	}
+
+	@Override
+	public int getJdbcResultSetPrefetchSize() {
+		return delegate.getJdbcResultSetPrefetchSize();
+	}
+
+	@Override
+	public boolean isStreamDetachResultsEnabled() {
+		return delegate.isStreamDetachResultsEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
@@ -178,6 +178,30 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * Should query results be cached in a compact binary encoding?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_QUERY_CACHE_ENTRIES
+	 */
+	@Incubating
+	default boolean isCompactQueryCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum size of the reference data cache, or {@code 0} if it is disabled.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#REFERENCE_DATA_CACHE_SIZE
+	 */
+	@Incubating
+	default int getReferenceDataCacheSize() {
+		return 0;
+	}
+
 	boolean isAutoEvictCollectionCache();
 
 	SchemaAutoTooling getSchemaAutoTooling();
@@ -186,6 +210,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * Should batched deletions be executed using a single array parameter?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_DELETES_WITH_ARRAY_PARAMETER
+	 */
+	@Incubating
+	default boolean isJdbcBatchDeletesWithArrayParameter() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
@@ -341,6 +377,58 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isUnownedAssociationTransientCheck();
 
+	/**
+	 * Should the persistence context use compact, open-addressing maps?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#COMPACT_PERSISTENCE_CONTEXT
+	 */
+	@Incubating
+	default boolean isCompactPersistenceContextEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should entity persisters build their mutation coordinators and
+	 * loaders on first use?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#LAZY_PERSISTER_INITIALIZATION
+	 */
+	@Incubating
+	default boolean isLazyPersisterInitializationEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of rows of a scalar query result to read ahead from
+	 * the JDBC {@link java.sql.ResultSet}, or {@code 0} if rows are
+	 * read one at a time.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#RESULT_SET_PREFETCH_SIZE
+	 */
+	@Incubating
+	default int getJdbcResultSetPrefetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Should entities returned by the stream of a selection query be
+	 * detached once the stream moves on to the next result?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#STREAM_DETACH_RESULTS
+	 */
+	@Incubating
+	default boolean isStreamDetachResultsEnabled() {
+		return false;
+	}
+
 	@Incubating
 	int getPreferredSqlTypeCodeForBoolean();
 
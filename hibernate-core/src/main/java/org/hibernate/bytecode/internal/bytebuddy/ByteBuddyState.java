@@ -30,6 +30,7 @@ import net.bytebuddy.dynamic.DynamicType.Unloaded;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -135,6 +136,34 @@ public final class ByteBuddyState {
 		.getLoaded();
 	}
 
+	/**
+	 * Load a class generated by ByteBuddy as a hidden class which is a nestmate
+	 * of the given class, and may therefore access its private members.
+	 *
+	 * @param hostClass The class of which the generated class is a nestmate.
+	 * @param makeClassFunction A function building the class, in the package of the host class.
+	 * @return The loaded generated class.
+	 * @throws IllegalAccessException if the Java module system prevents Hibernate ORM
+	 * from defining a class in the package of the host class
+	 */
+	public Class<?> loadHiddenNestmate(Class<?> hostClass, Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction)
+			throws IllegalAccessException {
+		final Unloaded<?> result = make( makeClassFunction.apply( byteBuddy ) );
+		if ( !result.getAuxiliaryTypes().isEmpty() ) {
+			throw new IllegalArgumentException( "A hidden class may not have auxiliary types: "
+					+ result.getTypeDescription().getName() );
+		}
+		final Class<?> loaded = MethodHandles.privateLookupIn( hostClass, LOOKUP )
+				.defineHiddenClass( result.getBytes(), true, MethodHandles.Lookup.ClassOption.NESTMATE )
+				.lookupClass();
+		// initialize the static fields, as a ClassLoadingStrategy would
+		final LoadedTypeInitializer initializer = result.getLoadedTypeInitializers().get( result.getTypeDescription() );
+		if ( initializer != null && initializer.isAlive() ) {
+			initializer.onLoad( loaded );
+		}
+		return loaded;
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
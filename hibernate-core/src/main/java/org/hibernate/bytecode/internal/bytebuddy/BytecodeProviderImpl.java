@@ -17,6 +17,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerClassLocator;
@@ -47,6 +48,7 @@ import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.NamedElement;
@@ -227,8 +229,9 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 		final Member[] getters = new Member[propertyAccessMap.size()];
 		final Member[] setters = new Member[propertyAccessMap.size()];
+		final boolean needsPrivateAccess;
 		try {
-			findAccessors( clazz, propertyAccessMap, getters, setters );
+			needsPrivateAccess = findAccessors( clazz, propertyAccessMap, getters, setters );
 		}
 		catch (InvalidPropertyAccessorException ex) {
 			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
@@ -238,7 +241,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		Class<?> superClass = determineAccessOptimizerSuperClass( clazz, getters, setters );
 
 		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
-		final Class<?> bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+		final Function<ByteBuddy, DynamicType.Builder<?>> makeBulkAccessor = byteBuddy -> byteBuddy
 				.with( new NamingStrategy.SuffixingRandom(
 						OPTIMIZER_PROXY_NAMING_SUFFIX,
 						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
@@ -250,8 +253,21 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				.method( setPropertyValuesMethodName )
 				.intercept( new Implementation.Simple( new SetPropertyValues( clazz, propertyNames, setters ) ) )
 				.method( getPropertyNamesMethodName )
-				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
-		);
+				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) );
+		final Class<?> bulkAccessor;
+		if ( needsPrivateAccess ) {
+			// only a nestmate of the class may access its private fields and methods
+			try {
+				bulkAccessor = byteBuddyState.loadHiddenNestmate( clazz, makeBulkAccessor );
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
+				return null;
+			}
+		}
+		else {
+			bulkAccessor = byteBuddyState.load( clazz, makeBulkAccessor );
+		}
 
 		try {
 			return new ReflectionOptimizerImpl(
@@ -1177,11 +1193,15 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
-	private static void findAccessors(
+	/**
+	 * @return {@code true} if any of the accessors is a private member of the given class
+	 */
+	private static boolean findAccessors(
 			Class<?> clazz,
 			Map<String, PropertyAccess> propertyAccessMap,
 			Member[] getters,
 			Member[] setters) {
+		boolean needsPrivateAccess = false;
 		int i = 0;
 		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
 			final PropertyAccess propertyAccess = entry.getValue();
@@ -1240,16 +1260,24 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 						)
 				);
 			}
-			if ( Modifier.isPrivate( getterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + getterMember.getName() + "]" );
-			}
-			if ( Modifier.isPrivate( setterMember.getModifiers() ) ) {
-				throw new PrivateAccessorException( "private accessor [" + setterMember.getName() + "]" );
-			}
+			needsPrivateAccess |= checkPrivateAccess( clazz, getterMember );
+			needsPrivateAccess |= checkPrivateAccess( clazz, setterMember );
 			getters[i] = getterMember;
 			setters[i] = setterMember;
 			i++;
 		}
+		return needsPrivateAccess;
+	}
+
+	private static boolean checkPrivateAccess(Class<?> clazz, Member member) {
+		if ( !Modifier.isPrivate( member.getModifiers() ) ) {
+			return false;
+		}
+		// a nestmate of the class may access its private members, but not those of its superclasses
+		if ( member.getDeclaringClass() != clazz ) {
+			throw new PrivateAccessorException( "private accessor [" + member.getName() + "]" );
+		}
+		return true;
 	}
 
 	private static Method findAccessor(Class<?> containerClazz, String name, Class<?>[] params)
@@ -16,8 +16,13 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A {@link CacheImplementor} service used when the second-level cache is disabled.
@@ -60,29 +65,52 @@ public class DisabledCaching implements CacheImplementor {
 
 	@Override
 	public void evictEntityData(Class<?> entityClass, Object identifier) {
-		// nothing to do
-
+		evictEntityData( entityClass.getName(), identifier );
 	}
 
 	@Override
 	public void evictEntityData(String entityName, Object identifier) {
-		// nothing to do
-
+		final EntityPersister entityDescriptor = getEntityDescriptor( entityName );
+		if ( entityDescriptor.canUseReferenceDataCache() ) {
+			final ReferenceDataCache referenceDataCache = referenceDataCache();
+			if ( referenceDataCache != null ) {
+				referenceDataCache.evict( new EntityKey( identifier, entityDescriptor ) );
+			}
+		}
 	}
 
 	@Override
 	public void evictEntityData(Class<?> entityClass) {
-		// nothing to do
+		evictEntityData( entityClass.getName() );
 	}
 
 	@Override
 	public void evictEntityData(String entityName) {
-		// nothing to do
+		final EntityPersister entityDescriptor = getEntityDescriptor( entityName );
+		if ( entityDescriptor.canUseReferenceDataCache() ) {
+			final ReferenceDataCache referenceDataCache = referenceDataCache();
+			if ( referenceDataCache != null ) {
+				referenceDataCache.evictAll( entityDescriptor.getRootEntityName() );
+			}
+		}
 	}
 
 	@Override
 	public void evictEntityData() {
-		// nothing to do
+		final ReferenceDataCache referenceDataCache = referenceDataCache();
+		if ( referenceDataCache != null ) {
+			referenceDataCache.clear();
+		}
+	}
+
+	private EntityPersister getEntityDescriptor(String entityName) {
+		return sessionFactory.getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( entityName );
+	}
+
+	// the reference data cache does not depend on the second-level cache
+	private @Nullable ReferenceDataCache referenceDataCache() {
+		final FastSessionServices fastSessionServices = sessionFactory.getFastSessionServices();
+		return fastSessionServices == null ? null : fastSessionServices.referenceDataCache;
 	}
 
 	@Override
@@ -201,12 +229,14 @@ public class DisabledCaching implements CacheImplementor {
 
 	@Override
 	public void evict(Class cls, Object primaryKey) {
-
+		// JPA call
+		evictEntityData( cls, primaryKey );
 	}
 
 	@Override
 	public void evict(Class cls) {
-
+		// JPA
+		evictEntityData( cls );
 	}
 
 	@Override
@@ -32,9 +32,11 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
@@ -42,6 +44,8 @@ import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@link CacheImplementor} service used when the second-level cache is enabled.
  *
@@ -260,6 +264,12 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 				.getRuntimeMetamodels()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
+		if ( entityDescriptor.canUseReferenceDataCache() ) {
+			final ReferenceDataCache referenceDataCache = referenceDataCache();
+			if ( referenceDataCache != null ) {
+				referenceDataCache.evict( new EntityKey( identifier, entityDescriptor ) );
+			}
+		}
 		final EntityDataAccess cacheAccess = entityDescriptor.getCacheAccessStrategy();
 		if ( cacheAccess == null ) {
 			return;
@@ -287,6 +297,12 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 				.getRuntimeMetamodels()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
+		if ( entityDescriptor.canUseReferenceDataCache() ) {
+			final ReferenceDataCache referenceDataCache = referenceDataCache();
+			if ( referenceDataCache != null ) {
+				referenceDataCache.evictAll( entityDescriptor.getRootEntityName() );
+			}
+		}
 		evictEntityData( entityDescriptor );
 	}
 
@@ -321,6 +337,15 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 				.getRuntimeMetamodels()
 				.getMappingMetamodel();
 		mappingMetamodel.forEachEntityDescriptor( this::evictEntityData );
+		final ReferenceDataCache referenceDataCache = referenceDataCache();
+		if ( referenceDataCache != null ) {
+			referenceDataCache.clear();
+		}
+	}
+
+	private @Nullable ReferenceDataCache referenceDataCache() {
+		final FastSessionServices fastSessionServices = sessionFactory.getFastSessionServices();
+		return fastSessionServices == null ? null : fastSessionServices.referenceDataCache;
 	}
 
 
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+
+/**
+ * A {@link TimestampsCacheFactory} which builds a {@link TimestampsCacheInMemoryImpl},
+ * keeping update timestamps local to the JVM. It may be selected by specifying its
+ * name as the value of {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY}.
+ *
+ * @since 7.0
+ */
+@Incubating
+public class InMemoryTimestampsCacheFactory implements TimestampsCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final InMemoryTimestampsCacheFactory INSTANCE = new InMemoryTimestampsCacheFactory();
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		return new TimestampsCacheInMemoryImpl( timestampsRegion, cacheManager.getRegionFactory() );
+	}
+}
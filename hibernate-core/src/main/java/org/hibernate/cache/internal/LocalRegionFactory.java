@@ -0,0 +1,333 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import static org.hibernate.cfg.CacheSettings.LOCAL_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.LOCAL_CACHE_TIME_TO_LIVE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.stat.CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+
+/**
+ * A {@link RegionFactory} which keeps cached data on the heap of the JVM, with
+ * no dependency on a third-party caching provider. Cached data is never copied
+ * or serialized, nor is it shared between JVMs, so this is only appropriate when
+ * the database is not updated by other processes, or when stale data is tolerable
+ * within the {@linkplain org.hibernate.cfg.CacheSettings#LOCAL_CACHE_TIME_TO_LIVE
+ * time to live} of an entry.
+ * <p>
+ * Each region is a {@link TinyLfuCache}, whose number of entries is bounded by
+ * {@value org.hibernate.cfg.CacheSettings#LOCAL_CACHE_MAX_ENTRIES}. Lookups never
+ * block, and the entries which are evicted are those least likely to be used again,
+ * as estimated from their recent frequency of use.
+ * <p>
+ * This factory is selected by specifying its name as the value of
+ * {@value org.hibernate.cfg.CacheSettings#CACHE_REGION_FACTORY}.
+ *
+ * @see org.hibernate.cfg.CacheSettings#LOCAL_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.CacheSettings#LOCAL_CACHE_TIME_TO_LIVE
+ *
+ * @since 7.0
+ */
+@Incubating
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private Map<String, Object> configValues;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new LocalDomainDataRegion(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createBoundedStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new LocalQueryResultsRegion(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected LocalStorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createBoundedStorageAccess( regionName );
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new LocalTimestampsRegion(
+				regionName,
+				this,
+				createTimestampsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected LocalStorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		// evicting an update timestamp would make stale query results look current
+		return new UnboundedStorageAccess();
+	}
+
+	private LocalStorageAccess createBoundedStorageAccess(String regionName) {
+		final int maxEntries = getInt(
+				LOCAL_CACHE_MAX_ENTRIES + '.' + regionName,
+				configValues,
+				getInt( LOCAL_CACHE_MAX_ENTRIES, configValues, DEFAULT_MAX_ENTRIES )
+		);
+		final int timeToLive = getInt(
+				LOCAL_CACHE_TIME_TO_LIVE + '.' + regionName,
+				configValues,
+				getInt( LOCAL_CACHE_TIME_TO_LIVE, configValues, 0 )
+		);
+		return new BoundedStorageAccess(
+				new TinyLfuCache<>( maxEntries, TimeUnit.SECONDS.toNanos( timeToLive ), System::nanoTime )
+		);
+	}
+
+	/**
+	 * Access to the data of a region of a {@link LocalRegionFactory}.
+	 */
+	public abstract static class LocalStorageAccess implements DomainDataStorageAccess {
+		/**
+		 * The number of entries in the region.
+		 */
+		public abstract long size();
+
+		/**
+		 * The number of entries which were evicted from the region to respect its
+		 * size limit, or because they expired.
+		 */
+		public abstract long getEvictionCount();
+	}
+
+	private static final class BoundedStorageAccess extends LocalStorageAccess {
+		private final TinyLfuCache<Object, Object> cache;
+
+		private BoundedStorageAccess(TinyLfuCache<Object, Object> cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return cache.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			if ( value == null ) {
+				cache.remove( key );
+			}
+			else {
+				cache.put( key, value );
+			}
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return cache.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			cache.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			cache.remove( key );
+		}
+
+		@Override
+		public void release() {
+			cache.clear();
+		}
+
+		@Override
+		public long size() {
+			return cache.size();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return cache.getEvictionCount();
+		}
+	}
+
+	private static final class UnboundedStorageAccess extends LocalStorageAccess {
+		private final ConcurrentHashMap<Object, Object> data = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return data.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			if ( value == null ) {
+				data.remove( key );
+			}
+			else {
+				data.put( key, value );
+			}
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return data.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			data.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			data.remove( key );
+		}
+
+		@Override
+		public void release() {
+			data.clear();
+		}
+
+		@Override
+		public long size() {
+			return data.size();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return 0;
+		}
+	}
+
+	private static final class LocalDomainDataRegion extends DomainDataRegionTemplate
+			implements ExtendedStatisticsSupport {
+		private LocalDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactory regionFactory,
+				DomainDataStorageAccess storageAccess,
+				CacheKeysFactory defaultKeysFactory,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return ( (LocalStorageAccess) getCacheStorageAccess() ).size();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return NO_EXTENDED_STAT_SUPPORT_RETURN;
+		}
+	}
+
+	private static final class LocalQueryResultsRegion extends QueryResultsRegionTemplate
+			implements ExtendedStatisticsSupport {
+		private LocalQueryResultsRegion(String name, RegionFactory regionFactory, StorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return ( (LocalStorageAccess) getStorageAccess() ).size();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return NO_EXTENDED_STAT_SUPPORT_RETURN;
+		}
+	}
+
+	private static final class LocalTimestampsRegion extends TimestampsRegionTemplate
+			implements ExtendedStatisticsSupport {
+		private LocalTimestampsRegion(String name, RegionFactory regionFactory, StorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return ( (LocalStorageAccess) getStorageAccess() ).size();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return NO_EXTENDED_STAT_SUPPORT_RETURN;
+		}
+	}
+}
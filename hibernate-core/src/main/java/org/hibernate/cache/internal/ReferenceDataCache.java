@@ -0,0 +1,341 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * An in-heap cache, scoped to the {@link org.hibernate.SessionFactory}, of fully
+ * initialized instances of immutable entities with no associations. Every session
+ * which loads such an entity by id is handed the same instance, which it manages
+ * as {@linkplain org.hibernate.engine.spi.Status#READ_ONLY read-only}, without
+ * the need to assemble a new instance from disassembled second-level cache data.
+ * <p>
+ * The number of cached instances is bounded. When the bound is exceeded, an
+ * instance is evicted using the "clock" approximation of LRU: instances are
+ * queued in the order they were cached, and an instance which was used since
+ * it was last examined gets a second chance at the tail of the queue. An
+ * instance which is explicitly evicted is only marked as removed from the
+ * queue, and is purged from it by the clock, or once there are as many
+ * removed instances in the queue as the bound.
+ * <p>
+ * Every eviction records a {@linkplain SimpleTimestamper timestamp} for the
+ * root entity, and an instance is only cached if it was read after the last
+ * eviction of its entity hierarchy, so that a load which raced with a delete
+ * does not put the deleted instance back into the cache.
+ *
+ * @see org.hibernate.cfg.CacheSettings#REFERENCE_DATA_CACHE_SIZE
+ * @see EntityPersister#canUseReferenceDataCache()
+ *
+ * @since 7.0
+ */
+public final class ReferenceDataCache {
+
+	/**
+	 * A cached entity instance, along with the state it was loaded with.
+	 */
+	public static final class CachedReference {
+		private final Key key;
+		private final Object instance;
+		private final Object[] loadedState;
+		private final @Nullable Object version;
+		private final EntityPersister subclassPersister;
+		// racy by design: a lost update merely costs an instance its second chance
+		private boolean referenced;
+		// set once the instance was explicitly evicted, but is still in the clock
+		private volatile boolean removed;
+
+		private CachedReference(
+				Key key,
+				Object instance,
+				Object[] loadedState,
+				@Nullable Object version,
+				EntityPersister subclassPersister) {
+			this.key = key;
+			this.instance = instance;
+			this.loadedState = loadedState;
+			this.version = version;
+			this.subclassPersister = subclassPersister;
+		}
+
+		public Object getInstance() {
+			return instance;
+		}
+
+		/**
+		 * A copy of the state of the instance, for use as the loaded state of its
+		 * {@link org.hibernate.engine.spi.EntityEntry} in a persistence context.
+		 */
+		public Object[] copyLoadedState() {
+			return loadedState.clone();
+		}
+
+		public @Nullable Object getVersion() {
+			return version;
+		}
+
+		public EntityPersister getSubclassPersister() {
+			return subclassPersister;
+		}
+	}
+
+	private record Key(EntityKey entityKey, @Nullable Object tenantId) {
+	}
+
+	private final SessionFactoryImplementor factory;
+	private final int maxSize;
+
+	// the cached instances of each entity hierarchy, by root entity name
+	private final ConcurrentHashMap<String, ConcurrentHashMap<Key, CachedReference>> references =
+			new ConcurrentHashMap<>();
+	// the tenants with cached instances, other than the null tenant
+	private final Set<Object> tenantIds = ConcurrentHashMap.newKeySet();
+	private final Queue<CachedReference> clock = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicInteger removedInClock = new AtomicInteger();
+
+	private final ConcurrentHashMap<String, Long> invalidationTimestamps = new ConcurrentHashMap<>();
+	private volatile long clearTimestamp;
+
+	public ReferenceDataCache(SessionFactoryImplementor factory, int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "Reference data cache size must be positive" );
+		}
+		this.factory = factory;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * The number of cached instances.
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Look up the instance with the given key.
+	 *
+	 * @return the cached instance, or {@code null} if there is none
+	 */
+	public @Nullable CachedReference get(EntityKey entityKey, @Nullable Object tenantId) {
+		final ConcurrentHashMap<Key, CachedReference> hierarchyReferences =
+				references.get( rootEntityName( entityKey ) );
+		final CachedReference reference =
+				hierarchyReferences == null ? null : hierarchyReferences.get( new Key( entityKey, tenantId ) );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( reference == null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.referenceDataCacheMiss( rootEntityName( entityKey ) );
+			}
+			return null;
+		}
+		else {
+			reference.referenced = true;
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.referenceDataCacheHit( rootEntityName( entityKey ) );
+			}
+			return reference;
+		}
+	}
+
+	/**
+	 * Cache an instance which was just loaded from the database, unless an
+	 * instance with the same key is already cached, or the entity hierarchy
+	 * was invalidated since the given timestamp.
+	 *
+	 * @param readTimestamp a {@linkplain SimpleTimestamper timestamp} taken
+	 *                      before the instance was read from the database
+	 */
+	public void putFromLoad(
+			EntityKey entityKey,
+			@Nullable Object tenantId,
+			Object instance,
+			Object[] loadedState,
+			@Nullable Object version,
+			EntityPersister subclassPersister,
+			long readTimestamp) {
+		final String rootEntityName = rootEntityName( entityKey );
+		if ( isInvalidatedSince( rootEntityName, readTimestamp ) ) {
+			return;
+		}
+		final Key key = new Key( entityKey, tenantId );
+		final CachedReference reference =
+				new CachedReference( key, instance, loadedState.clone(), version, subclassPersister );
+		if ( tenantId != null ) {
+			tenantIds.add( tenantId );
+		}
+		if ( hierarchyReferences( rootEntityName ).putIfAbsent( key, reference ) == null ) {
+			size.incrementAndGet();
+			clock.add( reference );
+			// an eviction records its timestamp before removing instances,
+			// so it either removes this one, or we see its timestamp here
+			if ( isInvalidatedSince( rootEntityName, readTimestamp ) ) {
+				remove( reference );
+				return;
+			}
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.referenceDataCachePut( rootEntityName );
+			}
+			if ( size.get() > maxSize ) {
+				evictOne();
+			}
+		}
+	}
+
+	private boolean isInvalidatedSince(String rootEntityName, long readTimestamp) {
+		if ( clearTimestamp >= readTimestamp ) {
+			return true;
+		}
+		else {
+			final Long invalidationTimestamp = invalidationTimestamps.get( rootEntityName );
+			return invalidationTimestamp != null && invalidationTimestamp >= readTimestamp;
+		}
+	}
+
+	private void invalidate(String rootEntityName) {
+		invalidationTimestamps.merge( rootEntityName, SimpleTimestamper.next(), Math::max );
+	}
+
+	private ConcurrentHashMap<Key, CachedReference> hierarchyReferences(String rootEntityName) {
+		return references.computeIfAbsent( rootEntityName, name -> new ConcurrentHashMap<>() );
+	}
+
+	private void remove(CachedReference reference) {
+		final ConcurrentHashMap<Key, CachedReference> hierarchyReferences =
+				references.get( rootEntityName( reference.key.entityKey() ) );
+		if ( hierarchyReferences != null && hierarchyReferences.remove( reference.key, reference ) ) {
+			removed( reference );
+		}
+	}
+
+	/**
+	 * Account for an instance which was explicitly evicted, leaving it to be
+	 * purged from the clock later.
+	 */
+	private void removed(CachedReference reference) {
+		size.decrementAndGet();
+		reference.removed = true;
+		if ( removedInClock.incrementAndGet() > maxSize ) {
+			purgeRemoved();
+		}
+	}
+
+	private void purgeRemoved() {
+		synchronized ( clock ) {
+			clock.removeIf( reference -> {
+				if ( reference.removed ) {
+					removedInClock.decrementAndGet();
+					return true;
+				}
+				else {
+					return false;
+				}
+			} );
+		}
+	}
+
+	private void evictOne() {
+		synchronized ( clock ) {
+			// another thread might have already made room
+			while ( size.get() > maxSize ) {
+				final CachedReference candidate = clock.poll();
+				if ( candidate == null ) {
+					return;
+				}
+				else if ( candidate.removed ) {
+					// the instance was explicitly evicted, drop it
+					removedInClock.decrementAndGet();
+				}
+				else if ( candidate.referenced ) {
+					candidate.referenced = false;
+					clock.add( candidate );
+				}
+				else if ( hierarchyReferences( rootEntityName( candidate.key.entityKey() ) )
+						.remove( candidate.key, candidate ) ) {
+					size.decrementAndGet();
+					final StatisticsImplementor statistics = factory.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.referenceDataCacheEviction( rootEntityName( candidate.key.entityKey() ) );
+					}
+				}
+				else {
+					// the instance is being explicitly evicted, and will be marked as removed
+					clock.add( candidate );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evict the instance with the given key, if it is cached, for example,
+	 * because it was deleted.
+	 */
+	public void evict(EntityKey entityKey, @Nullable Object tenantId) {
+		final String rootEntityName = rootEntityName( entityKey );
+		invalidate( rootEntityName );
+		final ConcurrentHashMap<Key, CachedReference> hierarchyReferences = references.get( rootEntityName );
+		if ( hierarchyReferences != null ) {
+			final CachedReference reference = hierarchyReferences.remove( new Key( entityKey, tenantId ) );
+			if ( reference != null ) {
+				removed( reference );
+			}
+		}
+	}
+
+	/**
+	 * Evict the instances with the given key, whatever their tenant.
+	 */
+	public void evict(EntityKey entityKey) {
+		evict( entityKey, null );
+		for ( Object tenantId : tenantIds ) {
+			evict( entityKey, tenantId );
+		}
+	}
+
+	/**
+	 * Evict all instances of the entity hierarchy with the given root entity.
+	 */
+	public void evictAll(String rootEntityName) {
+		invalidate( rootEntityName );
+		final ConcurrentHashMap<Key, CachedReference> hierarchyReferences = references.get( rootEntityName );
+		if ( hierarchyReferences != null ) {
+			evictAll( hierarchyReferences );
+		}
+	}
+
+	/**
+	 * Evict all cached instances.
+	 */
+	public void clear() {
+		clearTimestamp = SimpleTimestamper.next();
+		for ( ConcurrentHashMap<Key, CachedReference> hierarchyReferences : references.values() ) {
+			evictAll( hierarchyReferences );
+		}
+	}
+
+	private void evictAll(ConcurrentHashMap<Key, CachedReference> hierarchyReferences) {
+		for ( CachedReference reference : hierarchyReferences.values() ) {
+			if ( hierarchyReferences.remove( reference.key, reference ) ) {
+				removed( reference );
+			}
+		}
+	}
+
+	private static String rootEntityName(EntityKey entityKey) {
+		return entityKey.getPersister().getRootEntityName();
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Implementation of {@link TimestampsCache} which keeps the last update timestamp
+ * of each query space in memory, instead of in the {@link TimestampsRegion}.
+ * Invalidating a query space is a single volatile write, and checking whether a
+ * cached query result is up-to-date never touches the region. Furthermore, a
+ * result cached after the last update to any query space is recognized as
+ * up-to-date with a single comparison, unless a transaction updating one of
+ * its query spaces is still in progress.
+ * <p>
+ * Since the timestamps are not shared with other JVMs, this implementation is
+ * only appropriate when the second-level cache itself is local to the JVM, for
+ * example, with {@link LocalRegionFactory}.
+ *
+ * @see InMemoryTimestampsCacheFactory
+ *
+ * @since 7.0
+ */
+public class TimestampsCacheInMemoryImpl implements TimestampsCache {
+	private static final Logger log = Logger.getLogger( TimestampsCacheInMemoryImpl.class );
+
+	private final TimestampsRegion timestampsRegion;
+	private final RegionFactory regionFactory;
+
+	private final ConcurrentHashMap<String, AtomicLong> lastUpdates = new ConcurrentHashMap<>();
+	// never less than any of the timestamps of completed updates
+	private final AtomicLong latestUpdate = new AtomicLong( Long.MIN_VALUE );
+	// the pre-invalidation timestamps of the spaces of updates still in progress,
+	// kept apart so that they don't push latestUpdate into the future
+	private final ConcurrentHashMap<String, Long> pendingUpdates = new ConcurrentHashMap<>();
+
+	public TimestampsCacheInMemoryImpl(TimestampsRegion timestampsRegion, RegionFactory regionFactory) {
+		this.timestampsRegion = timestampsRegion;
+		this.regionFactory = regionFactory;
+	}
+
+	@Override
+	public TimestampsRegion getRegion() {
+		return timestampsRegion;
+	}
+
+	@Override
+	public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		final long timestamp = regionFactory.nextTimestamp() + regionFactory.getTimeout();
+		for ( String space : spaces ) {
+			pendingUpdates.put( space, timestamp );
+		}
+		update( spaces, timestamp, session );
+	}
+
+	@Override
+	public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+		final long timestamp = regionFactory.nextTimestamp();
+		update( spaces, timestamp, session );
+		latestUpdate.accumulateAndGet( timestamp, Math::max );
+		for ( String space : spaces ) {
+			pendingUpdates.remove( space );
+		}
+	}
+
+	private void update(String[] spaces, long timestamp, SharedSessionContractImplementor session) {
+		if ( spaces.length > 0 ) {
+			final boolean debugEnabled = log.isDebugEnabled();
+			for ( String space : spaces ) {
+				if ( debugEnabled ) {
+					log.debugf( "Invalidating space [%s], timestamp: %s", space, timestamp );
+				}
+				lastUpdates.computeIfAbsent( space, s -> new AtomicLong() ).set( timestamp );
+			}
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( int i = 0; i < spaces.length; i++ ) {
+					statistics.updateTimestampsCachePut();
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+		if ( timestamp > latestUpdate.get() ) {
+			if ( !pendingUpdates.isEmpty() ) {
+				for ( String space : spaces ) {
+					if ( isSpacePending( space, timestamp ) ) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		else {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			for ( String space : spaces ) {
+				if ( isSpaceOutOfDate( space, timestamp, statistics ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private boolean isSpacePending(String space, long timestamp) {
+		final Long preInvalidation = pendingUpdates.get( space );
+		return preInvalidation != null && preInvalidation >= timestamp;
+	}
+
+	private boolean isSpaceOutOfDate(String space, long timestamp, StatisticsImplementor statistics) {
+		final AtomicLong lastUpdate = lastUpdates.get( space );
+		if ( lastUpdate == null ) {
+			// there have been no writes to the space since startup
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.updateTimestampsCacheMiss();
+			}
+			return false;
+		}
+		else {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.updateTimestampsCacheHit();
+			}
+			return lastUpdate.get() >= timestamp;
+		}
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		lastUpdates.clear();
+		pendingUpdates.clear();
+		latestUpdate.set( Long.MIN_VALUE );
+		timestampsRegion.clear();
+	}
+}
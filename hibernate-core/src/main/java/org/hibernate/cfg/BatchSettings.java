@@ -6,6 +6,7 @@ package org.hibernate.cfg;
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -63,6 +64,48 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that batched deletions of entities of the same type should
+	 * be executed as a single statement per table, passing all the identifiers to delete
+	 * as one {@linkplain java.sql.Array array} parameter, instead of as a JDBC batch of
+	 * one statement per entity. This reduces the number of round trips and the amount of
+	 * statement parsing when a flush deletes a large number of entities.
+	 * <p>
+	 * Only applies to entities with a single-column identifier which are neither
+	 * versioned nor use {@linkplain org.hibernate.annotations.OptimisticLocking
+	 * optimistic locking} of all or dirty columns, and only when the
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 * Dialect supports array parameters} and JDBC batching is enabled. A stale state
+	 * is detected for the batch as a whole, rather than for an individual entity.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BATCH_DELETES_WITH_ARRAY_PARAMETER = "hibernate.jdbc.batch_deletes_with_array_parameter";
+
+	/**
+	 * When enabled, full JDBC batches are executed on a background thread, while the
+	 * flushing thread continues binding the statements of the next batch, so that
+	 * building and executing batches overlap instead of alternating. The statements
+	 * are still executed in order, one batch at a time, and row counts are verified
+	 * before the batch is considered complete.
+	 * <p>
+	 * This requires a JDBC driver which tolerates different statements of the same
+	 * connection being used from different threads, serializing their execution on
+	 * the connection. It's most beneficial for large flushes over high-latency links.
+	 * Has no effect when an explicit {@link #BUILDER} is specified.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.internal.PipelinedBatch
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -104,6 +104,11 @@ public interface CacheSettings {
 
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.TimestampsCacheFactory} to use.
+	 * <p>
+	 * When the second-level cache is local to the JVM, the
+	 * {@link org.hibernate.cache.internal.InMemoryTimestampsCacheFactory} keeps
+	 * update timestamps in memory, making it much cheaper to validate cached
+	 * query results.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyTimestampsCacheFactory(TimestampsCacheFactory)
 	 */
@@ -184,6 +189,69 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Enables the use of compact query cache entries, which store the JDBC values
+	 * of the rows of a query result as a single type-tagged {@code byte[]}, instead
+	 * of as a list of {@code Object[]} arrays. Compact entries use much less memory,
+	 * and are much cheaper to serialize and replicate, at the cost of decoding the
+	 * rows each time the cached result is read.
+	 * <p>
+	 * A result containing a value of a type which cannot be encoded is cached as a
+	 * list of rows.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String USE_COMPACT_QUERY_CACHE_ENTRIES = "hibernate.cache.use_compact_query_entries";
+
+	/**
+	 * The maximum number of entity instances held by the reference data cache, an
+	 * in-heap cache scoped to the {@code SessionFactory} which shares a single
+	 * read-only instance of an {@linkplain org.hibernate.annotations.Immutable
+	 * immutable} entity with no associations between all sessions. A positive
+	 * value enables the cache, which is independent of the second-level cache.
+	 * <p>
+	 * When the cache is full, the least recently used instances are evicted.
+	 *
+	 * @settingDefault {@code 0}, which disables the cache
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String REFERENCE_DATA_CACHE_SIZE = "hibernate.cache.reference_data_size";
+
+	/**
+	 * The maximum number of entries held by each region of the built-in in-process
+	 * {@link org.hibernate.cache.internal.LocalRegionFactory}. The limit for a given
+	 * region may be overridden by appending its name to the setting name, for example,
+	 * {@code hibernate.cache.local.max_entries.com.acme.Product}.
+	 * <p>
+	 * The limit does not apply to the region holding update timestamps.
+	 *
+	 * @settingDefault {@code 10000}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOCAL_CACHE_MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+	/**
+	 * The number of seconds after which an entry held by a region of the built-in
+	 * in-process {@link org.hibernate.cache.internal.LocalRegionFactory} expires,
+	 * once written. The time to live for a given region may be overridden by
+	 * appending its name to the setting name.
+	 * <p>
+	 * Entries of the region holding update timestamps never expire.
+	 *
+	 * @settingDefault {@code 0}, meaning entries never expire
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOCAL_CACHE_TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
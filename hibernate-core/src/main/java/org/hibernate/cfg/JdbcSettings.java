@@ -360,6 +360,24 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings, AgroalSetti
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The number of rows read ahead from a JDBC {@link java.sql.ResultSet} into
+	 * column arrays, before the rows are turned into query results. Reading the
+	 * rows of a large result in blocks, and then processing each block, improves
+	 * locality for queries returning many scalar values.
+	 * <p>
+	 * Only applies to queries whose results are listed, and which select only
+	 * basic values, excluding LOBs. Queries returning entities, embeddables or
+	 * collections, scrolled or streamed queries, queries using follow-on locking,
+	 * and queries whose results are cached are read one row at a time.
+	 *
+	 * @settingDefault {@code 0}, rows are read one at a time
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String RESULT_SET_PREFETCH_SIZE = "hibernate.jdbc.result_set_prefetch_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
@@ -151,6 +151,31 @@ public interface PersistenceSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * The path of a local file holding a snapshot of the result of scanning
+	 * the persistence unit archives. When the file is missing, or was written
+	 * for different archives, the archives are scanned and the file is written.
+	 * Otherwise, the classes, packages and mapping files listed in the snapshot
+	 * are used, and the archives are not scanned.
+	 * <p>
+	 * The snapshot is keyed on the Hibernate version, the scan options, and
+	 * the location, size and modification time of each scanned JAR file. For
+	 * an exploded archive, only the modification time of the directory and of
+	 * its manifest are considered, so the file should be deleted when classes
+	 * are added to a subdirectory of an archive. The snapshot is discarded if
+	 * a class, package or mapping file it lists cannot be found in the archive
+	 * it was scanned from. Only archives which are local directories or JAR
+	 * files are supported.
+	 *
+	 * @settingDefault none, the archives are scanned at every startup
+	 *
+	 * @see #SCANNER
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCANNER_SNAPSHOT_FILE = "hibernate.archive.scan_snapshot_file";
+
 	/**
 	 * Allows JPA callbacks (via {@link jakarta.persistence.PreUpdate} and friends) to be
 	 * completely disabled. Mostly useful to save some memory when they are not used.
@@ -175,6 +200,41 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the persistence context of a stateful session keeps its managed entities
+	 * and collections in compact, open-addressing hash maps, which store keys and values in
+	 * flat arrays instead of allocating one node per entry. This noticeably reduces memory
+	 * use and GC pressure for sessions managing a very large number of entities, such as
+	 * those of batch jobs, at the cost of slightly slower removals.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.internal.util.collections.OpenAddressingMap
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String COMPACT_PERSISTENCE_CONTEXT = "hibernate.persistence_context.compact";
+
+	/**
+	 * When enabled, the static SQL mutation operations of an
+	 * {@linkplain org.hibernate.persister.entity.EntityPersister entity persister},
+	 * its insert, update, delete and merge coordinators, and its loaders by identifier,
+	 * are built the first time they are needed, instead of when the
+	 * {@link org.hibernate.SessionFactory} is created. This reduces startup time and
+	 * memory use for large domain models of which only a fraction of the entities are
+	 * used by a given application.
+	 * <p>
+	 * Mapping errors which would otherwise be detected when these are built are then
+	 * only detected when the entity is first used.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.persister.lazy_initialization";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
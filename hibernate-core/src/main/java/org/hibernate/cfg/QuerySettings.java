@@ -82,6 +82,36 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to {@linkplain #QUERY_STARTUP_CHECKING check}
+	 * named HQL queries during startup. With more than one thread, the queries
+	 * are parsed and analyzed concurrently, and the interpretations are stored
+	 * in the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * interpretation cache}. Errors are reported in the same order as they
+	 * would be with a single thread.
+	 *
+	 * @settingDefault {@code 1}, named queries are checked sequentially
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_STARTUP_CHECKING_THREADS = "hibernate.query.startup_check_threads";
+
+	/**
+	 * When enabled, named HQL queries listed in the resource
+	 * {@value org.hibernate.query.named.NamedObjectRepository#VALIDATED_QUERIES_RESOURCE},
+	 * written by the Hibernate annotation processor, are not
+	 * {@linkplain #QUERY_STARTUP_CHECKING checked} during startup, as long
+	 * as their query string is the one which was validated at build time.
+	 * Such a query is interpreted the first time it is used instead.
+	 *
+	 * @settingDefault {@code false}, every named query is checked at startup
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_STARTUP_CHECKING_SKIP_VALIDATED = "hibernate.query.startup_check_skip_validated";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -197,6 +227,34 @@ public interface QuerySettings {
 	 */
 	String FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH = "hibernate.query.fail_on_pagination_over_collection_fetch";
 
+	/**
+	 * When enabled, the entities returned by the {@link java.util.stream.Stream} of a
+	 * {@linkplain org.hibernate.query.SelectionQuery#getResultStream() selection query}
+	 * executed by a stateful session are detached from the persistence context once the
+	 * stream moves on to the next result. The persistence context then holds only the
+	 * entities of the current result, and so a stream of any length may be consumed
+	 * without an explicit {@link org.hibernate.Session#clear()}.
+	 * <p>
+	 * Every entity returned as a result, or as an element of an {@code Object[]} result,
+	 * is detached, along with its collections, including collections fetched using
+	 * {@code join fetch}, and the loaded entities reached by its associations. An entity
+	 * which was associated with the session before the stream was opened, or which has
+	 * unflushed changes, is not detached, and neither is an entity which cascades to,
+	 * or is cascaded to from, such an entity.
+	 * <p>
+	 * Unless a {@linkplain org.hibernate.query.SelectionQuery#setFetchSize(int) fetch size}
+	 * is specified for the query, or by {@value JdbcSettings#STATEMENT_FETCH_SIZE}, the
+	 * {@linkplain org.hibernate.dialect.Dialect#getDefaultStreamFetchSize() fetch size
+	 * recommended by the dialect} is used to execute the stream, so that the JDBC driver
+	 * does not read the whole result set into memory.
+	 *
+	 * @settingDefault {@code false}, results remain associated with the session
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STREAM_DETACH_RESULTS = "hibernate.query.stream_detach_results";
+
 	/**
 	 * This setting defines how {@link org.hibernate.annotations.Immutable} entities
 	 * are handled when executing a bulk update query. Valid options are enumerated
@@ -270,6 +328,50 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The policy used to evict entries from the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} once it holds the
+	 * {@linkplain #QUERY_PLAN_CACHE_MAX_SIZE maximum number of entries}.
+	 * Accepts:
+	 * <ul>
+	 *     <li>{@code lirs}, a segmented map which updates the recency of
+	 *     an entry under the lock of its segment on every read, or
+	 *     <li>{@code tinylfu}, a map with lock-free reads, where accesses
+	 *     are recorded in buffers and replayed against a W-TinyLFU policy,
+	 *     which admits a new entry only if it's used more often than the
+	 *     entry it would replace.
+	 * </ul>
+	 * <p>
+	 * With {@code tinylfu}, evictions of query plans are counted by
+	 * {@link org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount()}.
+	 *
+	 * @settingDefault {@code lirs}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_EVICTION_POLICY = "hibernate.query.plan_cache_eviction_policy";
+
+	/**
+	 * The path of a local file to which the HQL queries held in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} are written when the
+	 * {@link org.hibernate.SessionFactory} is closed. When the next
+	 * {@code SessionFactory} is created, the queries listed in the file
+	 * are interpreted eagerly, so that the first requests don't pay the
+	 * cost of parsing and semantic analysis.
+	 * <p>
+	 * The file is ignored if it was written by a different version of
+	 * Hibernate, or for a different domain model.
+	 *
+	 * @settingDefault none, the interpretation cache starts empty
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_WARMUP_FILE = "hibernate.query.plan_cache_warmup_file";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
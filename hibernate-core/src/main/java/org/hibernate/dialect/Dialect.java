@@ -4211,6 +4211,21 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC {@linkplain java.sql.Statement#setFetchSize(int) fetch size} used
+	 * by {@link org.hibernate.query.SelectionQuery#getResultStream()} when
+	 * {@value org.hibernate.cfg.QuerySettings#STREAM_DETACH_RESULTS} is enabled
+	 * and no other fetch size is specified.
+	 *
+	 * @return the fetch size, or {@code 0} to use the default of the driver
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public int getDefaultStreamFetchSize() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect support {@code offset} in subqueries?
 	 * <p>
@@ -1185,6 +1185,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.defaultScrollMode();
 	}
 
+	@Override
+	public int getDefaultStreamFetchSize() {
+		return wrapped.getDefaultStreamFetchSize();
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return wrapped.supportsOffsetInSubquery();
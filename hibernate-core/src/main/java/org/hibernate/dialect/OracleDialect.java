@@ -855,6 +855,12 @@ public class OracleDialect extends Dialect {
 		return 15;
 	}
 
+	@Override
+	public int getDefaultStreamFetchSize() {
+		// the driver fetches 10 rows per round trip by default
+		return 100;
+	}
+
 	@Override
 	public boolean getDefaultUseGetGeneratedKeys() {
 		// Oracle driver reports to support getGeneratedKeys(), but they only
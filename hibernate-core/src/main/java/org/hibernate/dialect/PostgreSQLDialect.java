@@ -289,6 +289,13 @@ public class PostgreSQLDialect extends Dialect {
 		return 15;
 	}
 
+	@Override
+	public int getDefaultStreamFetchSize() {
+		// without a fetch size, the driver reads the whole result set
+		// into memory (a cursor is only used outside autocommit mode)
+		return 1000;
+	}
+
 	@Override
 	public JdbcType resolveSqlTypeDescriptor(
 			String columnTypeName,
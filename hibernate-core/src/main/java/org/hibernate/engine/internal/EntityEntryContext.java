@@ -688,11 +688,13 @@ public class EntityEntryContext {
 		}
 
 		// Check instance type of EntityEntry and if type is ImmutableEntityEntry,
-		// check to see if entity is referenced cached in the second level cache
+		// check to see if entity is referenced cached in the second level cache,
+		// or shared between sessions by the reference data cache
 		private boolean canClearEntityEntryReference() {
 			EntityEntry entityEntry = managedEntity.$$_hibernate_getEntityEntry();
 			return !(entityEntry instanceof ImmutableEntityEntry)
-				|| !entityEntry.getPersister().canUseReferenceCacheEntries();
+				|| !entityEntry.getPersister().canUseReferenceCacheEntries()
+					&& !entityEntry.getPersister().canUseReferenceDataCache();
 		}
 	}
 
@@ -33,6 +33,7 @@ import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.AssociationKey;
 import org.hibernate.engine.spi.BatchFetchQueue;
@@ -56,6 +57,7 @@ import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -104,6 +106,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private final SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	// Whether the maps keyed by EntityKey or CollectionKey should be OpenAddressingMaps
+	private final boolean compact;
 
 	/*
 		Everything else below should be carefully initialized only on first need;
@@ -114,7 +118,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -122,7 +126,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -131,7 +135,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection<?>, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private Map<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -173,11 +177,22 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.compact = session.getFactory().getSessionFactoryOptions().isCompactPersistenceContextEnabled();
+	}
+
+	/**
+	 * Creates one of the maps keyed by {@link EntityKey} or {@link CollectionKey}, which
+	 * may grow very large in long-running sessions.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#COMPACT_PERSISTENCE_CONTEXT
+	 */
+	private <K, V> Map<K, V> keyedMapOfSize(int size) {
+		return compact ? new OpenAddressingMap<>( size ) : CollectionHelper.mapOfSize( size );
 	}
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = keyedMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
@@ -295,6 +310,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void afterTransactionCompletion() {
 		cleanUpInsertedKeysAfterTransaction();
+		// the next transaction reads after this point
+		readTimestamp = SimpleTimestamper.next();
 		// Downgrade locks
 		entityEntryContext.downgradeLocks();
 	}
@@ -315,7 +332,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = keyedMapOfSize( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -1936,7 +1953,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = rtn.keyedMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1947,7 +1964,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.keyedMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -1977,7 +1994,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.collectionsByKey = rtn.keyedMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put(
 						CollectionKey.deserialize( ois, session ),
@@ -2052,10 +2069,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private HashMap<String,HashSet<Object>> insertedKeysMap;
 
+	private long readTimestamp = SimpleTimestamper.next();
+
 	@Override
 	public void registerInsertedKey(EntityPersister persister, Object id) {
 		// we only are worried about registering these if the persister defines caching
-		if ( persister.canWriteToCache() ) {
+		if ( isCached( persister ) ) {
 			if ( insertedKeysMap == null ) {
 				insertedKeysMap = new HashMap<>();
 			}
@@ -2071,7 +2090,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public boolean wasInsertedDuringTransaction(EntityPersister persister, Object id) {
 		// again, we only really care if the entity is cached
-		if ( persister.canWriteToCache() ) {
+		if ( isCached( persister ) ) {
 			if ( insertedKeysMap != null ) {
 				final HashSet<Object> insertedEntityIds = insertedKeysMap.get( persister.getRootEntityName() );
 				if ( insertedEntityIds != null ) {
@@ -2082,6 +2101,15 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return false;
 	}
 
+	private static boolean isCached(EntityPersister persister) {
+		return persister.canWriteToCache() || persister.canUseReferenceDataCache();
+	}
+
+	@Override
+	public long getReadTimestamp() {
+		return readTimestamp;
+	}
+
 	@Override
 	public boolean containsNullifiableEntityKey(Supplier<EntityKey> sek) {
 		return nullifiableEntityKeys != null
@@ -2152,7 +2180,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = keyedMapOfSize( INIT_COLL_SIZE );
 		}
 		return collectionsByKey.put( collectionKey, persistentCollection );
 	}
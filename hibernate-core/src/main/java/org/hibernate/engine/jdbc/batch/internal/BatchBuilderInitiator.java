@@ -39,9 +39,11 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
-			);
+			final int batchSize =
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 );
+			return ConfigurationHelper.getBoolean( BatchSettings.BATCH_PIPELINING, configurationValues )
+					? new PipelinedBatchBuilder( batchSize )
+					: new BatchBuilderImpl( batchSize );
 		}
 
 		if ( builder instanceof BatchBuilder ) {
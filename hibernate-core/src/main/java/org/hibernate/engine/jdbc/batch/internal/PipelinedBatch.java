@@ -0,0 +1,487 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} which executes full batches in the background, so that the flushing
+ * thread can keep binding the statements of the next batch while the previous one is
+ * executing on the database.
+ * <p>
+ * The batch is double-buffered: it alternates between two {@link PreparedStatementGroup}s,
+ * one being filled while the other is executing. At most one execution is in flight at
+ * any time, and it is always completed before the next execution starts, and before the
+ * batch is {@linkplain #execute() explicitly executed} or {@linkplain #release() released},
+ * which preserves the order of the statements.
+ * <p>
+ * The background thread does nothing but call {@link PreparedStatement#executeBatch()}.
+ * Everything involving the session, that is, JDBC events, monitoring events, row count
+ * verification and exception conversion, happens on the flushing thread, when it waits
+ * for the execution. If no background thread is available, the flushing thread executes
+ * the batch itself.
+ * <p>
+ * Since statements of two different buffers are used concurrently, this requires a JDBC
+ * driver which allows distinct statements of a connection to be used from different
+ * threads, serializing their execution on the wire, as PgJDBC does.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+ */
+public class PipelinedBatch implements Batch {
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final Executor executor;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private Buffer current;
+	private Buffer spare;
+
+	private Buffer executing;
+	private HibernateMonitoringEvent executingEvent;
+	private FutureTask<List<ExecutedStatement>> execution;
+
+	public PipelinedBatch(
+			BatchKey key,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			Executor executor,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.batchSizeToUse = batchSizeToUse;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.executor = executor;
+		this.jdbcCoordinator = jdbcCoordinator;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		this.current = new Buffer( statementGroupSupplier.get(), batchSizeToUse );
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch( batchSizeToUse, key.toLoggableString() );
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return current.statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		current.staleStateMappers[current.position] = staleStateMapper;
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final Buffer buffer = current;
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch( buffer.position + 1, batchSizeToUse, key.toLoggableString() );
+		}
+
+		try {
+			buffer.statementGroup.forEachStatement( (tableName, statementDetails) -> {
+				if ( inclusionChecker == null
+						|| inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
+					//noinspection resource
+					final PreparedStatement statement = statementDetails.resolveStatement();
+					sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+					jdbcValueBindings.beforeStatement( statementDetails );
+					try {
+						statement.addBatch();
+					}
+					catch (SQLException e) {
+						throw sqlExceptionHelper.convert( e, "Could not perform addBatch", statementDetails.getSqlString() );
+					}
+					finally {
+						jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+					}
+				}
+			} );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+
+		buffer.position++;
+		if ( buffer.position == batchSizeToUse ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			executeInBackground();
+		}
+	}
+
+	/**
+	 * Hand the current buffer over for execution, and continue with the spare one
+	 */
+	private void executeInBackground() {
+		awaitExecution();
+
+		final Buffer toExecute = current;
+		current = spare == null ? new Buffer( statementGroupSupplier.get(), batchSizeToUse ) : spare;
+		spare = null;
+
+		executing = toExecute;
+		executingEvent = beginExecution( toExecute );
+		execution = new FutureTask<>( () -> executeStatements( toExecute ) );
+		executor.execute( execution );
+	}
+
+	/**
+	 * Wait for the execution in flight, if any, to complete, rethrowing any failure
+	 * on the calling thread
+	 */
+	private void awaitExecution() {
+		if ( execution != null ) {
+			final Buffer buffer = executing;
+			final HibernateMonitoringEvent event = executingEvent;
+			final FutureTask<List<ExecutedStatement>> task = execution;
+			execution = null;
+			executing = null;
+			executingEvent = null;
+			final List<ExecutedStatement> executedStatements;
+			try {
+				executedStatements = awaitStatements( task );
+			}
+			catch (RuntimeException e) {
+				if ( task.isDone() ) {
+					// the statements are no longer in use, and are released along with the batch
+					spare = buffer;
+				}
+				completeExecution( buffer, event, List.of() );
+				abortBatch( e );
+				throw e;
+			}
+			spare = buffer;
+			try {
+				completeExecution( buffer, event, executedStatements );
+			}
+			catch (RuntimeException e) {
+				abortBatch( e );
+				throw e;
+			}
+		}
+	}
+
+	private List<ExecutedStatement> awaitStatements(FutureTask<List<ExecutedStatement>> task) {
+		try {
+			return task.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for batch execution", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof StatementExecutionException failure ) {
+				throw sqlExceptionHelper.convert( failure.sqlException, "could not execute batch", failure.sql );
+			}
+			else if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else {
+				throw new HibernateException( "Batch execution failed", e.getCause() );
+			}
+		}
+	}
+
+	private void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		try {
+			awaitExecution();
+			if ( current.position == 0 ) {
+				BATCH_LOGGER.debugf( "No batched statements to execute - %s", key.toLoggableString() );
+			}
+			else {
+				try {
+					performExecution( current );
+				}
+				catch (RuntimeException e) {
+					abortBatch( e );
+					throw e;
+				}
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	/**
+	 * Execute the given buffer on the flushing thread
+	 */
+	private void performExecution(Buffer buffer) {
+		final HibernateMonitoringEvent event = beginExecution( buffer );
+		final List<ExecutedStatement> executedStatements;
+		try {
+			executedStatements = executeStatements( buffer );
+		}
+		catch (StatementExecutionException failure) {
+			completeExecution( buffer, event, List.of() );
+			throw sqlExceptionHelper.convert( failure.sqlException, "could not execute batch", failure.sql );
+		}
+		completeExecution( buffer, event, executedStatements );
+	}
+
+	/**
+	 * Signal the start of the execution of the given buffer, on the flushing thread
+	 */
+	private HibernateMonitoringEvent beginExecution(Buffer buffer) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch( buffer.position, batchSizeToUse, key.toLoggableString() );
+		}
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final HibernateMonitoringEvent event = jdbcSessionOwner.getEventManager().beginJdbcBatchExecutionEvent();
+		jdbcSessionOwner.getJdbcSessionContext().getEventHandler().jdbcExecuteBatchStart();
+		return event;
+	}
+
+	/**
+	 * Execute the statements of the given buffer, touching nothing but the statements
+	 * themselves, since this might happen on a background thread
+	 */
+	private static List<ExecutedStatement> executeStatements(Buffer buffer) {
+		final List<ExecutedStatement> executedStatements = new ArrayList<>();
+		buffer.statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement != null ) {
+				try {
+					executedStatements.add( new ExecutedStatement( statementDetails, statement.executeBatch() ) );
+				}
+				catch (SQLException e) {
+					throw new StatementExecutionException( e, statementDetails.getSqlString() );
+				}
+			}
+		} );
+		return executedStatements;
+	}
+
+	/**
+	 * Signal the end of the execution of the given buffer, and verify the row counts,
+	 * on the flushing thread
+	 */
+	private void completeExecution(
+			Buffer buffer,
+			HibernateMonitoringEvent event,
+			List<ExecutedStatement> executedStatements) {
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		try {
+			jdbcSessionOwner.getEventManager()
+					.completeJdbcBatchExecutionEvent( event, identifierTableSql( buffer ) );
+			jdbcSessionOwner.getJdbcSessionContext().getEventHandler().jdbcExecuteBatchEnd();
+			for ( ExecutedStatement executedStatement : executedStatements ) {
+				final PreparedStatementDetails statementDetails = executedStatement.statementDetails;
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					try {
+						checkRowCounts( executedStatement.rowCounts, statementDetails, buffer );
+					}
+					catch (SQLException e) {
+						throw sqlExceptionHelper.convert( e, "could not execute batch", statementDetails.getSqlString() );
+					}
+				}
+			}
+		}
+		finally {
+			buffer.position = 0;
+		}
+	}
+
+	private static String identifierTableSql(Buffer buffer) {
+		final String[] sql = new String[1];
+		buffer.statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( sql[0] == null && statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				sql[0] = statementDetails.getSqlString();
+			}
+		} );
+		return sql[0];
+	}
+
+	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, Buffer buffer)
+			throws SQLException, HibernateException {
+		final int numberOfRowCounts = rowCounts.length;
+		if ( numberOfRowCounts != buffer.position ) {
+			JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
+					statementDetails.getMutatingTableDetails().getTableName(),
+					numberOfRowCounts,
+					buffer.position
+			);
+		}
+
+		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+			try {
+				statementDetails.getExpectation()
+						.verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, statementDetails.getSqlString() );
+			}
+			catch ( StaleStateException staleStateException ) {
+				final StaleStateMapper staleStateMapper = buffer.staleStateMappers[i];
+				if ( staleStateMapper != null ) {
+					throw staleStateMapper.map( staleStateException );
+				}
+			}
+		}
+	}
+
+	private void releaseStatements() {
+		releaseStatements( current );
+		if ( spare != null ) {
+			releaseStatements( spare );
+		}
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private void releaseStatements(Buffer buffer) {
+		buffer.statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement != null ) {
+				try {
+					if ( !statement.isClosed() ) {
+						statement.clearBatch();
+					}
+				}
+				catch ( SQLException e ) {
+					BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+				}
+			}
+		} );
+		buffer.statementGroup.release();
+		buffer.position = 0;
+	}
+
+	@Override
+	public void release() {
+		if ( execution != null ) {
+			// the statements of the buffer being executed can't be released from under it
+			try {
+				execution.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException e) {
+				BATCH_LOGGER.debug( "Batch execution failed before release", e.getCause() );
+			}
+			jdbcCoordinator.getJdbcSessionOwner().getEventManager()
+					.completeJdbcBatchExecutionEvent( executingEvent, identifierTableSql( executing ) );
+			jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getEventHandler().jdbcExecuteBatchEnd();
+			spare = executing;
+			execution = null;
+			executing = null;
+			executingEvent = null;
+		}
+		if ( current.position != 0 && BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatch(" + key.toLoggableString() + ")";
+	}
+
+	/**
+	 * A group of statements, along with the number of rows added to it
+	 */
+	private static class Buffer {
+		private final PreparedStatementGroup statementGroup;
+		private final StaleStateMapper[] staleStateMappers;
+		private int position;
+
+		private Buffer(PreparedStatementGroup statementGroup, int batchSize) {
+			this.statementGroup = statementGroup;
+			this.staleStateMappers = new StaleStateMapper[batchSize];
+		}
+	}
+
+	/**
+	 * The row counts returned by one of the statements of a buffer
+	 */
+	private record ExecutedStatement(PreparedStatementDetails statementDetails, int[] rowCounts) {
+	}
+
+	/**
+	 * Carries a failure of a statement back to the flushing thread, to be converted there
+	 */
+	private static class StatementExecutionException extends RuntimeException {
+		private final SQLException sqlException;
+		private final String sql;
+
+		private StatementExecutionException(SQLException sqlException, String sql) {
+			super( sqlException );
+			this.sqlException = sqlException;
+			this.sql = sql;
+		}
+	}
+}
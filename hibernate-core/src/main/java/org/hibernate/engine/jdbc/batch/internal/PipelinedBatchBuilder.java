@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.service.spi.Stoppable;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.BatchBuilder} producing
+ * {@link PipelinedBatch}es, which execute full batches on a background
+ * thread while the next batch is being built.
+ * <p>
+ * The number of background threads is bounded. When every thread is
+ * busy, a batch is executed by the flushing thread itself, exactly as
+ * it would be without pipelining.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+ */
+public class PipelinedBatchBuilder extends BatchBuilderImpl implements Stoppable {
+	private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+	private final ExecutorService executor;
+
+	public PipelinedBatchBuilder(int globalBatchSize) {
+		super( globalBatchSize );
+
+		final AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				0,
+				Runtime.getRuntime().availableProcessors(),
+				THREAD_KEEP_ALIVE_SECONDS,
+				TimeUnit.SECONDS,
+				new SynchronousQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-batch-pipeline-" + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				},
+				// unlike CallerRunsPolicy, this also runs the batch after shutdown,
+				// since the flushing thread is going to wait for it anyway
+				(runnable, pool) -> runnable.run()
+		);
+
+		BATCH_LOGGER.debugf( "Using pipelined BatchBuilder (%s)", globalBatchSize );
+	}
+
+	@Override
+	public Batch buildBatch(
+			BatchKey key,
+			Integer explicitBatchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		final int batchSize = explicitBatchSize == null
+				? getJdbcBatchSize()
+				: explicitBatchSize;
+		assert batchSize > 1;
+
+		return new PipelinedBatch( key, statementGroupSupplier, batchSize, executor, jdbcCoordinator );
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdown();
+	}
+}
@@ -11,6 +11,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -162,6 +163,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		return getBatch(
+				key,
+				jdbcCoordinator -> owner.getJdbcSessionContext().getBatchBuilder()
+						.buildBatch( key, batchSize, statementGroupSupplier, jdbcCoordinator )
+		);
+	}
+
+	@Override
+	public Batch getBatch(BatchKey key, Function<JdbcCoordinator, Batch> batchFactory) {
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -172,8 +182,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			}
 		}
 
-		currentBatch = owner.getJdbcSessionContext().getBatchBuilder()
-				.buildBatch( key, batchSize, statementGroupSupplier, this );
+		currentBatch = batchFactory.apply( this );
 
 		return currentBatch;
 	}
@@ -57,6 +57,11 @@ public abstract class AbstractSingleMutationExecutor extends AbstractMutationExe
 		return mutationOperation.findValueDescriptor( columnName, usage );
 	}
 
+	@Override
+	public int resolveParameterCount(String tableName) {
+		return JdbcValueBindingsImpl.parameterCount( mutationOperation );
+	}
+
 	@Override
 	public JdbcValueBindings getJdbcValueBindings() {
 		return valueBindings;
@@ -4,6 +4,7 @@
  */
 package org.hibernate.engine.jdbc.mutation.internal;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Locale;
@@ -15,9 +16,11 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.UnknownParameterException;
 import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 
 /**
@@ -68,7 +71,10 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 			return existing;
 		}
 
-		final BindingGroup created = new BindingGroup( tableName );
+		final int parameterCount = jdbcValueDescriptorAccess.resolveParameterCount( tableName );
+		final BindingGroup created = parameterCount > 0
+				? new BindingGroup( tableName, parameterCount )
+				: new BindingGroup( tableName );
 		bindingGroupMap.put( tableName, created );
 		return created;
 	}
@@ -80,27 +86,32 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 			statementDetails.resolveStatement();
 		}
 		else {
-			bindingGroup.forEachBinding( (binding) -> {
-				try {
-					binding.getValueBinder().bind(
-							statementDetails.resolveStatement(),
-							binding.getValue(),
-							binding.getPosition(),
-							session
-					);
+			final PreparedStatement statement = statementDetails.resolveStatement();
+			final int maxPosition = bindingGroup.getMaxPosition();
+			for ( int position = 1; position <= maxPosition; position++ ) {
+				final JdbcValueDescriptor valueDescriptor = bindingGroup.getValueDescriptor( position );
+				if ( valueDescriptor != null ) {
+					bindValue( statement, valueDescriptor, bindingGroup.getValue( position ), position );
 				}
-				catch (SQLException e) {
-					throw session.getJdbcServices().getSqlExceptionHelper().convert(
-							e,
-							String.format(
-									Locale.ROOT,
-									"Unable to bind parameter #%s - %s",
-									binding.getPosition(),
-									binding.getValue()
-							)
-					);
-				}
-			} );
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void bindValue(PreparedStatement statement, JdbcValueDescriptor valueDescriptor, Object value, int position) {
+		try {
+			valueDescriptor.getJdbcMapping().getJdbcValueBinder().bind( statement, value, position, session );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					String.format(
+							Locale.ROOT,
+							"Unable to bind parameter #%s - %s",
+							position,
+							value
+					)
+			);
 		}
 	}
 
@@ -124,5 +135,28 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 		}
 
 		JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage);
+
+		/**
+		 * The number of parameters of the statement for the given (physical) table,
+		 * used to size its {@link BindingGroup}, or {@code 0} if unknown
+		 */
+		default int resolveParameterCount(String tableName) {
+			return 0;
+		}
+	}
+
+	/**
+	 * The highest JDBC position among the value descriptors of the given operation,
+	 * that is, the number of parameters of its statement, or {@code 0} if the
+	 * operation is not a JDBC mutation
+	 */
+	public static int parameterCount(MutationOperation operation) {
+		if ( operation instanceof JdbcMutationOperation ) {
+			final JdbcMutationOperation jdbcOperation = (JdbcMutationOperation) operation;
+			// the value descriptors are positioned after the parameters used by the expectation
+			return jdbcOperation.getExpectation().getNumberOfParametersUsed()
+					+ jdbcOperation.getParameterBinders().size();
+		}
+		return 0;
 	}
 }
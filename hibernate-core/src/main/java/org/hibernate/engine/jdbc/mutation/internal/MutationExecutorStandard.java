@@ -185,6 +185,12 @@ public class MutationExecutorStandard extends AbstractMutationExecutor implement
 		return mutationOperationGroup.getOperation( tableName ).findValueDescriptor( columnName, usage );
 	}
 
+	@Override
+	public int resolveParameterCount(String tableName) {
+		final MutationOperation operation = mutationOperationGroup.getOperation( tableName );
+		return operation == null ? 0 : JdbcValueBindingsImpl.parameterCount( operation );
+	}
+
 	@Override
 	public PreparedStatementDetails getPreparedStatementDetails(String tableName) {
 		final StatementLocation statementLocation = statementLocationMap.get( tableName );
@@ -4,28 +4,45 @@
  */
 package org.hibernate.engine.jdbc.mutation.spi;
 
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Consumer;
 
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 
 /**
  * Group of all parameter {@linkplain #getBindings() bindings} for a table.
+ * <p>
+ * Values are held in slots indexed by JDBC parameter position, so that
+ * binding a value allocates nothing once the slots are large enough.
  *
  * @author Steve Ebersole
  */
 public class BindingGroup {
+	private static final int DEFAULT_SLOT_COUNT = 8;
+
 	private final String tableName;
-	private final Set<Binding> bindings;
+
+	// indexed by JDBC position, which is 1-based
+	private Object[] values;
+	private JdbcValueDescriptor[] valueDescriptors;
+	private int maxPosition;
 
 	public BindingGroup(String tableName) {
+		this( tableName, DEFAULT_SLOT_COUNT );
+	}
+
+	/**
+	 * @param expectedBindingCount The number of parameters of the statement,
+	 * used to size the slots
+	 */
+	public BindingGroup(String tableName, int expectedBindingCount) {
 		this.tableName = tableName;
-		// todo (6.2) : TreeSet to log the parameter binding sequentially
-		//		- if we don't care, this can be another type of Set for perf
-		this.bindings = new TreeSet<>( Comparator.comparing( Binding::getPosition ) );
+		final int slotCount = Math.max( expectedBindingCount, 1 ) + 1;
+		this.values = new Object[slotCount];
+		this.valueDescriptors = new JdbcValueDescriptor[slotCount];
 	}
 
 	/**
@@ -36,17 +53,47 @@ public class BindingGroup {
 	}
 
 	/**
-	 * The parameter bindings
+	 * The parameter bindings, ordered by JDBC position
 	 */
 	public Set<Binding> getBindings() {
+		final Set<Binding> bindings = new LinkedHashSet<>();
+		forEachBinding( bindings::add );
 		return bindings;
 	}
 
 	/**
-	 * Visit each parameter binding
+	 * Visit each parameter binding, ordered by JDBC position
 	 */
 	public void forEachBinding(Consumer<Binding> action) {
-		bindings.forEach( action );
+		for ( int position = 1; position <= maxPosition; position++ ) {
+			final JdbcValueDescriptor valueDescriptor = valueDescriptors[position];
+			if ( valueDescriptor != null ) {
+				action.accept( new Binding( valueDescriptor.getColumnName(), values[position], valueDescriptor ) );
+			}
+		}
+	}
+
+	/**
+	 * The highest JDBC position to which a value is bound, or {@code 0}
+	 * if no value is bound
+	 */
+	public int getMaxPosition() {
+		return maxPosition;
+	}
+
+	/**
+	 * The descriptor of the value bound to the given JDBC position, or
+	 * {@code null} if no value is bound to that position
+	 */
+	public JdbcValueDescriptor getValueDescriptor(int position) {
+		return position <= maxPosition ? valueDescriptors[position] : null;
+	}
+
+	/**
+	 * The value bound to the given JDBC position
+	 */
+	public Object getValue(int position) {
+		return position <= maxPosition ? values[position] : null;
 	}
 
 	/**
@@ -54,13 +101,26 @@ public class BindingGroup {
 	 */
 	public void bindValue(String columnName, Object value, JdbcValueDescriptor valueDescriptor) {
 		assert Objects.equals( columnName, valueDescriptor.getColumnName() );
-		bindings.add( new Binding( columnName, value, valueDescriptor ) );
+		final int position = valueDescriptor.getJdbcPosition();
+		if ( position >= valueDescriptors.length ) {
+			final int slotCount = Math.max( position + 1, valueDescriptors.length * 2 );
+			values = Arrays.copyOf( values, slotCount );
+			valueDescriptors = Arrays.copyOf( valueDescriptors, slotCount );
+		}
+		// the first value bound to a position wins
+		if ( valueDescriptors[position] == null ) {
+			values[position] = value;
+			valueDescriptors[position] = valueDescriptor;
+			maxPosition = Math.max( maxPosition, position );
+		}
 	}
 
 	/**
 	 * Clear the {@linkplain #getBindings() bindings}
 	 */
 	public void clear() {
-		bindings.clear();
+		Arrays.fill( values, 0, maxPosition + 1, null );
+		Arrays.fill( valueDescriptors, 0, maxPosition + 1, null );
+		maxPosition = 0;
 	}
 }
@@ -10,8 +10,10 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -53,6 +55,19 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 			Integer batchSize,
 			Supplier<PreparedStatementGroup> statementGroupSupplier);
 
+	/**
+	 * Get the {@linkplain Batch batch} for the supplied key, creating one
+	 * if needed using the supplied {@code batchFactory}, for batches which
+	 * are not simply groups of {@linkplain java.sql.PreparedStatement#addBatch
+	 * JDBC batched statements}.
+	 *
+	 * @implNote Any previous Batch is executed and released prior to returning
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	Batch getBatch(BatchKey key, Function<JdbcCoordinator, Batch> batchFactory);
+
 	/**
 	 * Execute the currently managed batch (if any)
 	 */
@@ -772,6 +772,21 @@ public interface PersistenceContext {
 	 */
 	boolean wasInsertedDuringTransaction(EntityPersister persister, Object id);
 
+	/**
+	 * A {@linkplain org.hibernate.cache.spi.support.SimpleTimestamper timestamp}
+	 * taken before anything was read from the database by the current transaction,
+	 * used to detect reads which raced with an invalidation of the
+	 * {@linkplain org.hibernate.cache.internal.ReferenceDataCache reference data cache}.
+	 * The default, {@code 0}, predates every invalidation, so that nothing read
+	 * by the transaction is put in the reference data cache.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReadTimestamp() {
+		return 0;
+	}
+
 	/**
 	 * Checks if a certain {@link EntityKey} was registered as nullifiable on this {@link PersistenceContext}.
 	 *
@@ -42,6 +42,7 @@ import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.jdbc.Work;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.procedure.ProcedureCall;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
@@ -595,6 +596,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return queryDelegate().createSelectionQuery( criteria );
 	}
 
+	@Override
+	public <R> SelectionQuery<R> createSelectionQuery(CompiledSelectionQuery<R> compiledQuery) {
+		return queryDelegate().createSelectionQuery( compiledQuery );
+	}
+
 	@Override
 	public <T> QueryImplementor<T> createQuery(String queryString, Class<T> resultType) {
 		return queryDelegate().createQuery( queryString, resultType );
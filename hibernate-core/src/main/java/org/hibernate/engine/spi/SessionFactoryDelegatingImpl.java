@@ -43,6 +43,7 @@ import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.relational.SchemaManager;
@@ -372,6 +373,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getCriteriaBuilder();
 	}
 
+	@Override
+	public <R> CompiledSelectionQuery<R> compileSelectionQuery(String hqlString, Class<R> resultType) {
+		return delegate.compileSelectionQuery( hqlString, resultType );
+	}
+
 	@Override @Deprecated
 	public MappingMetamodel getMetamodel() {
 		return (MappingMetamodel) delegate.getMetamodel();
@@ -33,6 +33,7 @@ import org.hibernate.graph.RootGraph;
 import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.jdbc.Work;
 import org.hibernate.procedure.ProcedureCall;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.query.Query;
@@ -678,6 +679,11 @@ public class SessionLazyDelegator implements Session {
 		return this.lazySession.get().createSelectionQuery( criteria );
 	}
 
+	@Override
+	public <R> SelectionQuery<R> createSelectionQuery(CompiledSelectionQuery<R> compiledQuery) {
+		return this.lazySession.get().createSelectionQuery( compiledQuery );
+	}
+
 	@Override
 	public MutationQuery createMutationQuery(String hqlString) {
 		return this.lazySession.get().createMutationQuery( hqlString );
@@ -240,13 +240,18 @@ public abstract class AbstractFlushingEventListener {
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
+		// when the only listener is the default one, we know that it does nothing at all for
+		// entities which can't be dirty, so we may skip them without even creating an event
+		final boolean skipNonDirtyEntities = isDefaultFlushEntityListener( flushListeners );
+
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 			// Update the status of the object and if necessary, schedule an update
 
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( status != Status.LOADING && status != Status.GONE
+					&& !( skipNonDirtyEntities && isUnequivocallyNonDirty( me.getKey(), entry, status ) ) ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
@@ -281,6 +286,34 @@ public abstract class AbstractFlushingEventListener {
 		}
 	}
 
+	private static boolean isDefaultFlushEntityListener(EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		if ( flushListeners.count() != 1 ) {
+			return false;
+		}
+		final boolean[] isDefault = { true };
+		flushListeners.fireEventOnEachListener( isDefault, (listener, result) -> {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				result[0] = false;
+			}
+		} );
+		return isDefault[0];
+	}
+
+	/**
+	 * An entity which is known not to be dirty, typically because it
+	 * {@linkplain org.hibernate.engine.spi.SelfDirtinessTracker tracks its
+	 * own dirtiness} or is read-only, and which has no collections to be
+	 * wrapped or reached, does not need to be visited by the flush.
+	 *
+	 * @see DefaultFlushEntityEventListener#onFlushEntity
+	 */
+	private static boolean isUnequivocallyNonDirty(Object entity, EntityEntry entry, Status status) {
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+			&& !entry.getPersister().hasCollections()
+			&& entry.getLoadedState() != null
+			&& !entry.requiresDirtyCheck( entity );
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
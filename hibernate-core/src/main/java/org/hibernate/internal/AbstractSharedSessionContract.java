@@ -63,6 +63,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.procedure.internal.ProcedureCallImpl;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.IllegalMutationQueryException;
 import org.hibernate.query.IllegalNamedQueryOptionsException;
 import org.hibernate.query.IllegalSelectQueryException;
@@ -83,6 +84,7 @@ import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
 import org.hibernate.query.sqm.SqmSelectionQuery;
+import org.hibernate.query.sqm.internal.CompiledSelectionQueryImpl;
 import org.hibernate.query.sqm.internal.QuerySqmImpl;
 import org.hibernate.query.sqm.internal.SqmSelectionQueryImpl;
 import org.hibernate.query.sqm.internal.SqmUtil;
@@ -867,6 +869,32 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	@Override
+	public <R> SelectionQuery<R> createSelectionQuery(CompiledSelectionQuery<R> compiledQuery) {
+		checkOpen();
+		pulseTransactionCoordinator();
+		delayedAfterCompletion();
+
+		try {
+			final CompiledSelectionQueryImpl<R> compiled = (CompiledSelectionQueryImpl<R>) compiledQuery;
+			if ( compiled.getFactory() != getFactory() ) {
+				throw new IllegalArgumentException( "Query was compiled by a different SessionFactory: '"
+						+ compiled.getQueryString() + "'" );
+			}
+			final SqmSelectionQueryImpl<R> query = new SqmSelectionQueryImpl<>( compiled, this );
+			final Class<R> resultType = compiled.getResultType();
+			if ( resultType != null ) {
+				checkResultType( resultType, query );
+			}
+			applyQuerySettingsAndHints( query );
+			return query;
+		}
+		catch ( RuntimeException e ) {
+			markForRollbackOnly();
+			throw e;
+		}
+	}
+
 	@Override
 	public <T> QueryImplementor<T> createQuery(String queryString, Class<T> expectedResultType) {
 		checkOpen();
@@ -16,6 +16,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.internal.ReferenceDataCache;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
@@ -176,6 +177,8 @@ public final class FastSessionServices {
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
+	// null unless enabled
+	public final ReferenceDataCache referenceDataCache;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -268,6 +271,9 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
+		this.referenceDataCache = sessionFactoryOptions.getReferenceDataCacheSize() > 0
+				? new ReferenceDataCache( sessionFactory, sessionFactoryOptions.getReferenceDataCacheSize() )
+				: null;
 		final Collection<EventManager> eventManagers = classLoaderService.loadJavaServices( EventManager.class );
 		this.eventManager = eventManagers.isEmpty()
 				? new EmptyEventManager()
@@ -7,6 +7,7 @@ package org.hibernate.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
+import org.hibernate.Filter;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.sql.ast.SqlAstWalker;
@@ -15,16 +16,46 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
+ * A JDBC parameter for an argument of an enabled {@linkplain org.hibernate.Filter filter}.
+ * <p>
+ * Since the SQL of a query may be cached and executed again in a session with
+ * different filter arguments, the argument is read from the filter enabled in the
+ * session when it is bound. The value the SQL was rendered with is only used if
+ * the filter is not enabled in the session.
+ *
  * @author Nathan Xu
  */
 public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final @Nullable String filterName;
+	private final @Nullable String parameterName;
+	private final int elementIndex;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * @param elementIndex the index of the element, if the argument is a
+	 *                     collection of values, or {@code -1} otherwise
+	 *
+	 * @since 7.0
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			@Nullable String filterName,
+			@Nullable String parameterName,
+			int elementIndex) {
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.elementIndex = elementIndex;
 	}
 
 	@Override
@@ -36,13 +67,35 @@ public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( getArgument( executionContext ) ),
 				startPosition,
 				executionContext.getSession()
 		);
 
 	}
 
+	private Object getArgument(ExecutionContext executionContext) {
+		if ( filterName != null && parameterName != null ) {
+			final Filter filter =
+					executionContext.getSession().getLoadQueryInfluencers().getEnabledFilter( filterName );
+			if ( filter != null ) {
+				final Object argument = filter.getParameterValue( parameterName );
+				if ( elementIndex < 0 ) {
+					return argument;
+				}
+				else if ( argument instanceof Iterable<?> values ) {
+					int index = 0;
+					for ( Object value : values ) {
+						if ( index++ == elementIndex ) {
+							return value;
+						}
+					}
+				}
+			}
+		}
+		return jdbcParameterValue;
+	}
+
 	@Override
 	public JdbcMappingContainer getExpressionType() {
 		return jdbcMapping;
@@ -87,6 +87,7 @@ import org.hibernate.persister.entity.SessionFactoryBasedWrapperOptions;
 import org.hibernate.procedure.spi.ProcedureCallImplementor;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.CompiledSelectionQuery;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.internal.QueryEngineImpl;
 import org.hibernate.query.named.NamedObjectRepository;
@@ -95,6 +96,7 @@ import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.query.sqm.internal.CompiledSelectionQueryImpl;
 import org.hibernate.relational.SchemaManager;
 import org.hibernate.relational.internal.SchemaManagerImpl;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
@@ -637,6 +639,12 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		return queryEngine.getCriteriaBuilder();
 	}
 
+	@Override
+	public <R> CompiledSelectionQuery<R> compileSelectionQuery(String hqlString, Class<R> resultType) {
+		validateNotClosed();
+		return new CompiledSelectionQueryImpl<>( hqlString, resultType, this );
+	}
+
 	@Override
 	public MappingMetamodel getMetamodel() {
 		validateNotClosed();
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -173,6 +174,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public void insertMultiple(List<?> entities) {
+		inSingleBatch( entities, entity -> insert( null, entity ) );
+	}
+
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -207,6 +213,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		inSingleBatch( entities, entity -> delete( null, entity ) );
+	}
+
 	// updates ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -257,6 +268,40 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	}
 
+	@Override
+	public void updateMultiple(List<?> entities) {
+		inSingleBatch( entities, entity -> update( null, entity ) );
+	}
+
+	/**
+	 * Apply the given operation to each of the given entities, with a JDBC batch
+	 * size large enough to hold all the statements, and execute the last batch.
+	 * This is only a single batch when every statement is the same: the batch
+	 * is executed early whenever the next statement differs, for example, when
+	 * entities of different types are interleaved. If anything goes wrong, the
+	 * pending batch is aborted. The JDBC batch size of the session is restored
+	 * afterward.
+	 */
+	private void inSingleBatch(List<?> entities, Consumer<Object> operation) {
+		checkOpen();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		setJdbcBatchSize( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch ( RuntimeException e ) {
+			// don't leave the statements for the remaining entities hanging around
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 	@Override
 	public void upsert(String entityName, Object entity) {
 		checkOpen();
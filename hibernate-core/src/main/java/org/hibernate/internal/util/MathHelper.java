@@ -22,6 +22,27 @@ public final class MathHelper {
 		return 1 << -Integer.numberOfLeadingZeros(value - 1);
 	}
 
+	/**
+	 * Returns the smallest power of two number that is greater than or equal to {@code value},
+	 * or, if that would exceed the given positive {@code limit}, the smallest multiple of the
+	 * limit by a power of two that is greater than or equal to {@code value}.
+	 * <p>
+	 * This is the number of elements of an {@code in} list padded to a power of two, when the
+	 * database limits the number of elements of a single list.
+	 *
+	 * @param value reference number
+	 * @param limit the limit, or a non-positive number if there is no limit
+	 */
+	public static int ceilingPowerOfTwo(int value, int limit) {
+		final int ceilingPowerOfTwo = ceilingPowerOfTwo( value );
+		if ( limit <= 0 || ceilingPowerOfTwo <= limit ) {
+			return ceilingPowerOfTwo;
+		}
+		else {
+			return ceilingPowerOfTwo( divideRoundingUp( value, limit ) ) * limit;
+		}
+	}
+
 	/**
 	 * Returns the result of dividing a positive {@code numerator} by a positive {@code denominator} rounded up.
 	 * <p>
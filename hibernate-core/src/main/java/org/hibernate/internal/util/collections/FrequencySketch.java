@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+/**
+ * A probabilistic estimate of how often each key has been used recently: a
+ * Count-Min sketch with four 4-bit counters per key, packed sixteen to a
+ * {@code long}. When the number of increments reaches ten times the size of
+ * the cache, every counter is halved, so that the estimates favor recent use.
+ * <p>
+ * This is the admission filter of {@link TinyLfuCache}. It is not thread-safe,
+ * and is only ever accessed under the eviction lock of the cache.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+	private static final int MAXIMUM_TABLE_LENGTH = 1 << 22;
+
+	private final int tableLength;
+	private final int sampleSize;
+	// allocated on first use, since many regions of a cache are never used
+	private long[] table;
+	private int size;
+
+	FrequencySketch(long maximumSize) {
+		final long keysPerLong = 4;
+		final long length = Math.max( 8, Math.min( maximumSize / keysPerLong, MAXIMUM_TABLE_LENGTH ) );
+		this.tableLength = Integer.highestOneBit( (int) length - 1 ) << 1;
+		this.sampleSize = (int) Math.min( 10L * Math.max( maximumSize, 1 ), Integer.MAX_VALUE );
+	}
+
+	/**
+	 * The estimated number of recent uses of the given key, at most 15.
+	 */
+	int frequency(Object key) {
+		if ( table == null ) {
+			return 0;
+		}
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record a use of the given key.
+	 */
+	void increment(Object key) {
+		if ( table == null ) {
+			table = new long[tableLength];
+		}
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		else {
+			// saturated
+			return false;
+		}
+	}
+
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = ( size >>> 1 ) - ( odd >>> 2 );
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h += h >>> 32;
+		return (int) h & ( tableLength - 1 );
+	}
+
+	private static int spread(int x) {
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		return ( x >>> 16 ) ^ x;
+	}
+}
@@ -0,0 +1,496 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} based on open addressing with linear probing: keys, values and
+ * key hashes are held in flat arrays, instead of in one node object per entry
+ * as in {@link java.util.HashMap}. This roughly halves the memory needed per
+ * entry, and produces no garbage on insertion other than when resizing.
+ * <p>
+ * The (mixed) hash of each key is kept alongside it, so that {@code equals()}
+ * is only ever called on keys with a matching hash; this makes the map a good
+ * fit for keys with a cached hash and an expensive {@code equals()}, such as
+ * {@link org.hibernate.engine.spi.EntityKey}.
+ * <p>
+ * Removal uses backward shifting, so no tombstones are left behind. Removal
+ * through the iterators of the collection views is supported.
+ * <p>
+ * {@code null} keys are not supported. This class is not thread-safe.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class OpenAddressingMap<K, V> extends AbstractMap<K, V> {
+	private static final int MIN_CAPACITY = 8;
+	private static final float LOAD_FACTOR = 0.75f;
+
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+	private int mask;
+	private int threshold;
+	private int size;
+	private int modCount;
+
+	private Set<K> keySet;
+	private Collection<V> valuesCollection;
+	private Set<Map.Entry<K, V>> entrySet;
+
+	public OpenAddressingMap() {
+		this( MIN_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize the number of entries the map should accommodate without resizing
+	 */
+	public OpenAddressingMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		final int minimum = (int) Math.ceil( Math.max( expectedSize, 1 ) / LOAD_FACTOR );
+		final int capacity = Integer.highestOneBit( Math.max( minimum, MIN_CAPACITY ) - 1 ) << 1;
+		if ( capacity <= 0 ) {
+			throw new IllegalArgumentException( "Map too large: " + expectedSize );
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		threshold = (int) ( capacity * LOAD_FACTOR );
+	}
+
+	private static int hash(Object key) {
+		// spread the bits, since we use the low bits as index and probe linearly
+		final int h = key.hashCode() * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private int indexOf(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final int hash = hash( key );
+		final Object[] keys = this.keys;
+		final int[] hashes = this.hashes;
+		for ( int index = hash & mask; ; index = ( index + 1 ) & mask ) {
+			final Object candidate = keys[index];
+			if ( candidate == null ) {
+				return -1;
+			}
+			else if ( hashes[index] == hash && ( candidate == key || candidate.equals( key ) ) ) {
+				return index;
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] keys = this.keys;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null && Objects.equals( values[i], value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new NullPointerException( "Null keys are not supported" );
+		}
+		final int hash = hash( key );
+		int index = hash & mask;
+		for ( Object candidate; ( candidate = keys[index] ) != null; index = ( index + 1 ) & mask ) {
+			if ( hashes[index] == hash && ( candidate == key || candidate.equals( key ) ) ) {
+				final V previous = (V) values[index];
+				values[index] = value;
+				return previous;
+			}
+		}
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		modCount++;
+		if ( ++size > threshold ) {
+			resize( keys.length << 1 );
+		}
+		return null;
+	}
+
+	private void resize(int capacity) {
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		allocate( capacity );
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			if ( oldKeys[i] != null ) {
+				int index = oldHashes[i] & mask;
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V previous = (V) values[index];
+		removeAt( index, null );
+		return previous;
+	}
+
+	/**
+	 * Remove the entry at the given index, shifting back the entries that follow it
+	 * in the same probe sequence.
+	 *
+	 * @param wrapped if not null, collects the keys which were shifted from the
+	 * start of the table to its end, and would thus be missed by an iterator going
+	 * backward through the table
+	 */
+	private void removeAt(int index, ArrayList<Object> wrapped) {
+		size--;
+		modCount++;
+		int last = index;
+		while ( true ) {
+			int current = ( last + 1 ) & mask;
+			while ( true ) {
+				if ( keys[current] == null ) {
+					keys[last] = null;
+					values[last] = null;
+					return;
+				}
+				final int home = hashes[current] & mask;
+				// the entry can be moved to 'last' unless its home slot lies cyclically in (last, current]
+				if ( last <= current ? last >= home || home > current : last >= home && home > current ) {
+					break;
+				}
+				current = ( current + 1 ) & mask;
+			}
+			if ( wrapped != null && current < last ) {
+				wrapped.add( keys[current] );
+			}
+			keys[last] = keys[current];
+			values[last] = values[current];
+			hashes[last] = hashes[current];
+			last = current;
+		}
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		final Object[] keys = this.keys;
+		final Object[] values = this.values;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				action.accept( (K) keys[i], (V) values[i] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new AbstractSet<>() {
+				@Override
+				public Iterator<K> iterator() {
+					return new TableIterator<>() {
+						@Override
+						@SuppressWarnings("unchecked")
+						K element(int index) {
+							return (K) keys[index];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsKey( o );
+				}
+
+				@Override
+				public boolean remove(Object o) {
+					final int index = indexOf( o );
+					if ( index < 0 ) {
+						return false;
+					}
+					removeAt( index, null );
+					return true;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valuesCollection == null ) {
+			valuesCollection = new AbstractCollection<>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new TableIterator<>() {
+						@Override
+						@SuppressWarnings("unchecked")
+						V element(int index) {
+							return (V) values[index];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsValue( o );
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return valuesCollection;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new TableIterator<>() {
+						@Override
+						Map.Entry<K, V> element(int index) {
+							return new Entry( index );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					if ( o instanceof Map.Entry<?, ?> entry ) {
+						final int index = indexOf( entry.getKey() );
+						return index >= 0 && Objects.equals( values[index], entry.getValue() );
+					}
+					return false;
+				}
+
+				@Override
+				public boolean remove(Object o) {
+					if ( contains( o ) ) {
+						removeAt( indexOf( ( (Map.Entry<?, ?>) o ).getKey() ), null );
+						return true;
+					}
+					return false;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Iterates the table backward, so that entries shifted back by a removal
+	 * through {@link #remove()} are not visited twice. Entries shifted from the
+	 * start of the table to its end are collected and visited last.
+	 */
+	private abstract class TableIterator<E> implements Iterator<E> {
+		private int position = keys.length;
+		private int lastReturned = -1;
+		private int remaining = size;
+		private int expectedModCount = modCount;
+		private ArrayList<Object> wrapped;
+		private int wrappedPosition = -1;
+
+		abstract E element(int index);
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( remaining == 0 ) {
+				throw new NoSuchElementException();
+			}
+			remaining--;
+			while ( --position >= 0 ) {
+				if ( keys[position] != null ) {
+					lastReturned = position;
+					return element( position );
+				}
+			}
+			// the table is exhausted: what remains are the entries which got wrapped around
+			lastReturned = indexOf( wrapped.get( ++wrappedPosition ) );
+			return element( lastReturned );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastReturned < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( position >= 0 ) {
+				if ( wrapped == null ) {
+					wrapped = new ArrayList<>( 2 );
+				}
+				removeAt( lastReturned, wrapped );
+			}
+			else {
+				removeAt( lastReturned, null );
+			}
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	/**
+	 * An entry which remembers its key and value, and writes through to the table on
+	 * {@link #setValue}, as long as the map is not structurally modified.
+	 */
+	private final class Entry implements Map.Entry<K, V> {
+		private final int index;
+		private final K key;
+		private V value;
+
+		@SuppressWarnings("unchecked")
+		private Entry(int index) {
+			this.index = index;
+			this.key = (K) keys[index];
+			this.value = (V) values[index];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final V previous = this.value;
+			values[index] = value;
+			this.value = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Map.Entry<?, ?> entry
+					&& Objects.equals( getKey(), entry.getKey() )
+					&& Objects.equals( getValue(), entry.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( getKey() ) ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
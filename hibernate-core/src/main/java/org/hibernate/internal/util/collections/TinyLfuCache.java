@@ -0,0 +1,507 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A concurrent cache bounded by a maximum number of entries, which uses the
+ * W-TinyLFU policy to decide which entries to evict, and which optionally
+ * expires entries a fixed time after they were written.
+ * <p>
+ * Entries live in a {@link ConcurrentHashMap}, so reads never block. The
+ * eviction policy is maintained under a lock, but reads merely record the
+ * access in a lossy, striped ring buffer, and writes in a queue, which are
+ * replayed against the policy by whichever thread manages to acquire the lock.
+ * <p>
+ * The policy is split in a small admission window (1% of the entries) and a
+ * main space, both ordered by recency of access. The main space is itself
+ * split in a protected segment, for entries which were accessed at least
+ * twice, and a probation segment. An entry overflowing from the window is
+ * only admitted to the main space if its estimated {@linkplain FrequencySketch
+ * frequency} of use is higher than that of the entry which would be evicted
+ * in its place. This keeps the cache from being flushed by a scan, while the
+ * window still lets bursts of new entries in.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ *
+ * @since 7.0
+ */
+public final class TinyLfuCache<K, V> {
+	private static final byte NONE = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int STRIPES =
+			Integer.highestOneBit( Math.min( 64, 4 * Runtime.getRuntime().availableProcessors() ) );
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final long maximumSize;
+	private final long timeToLiveNanos;
+	private final LongSupplier ticker;
+	private final LongAdder evictionCount = new LongAdder();
+	private final @Nullable Consumer<? super K> evictionListener;
+
+	private final AtomicReferenceArray<Node<K, V>> readBuffer =
+			new AtomicReferenceArray<>( STRIPES * READ_BUFFER_SIZE );
+	private final AtomicLongArray readBufferWrites = new AtomicLongArray( STRIPES );
+	private final AtomicLongArray readBufferReads = new AtomicLongArray( STRIPES );
+	private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+	private volatile boolean drainRequired;
+
+	// guarded by the eviction lock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+	private final long windowMaximum;
+	private final long protectedMaximum;
+	private long windowSize;
+	private long protectedSize;
+	private long size;
+
+	/**
+	 * @param maximumSize the maximum number of entries
+	 */
+	public TinyLfuCache(long maximumSize) {
+		this( maximumSize, 0, System::nanoTime );
+	}
+
+	/**
+	 * @param maximumSize the maximum number of entries
+	 * @param timeToLiveNanos the time after which an entry expires once written,
+	 * in nanoseconds, or {@code 0} if entries never expire
+	 * @param ticker the source of the current time, in nanoseconds
+	 */
+	public TinyLfuCache(long maximumSize, long timeToLiveNanos, LongSupplier ticker) {
+		this( maximumSize, timeToLiveNanos, ticker, null );
+	}
+
+	/**
+	 * @param maximumSize the maximum number of entries
+	 * @param timeToLiveNanos the time after which an entry expires once written,
+	 * in nanoseconds, or {@code 0} if entries never expire
+	 * @param ticker the source of the current time, in nanoseconds
+	 * @param evictionListener called with the key of each evicted entry, by the
+	 * thread which evicted it, possibly while holding the eviction lock
+	 */
+	public TinyLfuCache(
+			long maximumSize,
+			long timeToLiveNanos,
+			LongSupplier ticker,
+			@Nullable Consumer<? super K> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		if ( timeToLiveNanos < 0 ) {
+			throw new IllegalArgumentException( "Time to live must not be negative" );
+		}
+		this.maximumSize = maximumSize;
+		this.timeToLiveNanos = timeToLiveNanos;
+		this.ticker = ticker;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( (int) Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.windowMaximum = Math.max( 1, maximumSize / 100 );
+		this.protectedMaximum = (long) ( ( maximumSize - windowMaximum ) * 0.8 );
+	}
+
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * The number of entries, which might exceed the maximum size for a short
+	 * while, until pending evictions are processed.
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * The number of entries evicted to respect the maximum size, or because
+	 * they expired.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Does the cache contain an entry for the given key? This does not count as
+	 * an access for the purpose of eviction.
+	 */
+	public boolean containsKey(K key) {
+		final Node<K, V> node = data.get( key );
+		return node != null && !isExpired( node );
+	}
+
+	/**
+	 * The value for the given key, or {@code null} if there is none.
+	 */
+	public @Nullable V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		else if ( isExpired( node ) ) {
+			if ( data.remove( key, node ) ) {
+				onEvicted( node );
+				afterWrite( () -> onRemove( node ) );
+			}
+			return null;
+		}
+		else {
+			afterRead( node );
+			return node.value;
+		}
+	}
+
+	/**
+	 * Call the given action with the key of each entry which has not expired.
+	 * The iteration is weakly consistent, and does not count as an access.
+	 */
+	public void forEachKey(Consumer<? super K> action) {
+		for ( Node<K, V> node : data.values() ) {
+			if ( !isExpired( node ) ) {
+				action.accept( node.key );
+			}
+		}
+	}
+
+	/**
+	 * The value for the given key, computing it if there is none.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V value = get( key );
+		if ( value != null ) {
+			return value;
+		}
+		else {
+			final V computed = mappingFunction.apply( key );
+			if ( computed != null ) {
+				put( key, computed );
+			}
+			return computed;
+		}
+	}
+
+	/**
+	 * Associate the given value with the given key.
+	 */
+	public void put(K key, V value) {
+		final long now = ticker.getAsLong();
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			final Node<K, V> created = new Node<>( key, value, now );
+			final Node<K, V> existing = data.putIfAbsent( key, created );
+			if ( existing == null ) {
+				afterWrite( () -> onAdd( created ) );
+			}
+			else {
+				update( existing, value, now );
+			}
+		}
+		else {
+			update( node, value, now );
+		}
+	}
+
+	private void update(Node<K, V> node, V value, long now) {
+		node.value = value;
+		node.writeTime = now;
+		afterRead( node );
+	}
+
+	/**
+	 * Remove the entry for the given key, if any.
+	 */
+	public void remove(K key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node != null ) {
+			afterWrite( () -> onRemove( node ) );
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public void clear() {
+		evictionLock.lock();
+		try {
+			maintenance();
+			for ( Node<K, V> node : data.values() ) {
+				if ( data.remove( node.key, node ) ) {
+					onRemove( node );
+				}
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private boolean isExpired(Node<K, V> node) {
+		return timeToLiveNanos > 0 && ticker.getAsLong() - node.writeTime >= timeToLiveNanos;
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final int stripe = Thread.currentThread().hashCode() & ( STRIPES - 1 );
+		final long writes = readBufferWrites.get( stripe );
+		if ( writes - readBufferReads.get( stripe ) >= READ_BUFFER_SIZE ) {
+			// the buffer is full, so this access is not recorded
+			drainRequired = true;
+			tryDrain();
+		}
+		else if ( readBufferWrites.compareAndSet( stripe, writes, writes + 1 ) ) {
+			readBuffer.lazySet( stripe * READ_BUFFER_SIZE + (int) ( writes & READ_BUFFER_MASK ), node );
+		}
+		// else another thread won the slot, and this access is not recorded
+	}
+
+	private void afterWrite(Runnable task) {
+		writeBuffer.add( task );
+		drainRequired = true;
+		tryDrain();
+	}
+
+	private void tryDrain() {
+		// a thread which fails to acquire the lock relies on its holder seeing
+		// the flag it raised after releasing it
+		while ( drainRequired && evictionLock.tryLock() ) {
+			try {
+				drainRequired = false;
+				maintenance();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void maintenance() {
+		drainReadBuffer();
+		Runnable task;
+		while ( ( task = writeBuffer.poll() ) != null ) {
+			task.run();
+		}
+		evictEntries();
+	}
+
+	private void drainReadBuffer() {
+		for ( int stripe = 0; stripe < STRIPES; stripe++ ) {
+			long reads = readBufferReads.get( stripe );
+			final long writes = readBufferWrites.get( stripe );
+			for ( ; reads < writes; reads++ ) {
+				final int index = stripe * READ_BUFFER_SIZE + (int) ( reads & READ_BUFFER_MASK );
+				final Node<K, V> node = readBuffer.get( index );
+				if ( node == null ) {
+					// the slot was claimed, but not yet filled
+					break;
+				}
+				readBuffer.lazySet( index, null );
+				onAccess( node );
+			}
+			readBufferReads.lazySet( stripe, reads );
+		}
+	}
+
+	private void onAdd(Node<K, V> node) {
+		if ( !node.removed ) {
+			sketch.increment( node.key );
+			node.segment = WINDOW;
+			window.addLast( node );
+			windowSize++;
+			size++;
+		}
+	}
+
+	private void onRemove(Node<K, V> node) {
+		unlink( node );
+		// if the node was not yet added, this keeps it from being added later
+		node.removed = true;
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.segment ) {
+			case WINDOW:
+				sketch.increment( node.key );
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				sketch.increment( node.key );
+				probation.remove( node );
+				node.segment = PROTECTED;
+				protectedSegment.addLast( node );
+				protectedSize++;
+				if ( protectedSize > protectedMaximum ) {
+					final Node<K, V> demoted = protectedSegment.pollFirst();
+					protectedSize--;
+					demoted.segment = PROBATION;
+					probation.addLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				sketch.increment( node.key );
+				protectedSegment.moveToBack( node );
+				break;
+			default:
+				// the node was removed, or is not yet added
+		}
+	}
+
+	private void evictEntries() {
+		// entries overflowing from the window become candidates for admission to the main space
+		while ( windowSize > windowMaximum ) {
+			final Node<K, V> node = window.pollFirst();
+			windowSize--;
+			node.segment = PROBATION;
+			probation.addLast( node );
+		}
+		while ( size > maximumSize ) {
+			final Node<K, V> victim = probation.peekFirst();
+			final Node<K, V> candidate = probation.peekLast();
+			if ( victim == null ) {
+				final Node<K, V> first = protectedSegment.peekFirst();
+				evict( first == null ? window.peekFirst() : first );
+			}
+			else if ( candidate == victim ) {
+				evict( victim );
+			}
+			else {
+				// the most recent candidate is admitted only if it's used more often than the victim
+				evict( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ? victim : candidate );
+			}
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		unlink( node );
+		node.removed = true;
+		if ( data.remove( node.key, node ) ) {
+			onEvicted( node );
+		}
+	}
+
+	private void onEvicted(Node<K, V> node) {
+		evictionCount.increment();
+		if ( evictionListener != null ) {
+			evictionListener.accept( node.key );
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.segment ) {
+			case WINDOW:
+				window.remove( node );
+				windowSize--;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				protectedSize--;
+				break;
+			default:
+				return;
+		}
+		node.segment = NONE;
+		size--;
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+		private volatile long writeTime;
+
+		// guarded by the eviction lock
+		private Node<K, V> previous;
+		private Node<K, V> next;
+		private byte segment = NONE;
+		private boolean removed;
+
+		private Node(K key, V value, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.writeTime = writeTime;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes, linked through the nodes themselves
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		Node<K, V> peekFirst() {
+			return first;
+		}
+
+		Node<K, V> peekLast() {
+			return last;
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+	}
+}
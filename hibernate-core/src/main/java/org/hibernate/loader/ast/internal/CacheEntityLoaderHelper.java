@@ -9,6 +9,8 @@ import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.cache.internal.ReferenceDataCache;
+import org.hibernate.cache.internal.ReferenceDataCache.CachedReference;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -210,7 +212,8 @@ public class CacheEntityLoaderHelper {
 	}
 
 	/**
-	 * Attempts to load the entity from the second-level cache.
+	 * Attempts to load the entity from the {@linkplain ReferenceDataCache reference
+	 * data cache}, if applicable, or from the second-level cache.
 	 *
 	 * @param source The source
 	 * @param entity The entity
@@ -226,6 +229,15 @@ public class CacheEntityLoaderHelper {
 			final LockMode lockMode,
 			final EntityPersister persister,
 			final EntityKey entityKey) {
+		if ( entity == null
+				&& persister.canUseReferenceDataCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ ) ) {
+			final Object reference = loadFromReferenceDataCache( source, persister, entityKey );
+			if ( reference != null ) {
+				return reference;
+			}
+		}
 		final boolean useCache =
 				persister.canReadFromCache()
 						&& source.getCacheMode().isGetEnabled()
@@ -242,6 +254,37 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	private Object loadFromReferenceDataCache(
+			final EventSource source,
+			final EntityPersister persister,
+			final EntityKey entityKey) {
+		final ReferenceDataCache referenceDataCache =
+				source.getFactory().getFastSessionServices().referenceDataCache;
+		final CachedReference reference =
+				referenceDataCache == null
+						? null
+						: referenceDataCache.get( entityKey, source.getTenantIdentifierValue() );
+		if ( reference == null || !persister.isInstance( reference.getInstance() ) ) {
+			return null;
+		}
+		else {
+			final Object entity = reference.getInstance();
+			// the instance is shared with other sessions, so it's always read-only
+			source.getPersistenceContextInternal().addEntity(
+					entity,
+					Status.READ_ONLY,
+					reference.copyLoadedState(),
+					entityKey,
+					reference.getVersion(),
+					LockMode.NONE,
+					true,
+					reference.getSubclassPersister(),
+					false
+			);
+			return entity;
+		}
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
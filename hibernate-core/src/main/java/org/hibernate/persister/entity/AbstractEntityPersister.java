@@ -337,8 +337,9 @@ public abstract class AbstractEntityPersister
 
 	private final String sqlAliasStem;
 
-	private SingleIdEntityLoader<?> singleIdLoader;
-	private MultiIdEntityLoader<?> multiIdLoader;
+	// built lazily if lazyInitialization is enabled
+	private volatile SingleIdEntityLoader<?> singleIdLoader;
+	private volatile MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
 
@@ -389,10 +390,12 @@ public abstract class AbstractEntityPersister
 	private String sqlVersionSelectString;
 
 	private EntityTableMapping[] tableMappings;
-	private InsertCoordinator insertCoordinator;
-	private UpdateCoordinator updateCoordinator;
-	private DeleteCoordinator deleteCoordinator;
-	private UpdateCoordinator mergeCoordinator;
+	// built lazily if lazyInitialization is enabled
+	private volatile InsertCoordinator insertCoordinator;
+	private volatile UpdateCoordinator updateCoordinator;
+	private volatile DeleteCoordinator deleteCoordinator;
+	private volatile UpdateCoordinator mergeCoordinator;
+	private final boolean lazyInitialization;
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
@@ -405,6 +408,7 @@ public abstract class AbstractEntityPersister
 	private final boolean invalidateCache;
 	private final boolean isLazyPropertiesCacheable;
 	private final boolean useReferenceCacheEntries;
+	private final boolean useReferenceDataCache;
 	private final boolean useShallowQueryCacheLayout;
 	private final boolean storeDiscriminatorInShallowQueryCacheLayout;
 
@@ -481,6 +485,7 @@ public abstract class AbstractEntityPersister
 		navigableRole = new NavigableRole( persistentClass.getEntityName() );
 
 		final SessionFactoryOptions sessionFactoryOptions = creationContext.getSessionFactoryOptions();
+		lazyInitialization = sessionFactoryOptions.isLazyPersisterInitializationEnabled();
 
 		if ( sessionFactoryOptions.isSecondLevelCacheEnabled() ) {
 			this.cacheAccessStrategy = cacheAccessStrategy;
@@ -754,6 +759,7 @@ public abstract class AbstractEntityPersister
 		}
 
 		useReferenceCacheEntries = shouldUseReferenceCacheEntries( creationContext.getSessionFactoryOptions() );
+		useReferenceDataCache = shouldUseReferenceDataCache( creationContext.getSessionFactoryOptions() );
 		useShallowQueryCacheLayout = shouldUseShallowCacheLayout(
 				persistentClass.getQueryCacheLayout(),
 				creationContext.getSessionFactoryOptions()
@@ -885,11 +891,21 @@ public abstract class AbstractEntityPersister
 	private boolean shouldUseReferenceCacheEntries(SessionFactoryOptions options) {
 		// Check if we can use Reference Cached entities in 2lc
 		// todo : should really validate that the cache access type is read-only
-		if ( !options.isDirectReferenceCacheEntriesEnabled() ) {
-			return false;
-		}
+		return options.isDirectReferenceCacheEntriesEnabled()
+			&& isImmutableWithoutAssociations();
+	}
+
+	private boolean shouldUseReferenceDataCache(SessionFactoryOptions options) {
+		// the instances are shared between sessions, so they must not have
+		// an interceptor which lazily fetches attributes from a session
+		return options.getReferenceDataCacheSize() > 0
+			&& isImmutableWithoutAssociations()
+			&& !entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading();
+	}
+
+	private boolean isImmutableWithoutAssociations() {
 		// for now, limit this to just entities that:
-		else if ( entityMetamodel.isMutable() ) {
+		if ( entityMetamodel.isMutable() ) {
 			// 1) are immutable
 			return false;
 		}
@@ -1002,24 +1018,48 @@ public abstract class AbstractEntityPersister
 		return lazyLoadPlanByFetchGroup.get( fetchGroup );
 	}
 
+	// With lazy initialization, a coordinator or loader might be built twice
+	// by concurrent threads, but the instances are equivalent, and the one
+	// which is published last wins
+
 	@Override
 	public InsertCoordinator getInsertCoordinator() {
-		return insertCoordinator;
+		InsertCoordinator coordinator = insertCoordinator;
+		if ( coordinator == null ) {
+			coordinator = buildInsertCoordinator();
+			insertCoordinator = coordinator;
+		}
+		return coordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getUpdateCoordinator() {
-		return updateCoordinator;
+		UpdateCoordinator coordinator = updateCoordinator;
+		if ( coordinator == null ) {
+			coordinator = buildUpdateCoordinator();
+			updateCoordinator = coordinator;
+		}
+		return coordinator;
 	}
 
 	@Override
 	public DeleteCoordinator getDeleteCoordinator() {
-		return deleteCoordinator;
+		DeleteCoordinator coordinator = deleteCoordinator;
+		if ( coordinator == null ) {
+			coordinator = buildDeleteCoordinator();
+			deleteCoordinator = coordinator;
+		}
+		return coordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getMergeCoordinator() {
-		return mergeCoordinator;
+		UpdateCoordinator coordinator = mergeCoordinator;
+		if ( coordinator == null ) {
+			coordinator = buildMergeCoordinator();
+			mergeCoordinator = coordinator;
+		}
+		return coordinator;
 	}
 
 	public String getVersionSelectString() {
@@ -1140,6 +1180,11 @@ public abstract class AbstractEntityPersister
 		return useReferenceCacheEntries;
 	}
 
+	@Override
+	public boolean canUseReferenceDataCache() {
+		return useReferenceDataCache;
+	}
+
 	@Override
 	public boolean useShallowQueryCacheLayout() {
 		return useShallowQueryCacheLayout;
@@ -2008,7 +2053,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2052,7 +2097,7 @@ public abstract class AbstractEntityPersister
 	public Object forceVersionIncrement(Object id, Object currentVersion, SharedSessionContractImplementor session) {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 		return nextVersion;
 	}
 
@@ -2064,7 +2109,7 @@ public abstract class AbstractEntityPersister
 			SharedSessionContractImplementor session) throws HibernateException {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -2734,7 +2779,9 @@ public abstract class AbstractEntityPersister
 			}
 
 			{
-				final MutationOperationGroup staticInsertGroup = insertCoordinator.getStaticMutationOperationGroup();
+				// with lazy initialization, log only what was already built
+				final MutationOperationGroup staticInsertGroup =
+						insertCoordinator == null ? null : insertCoordinator.getStaticMutationOperationGroup();
 				if ( staticInsertGroup != null ) {
 					for ( int i = 0; i < staticInsertGroup.getNumberOfOperations(); i++ ) {
 						final MutationOperation mutation = staticInsertGroup.getOperation( i );
@@ -2746,7 +2793,8 @@ public abstract class AbstractEntityPersister
 			}
 
 			{
-				final MutationOperationGroup staticUpdateGroup = updateCoordinator.getStaticMutationOperationGroup();
+				final MutationOperationGroup staticUpdateGroup =
+						updateCoordinator == null ? null : updateCoordinator.getStaticMutationOperationGroup();
 				if ( staticUpdateGroup != null ) {
 					for ( int i = 0; i < staticUpdateGroup.getNumberOfOperations(); i++ ) {
 						final MutationOperation mutation = staticUpdateGroup.getOperation( i );
@@ -2758,7 +2806,8 @@ public abstract class AbstractEntityPersister
 			}
 
 			{
-				final MutationOperationGroup staticDeleteGroup = deleteCoordinator.getStaticMutationOperationGroup();
+				final MutationOperationGroup staticDeleteGroup =
+						deleteCoordinator == null ? null : deleteCoordinator.getStaticMutationOperationGroup();
 				if ( staticDeleteGroup != null ) {
 					for ( int i = 0; i < staticDeleteGroup.getNumberOfOperations(); i++ ) {
 						final MutationOperation mutation = staticDeleteGroup.getOperation( i );
@@ -3170,8 +3219,11 @@ public abstract class AbstractEntityPersister
 	@Override
 	public void prepareLoaders() {
 		// Hibernate Reactive needs to override the loaders
-		singleIdLoader = buildSingleIdEntityLoader();
-		multiIdLoader = buildMultiIdLoader();
+		// a named query loader must be built while the boot model is available
+		if ( !lazyInitialization || hasNamedQueryLoader() ) {
+			singleIdLoader = buildSingleIdEntityLoader();
+			multiIdLoader = buildMultiIdLoader();
+		}
 
 		lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
 
@@ -3205,10 +3257,12 @@ public abstract class AbstractEntityPersister
 			updateGeneratedValuesProcessor = createGeneratedValuesProcessor( UPDATE, updateGeneratedAttributes );
 		}
 
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
-		mergeCoordinator = buildMergeCoordinator();
+		if ( !lazyInitialization ) {
+			insertCoordinator = buildInsertCoordinator();
+			updateCoordinator = buildUpdateCoordinator();
+			deleteCoordinator = buildDeleteCoordinator();
+			mergeCoordinator = buildMergeCoordinator();
+		}
 
 		//select SQL
 		sqlVersionSelectString = generateSelectVersionString();
@@ -3540,7 +3594,21 @@ public abstract class AbstractEntityPersister
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
-		return singleIdLoader;
+		SingleIdEntityLoader<?> loader = singleIdLoader;
+		if ( loader == null ) {
+			loader = buildSingleIdEntityLoader();
+			singleIdLoader = loader;
+		}
+		return loader;
+	}
+
+	private MultiIdEntityLoader<?> getMultiIdLoader() {
+		MultiIdEntityLoader<?> loader = multiIdLoader;
+		if ( loader == null ) {
+			loader = buildMultiIdLoader();
+			multiIdLoader = loader;
+		}
+		return loader;
 	}
 
 	@Override
@@ -3594,7 +3662,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
-		return multiIdLoader.load( ids, loadOptions, session );
+		return getMultiIdLoader().load( ids, loadOptions, session );
 	}
 
 	@Override
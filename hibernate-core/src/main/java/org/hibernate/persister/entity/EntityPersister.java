@@ -1255,6 +1255,20 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 
 	boolean canUseReferenceCacheEntries();
 
+	/**
+	 * Can instances of this entity be shared between sessions by the
+	 * {@linkplain org.hibernate.cache.internal.ReferenceDataCache reference
+	 * data cache}?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#REFERENCE_DATA_CACHE_SIZE
+	 */
+	@Incubating
+	default boolean canUseReferenceDataCache() {
+		return false;
+	}
+
 	@Incubating
 	boolean useShallowQueryCacheLayout();
 
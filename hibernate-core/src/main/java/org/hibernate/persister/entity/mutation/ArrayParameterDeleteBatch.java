@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupNone;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * A {@link Batch} of entity deletions which, rather than adding one statement per
+ * entity to a JDBC batch, collects the identifiers of the deleted entities and then
+ * deletes them using a single statement per table, passing all the identifiers as
+ * one array parameter, e.g. {@code delete from books where id = any (?)}.
+ * <p>
+ * Entries are usually added using {@link #addToBatch(Object)}. When they are added
+ * using {@linkplain #addToBatch(JdbcValueBindings, TableInclusionChecker) value
+ * bindings}, only the binding of the key column of the identifier table is used.
+ * <p>
+ * Since the row count of a statement is not broken down by identifier, a stale
+ * entity is only identified when it is the only entity in the batch.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_DELETES_WITH_ARRAY_PARAMETER
+ */
+public class ArrayParameterDeleteBatch implements Batch {
+
+	/**
+	 * The array delete statement for one of the tables of an entity
+	 */
+	public record TableDelete(JdbcOperationQueryMutation operation, boolean identifierTable) {
+	}
+
+	private final BatchKey key;
+	private final String entityName;
+	private final String identifierTableName;
+	private final String identifierColumnName;
+	private final List<TableDelete> tableDeletes;
+	private final JdbcParameter idsParameter;
+	private final JdbcMapping arrayJdbcMapping;
+	private final Class<?> idClass;
+	private final int batchSize;
+	private final SharedSessionContractImplementor session;
+	private final JdbcCoordinator jdbcCoordinator;
+
+	private final List<BatchObserver> observers = new ArrayList<>();
+	private final List<Object> ids;
+
+	public ArrayParameterDeleteBatch(
+			BatchKey key,
+			String entityName,
+			String identifierTableName,
+			String identifierColumnName,
+			List<TableDelete> tableDeletes,
+			JdbcParameter idsParameter,
+			JdbcMapping arrayJdbcMapping,
+			Class<?> idClass,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		this.key = key;
+		this.entityName = entityName;
+		this.identifierTableName = identifierTableName;
+		this.identifierColumnName = identifierColumnName;
+		this.tableDeletes = tableDeletes;
+		this.idsParameter = idsParameter;
+		this.arrayJdbcMapping = arrayJdbcMapping;
+		this.idClass = idClass;
+		this.batchSize = batchSize;
+		this.session = session;
+		this.jdbcCoordinator = session.getJdbcCoordinator();
+		this.ids = new ArrayList<>( batchSize );
+	}
+
+	@Override
+	public BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return PreparedStatementGroupNone.GROUP_OF_NONE;
+	}
+
+	/**
+	 * Add the deletion of the entity with the given identifier to this batch
+	 */
+	public void addToBatch(Object id) {
+		ids.add( id );
+		if ( ids.size() == batchSize ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			performExecution();
+		}
+	}
+
+	/**
+	 * Add the deletion of the entity whose identifier is bound to the key
+	 * column of the identifier table to this batch. The table inclusion
+	 * checker is ignored, since the same tables are deleted from for every
+	 * entity.
+	 */
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		addToBatch( extractIdentifier( jdbcValueBindings ) );
+	}
+
+	/**
+	 * Add the deletion of the entity whose identifier is bound to the key
+	 * column of the identifier table to this batch. The stale state mapper
+	 * is ignored, since a stale entity is already reported as a
+	 * {@link StaleObjectStateException}.
+	 */
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	private Object extractIdentifier(JdbcValueBindings jdbcValueBindings) {
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( identifierTableName );
+		if ( bindingGroup != null ) {
+			for ( Binding binding : bindingGroup.getBindings() ) {
+				if ( binding.getValueDescriptor().matches( identifierColumnName, ParameterUsage.RESTRICT ) ) {
+					return binding.getValue();
+				}
+			}
+		}
+		throw new IllegalArgumentException(
+				"No value bound to key column '" + identifierColumnName + "' of table '" + identifierTableName + "'"
+		);
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		if ( !ids.isEmpty() ) {
+			performExecution();
+		}
+	}
+
+	private void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing array parameter delete of %s entities - %s",
+					ids.size(),
+					key.toLoggableString()
+			);
+		}
+
+		final Object idArray = ids.toArray( (Object[]) Array.newInstance( idClass, ids.size() ) );
+		final JdbcParameterBindings bindings = new JdbcParameterBindingsImpl( 1 );
+		bindings.addBinding( idsParameter, new JdbcParameterBindingImpl( arrayJdbcMapping, idArray ) );
+		final ExecutionContext executionContext = new BaseExecutionContext( session );
+		try {
+			for ( int i = 0; i < tableDeletes.size(); i++ ) {
+				final TableDelete tableDelete = tableDeletes.get( i );
+				final int rowCount = executeDelete( tableDelete.operation(), bindings, executionContext );
+				if ( tableDelete.identifierTable() && rowCount != ids.size() ) {
+					// we can't tell which of the rows was missing unless there was only one
+					throw new StaleObjectStateException(
+							entityName,
+							ids.size() == 1 ? ids.get( 0 ) : null,
+							String.format(
+									Locale.ROOT,
+									"Batch delete returned unexpected row count; actual row count: %s; expected: %s; statement executed: %s",
+									rowCount,
+									ids.size(),
+									tableDelete.operation().getSqlString()
+							)
+					);
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			try {
+				jdbcCoordinator.abortBatch();
+			}
+			catch (RuntimeException suppressed) {
+				e.addSuppressed( suppressed );
+			}
+			throw e;
+		}
+		finally {
+			ids.clear();
+		}
+	}
+
+	private int executeDelete(
+			JdbcOperationQueryMutation operation,
+			JdbcParameterBindings bindings,
+			ExecutionContext executionContext) {
+		final String sql = operation.getSqlString();
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			int position = 1;
+			for ( JdbcParameterBinder binder : operation.getParameterBinders() ) {
+				binder.bindParameterValue( statement, position++, bindings, executionContext );
+			}
+			return jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "could not execute batch", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	@Override
+	public void release() {
+		ids.clear();
+	}
+}
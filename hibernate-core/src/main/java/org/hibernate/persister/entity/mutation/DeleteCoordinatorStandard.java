@@ -4,13 +4,31 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.ast.ColumnValueBindingList;
@@ -27,8 +45,122 @@ import org.hibernate.sql.model.ast.builder.TableDeleteBuilderStandard;
  */
 public class DeleteCoordinatorStandard extends AbstractDeleteCoordinator {
 
+	private final BasicBatchKey arrayDeleteBatchKey;
+	private final String arrayDeleteKeyColumnName;
+	private final List<ArrayParameterDeleteBatch.TableDelete> arrayTableDeletes;
+	private final JdbcParameter arrayIdsParameter;
+	private final JdbcMapping arrayJdbcMapping;
+
 	public DeleteCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
+
+		if ( supportsArrayParameterDeletes( entityPersister, factory ) ) {
+			final BasicEntityIdentifierMapping identifierMapping =
+					(BasicEntityIdentifierMapping) entityPersister.getIdentifierMapping();
+			final Class<?> arrayClass =
+					Array.newInstance( identifierMapping.getJavaType().getJavaTypeClass(), 0 ).getClass();
+			arrayDeleteBatchKey = new BasicBatchKey( entityPersister.getEntityName() + "#DELETE_ARRAY" );
+			arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+					factory.getTypeConfiguration().getBasicTypeRegistry().getRegisteredType( arrayClass ),
+					identifierMapping.getJdbcMapping(),
+					arrayClass,
+					factory
+			);
+			arrayIdsParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			arrayDeleteKeyColumnName = entityPersister().getIdentifierTableMapping().getKeyMapping()
+					.getKeyColumn( 0 ).getColumnName();
+			arrayTableDeletes = new ArrayList<>();
+			entityPersister.forEachMutableTableReverse( (tableMapping) -> {
+				if ( !tableMapping.isCascadeDeleteEnabled() ) {
+					arrayTableDeletes.add( new ArrayParameterDeleteBatch.TableDelete(
+							arrayDeleteOperation( tableMapping ),
+							tableMapping.isIdentifierTable()
+					) );
+				}
+			} );
+		}
+		else {
+			arrayDeleteBatchKey = null;
+			arrayDeleteKeyColumnName = null;
+			arrayJdbcMapping = null;
+			arrayIdsParameter = null;
+			arrayTableDeletes = null;
+		}
+	}
+
+	private static boolean supportsArrayParameterDeletes(EntityPersister persister, SessionFactoryImplementor factory) {
+		if ( factory.getSessionFactoryOptions().isJdbcBatchDeletesWithArrayParameter()
+				&& MultiKeyLoadHelper.supportsSqlArrayType( factory.getJdbcServices().getDialect() )
+				&& persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping
+				&& !persister.isVersioned()
+				&& !persister.optimisticLockStyle().isAllOrDirty()
+				&& !persister.hasRowId()
+				&& !persister.hasPartitionedSelectionMapping() ) {
+			final boolean[] customSql = new boolean[1];
+			persister.forEachMutableTable( (tableMapping) -> {
+				if ( tableMapping.getDeleteCustomSql() != null ) {
+					customSql[0] = true;
+				}
+			} );
+			return !customSql[0];
+		}
+		else {
+			return false;
+		}
+	}
+
+	private JdbcOperationQueryMutation arrayDeleteOperation(EntityTableMapping tableMapping) {
+		final EntityTableMapping.KeyColumn keyColumn = tableMapping.getKeyMapping().getKeyColumn( 0 );
+		final NamedTableReference tableReference =
+				new NamedTableReference( tableMapping.getTableName(), DeleteStatement.DEFAULT_ALIAS, true );
+		final DeleteStatement deleteStatement = new DeleteStatement(
+				tableReference,
+				new InArrayPredicate(
+						new ColumnReference( tableReference, keyColumn.getColumnName(), keyColumn.getJdbcMapping() ),
+						arrayIdsParameter
+				)
+		);
+		final JdbcServices jdbcServices = factory().getJdbcServices();
+		return jdbcServices.getJdbcEnvironment().getSqlAstTranslatorFactory()
+				.buildMutationTranslator( factory(), deleteStatement )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+
+	@Override
+	public void delete(Object entity, Object id, Object version, SharedSessionContractImplementor session) {
+		final int batchSize;
+		if ( arrayTableDeletes != null
+				&& ( batchSize = jdbcBatchSize( session ) ) > 1
+				&& session.getTransactionCoordinator() != null
+				&& session.getTransactionCoordinator().isTransactionActive() ) {
+			final ArrayParameterDeleteBatch batch = (ArrayParameterDeleteBatch)
+					session.getJdbcCoordinator().getBatch(
+							arrayDeleteBatchKey,
+							jdbcCoordinator -> new ArrayParameterDeleteBatch(
+									arrayDeleteBatchKey,
+									entityPersister().getEntityName(),
+									entityPersister().getIdentifierTableMapping().getTableName(),
+									arrayDeleteKeyColumnName,
+									arrayTableDeletes,
+									arrayIdsParameter,
+									arrayJdbcMapping,
+									entityPersister().getIdentifierMapping().getJavaType().getJavaTypeClass(),
+									batchSize,
+									session
+							)
+					);
+			batch.addToBatch( id );
+		}
+		else {
+			super.delete( entity, id, version, session );
+		}
+	}
+
+	private int jdbcBatchSize(SharedSessionContractImplementor session) {
+		final Integer sessionBatchSize = session.getJdbcCoordinator().getJdbcSessionOwner().getJdbcBatchSize();
+		return sessionBatchSize == null
+				? factory().getSessionFactoryOptions().getJdbcBatchSize()
+				: sessionBatchSize;
 	}
 
 	@Override
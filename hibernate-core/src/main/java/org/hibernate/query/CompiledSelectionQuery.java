@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * An HQL {@code select} query which was compiled once, by calling
+ * {@link org.hibernate.SessionFactory#compileSelectionQuery(String, Class)},
+ * and which may be executed in any session belonging to the same factory.
+ * <p>
+ * The query is parsed and semantically analyzed when it is compiled, and
+ * its {@linkplain org.hibernate.query.spi.SelectQueryPlan plan} is built
+ * on first execution, and then held by this object. Obtaining a query via
+ * {@link QueryProducer#createSelectionQuery(CompiledSelectionQuery)} does
+ * not look up the interpretation caches of the factory, and the plan is
+ * never evicted from them.
+ * <p>
+ * <pre>
+ * static final CompiledSelectionQuery&lt;Book&gt; BOOK_BY_ISBN =
+ *         sessionFactory.compileSelectionQuery("from Book where isbn = :isbn", Book.class);
+ * ...
+ * Book book = session.createSelectionQuery(BOOK_BY_ISBN)
+ *         .setParameter("isbn", isbn)
+ *         .getSingleResult();
+ * </pre>
+ * <p>
+ * The plan held by the compiled query is used only when the query is
+ * executed with no enabled filters or fetch profiles, no entity graph,
+ * no lock mode, and no transformers. Otherwise, the plan is resolved as
+ * it would be for a query created from the HQL string.
+ *
+ * @param <R> the query result type
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface CompiledSelectionQuery<R> {
+	/**
+	 * The HQL {@code select} query which was compiled.
+	 */
+	String getQueryString();
+
+	/**
+	 * The query result type given when the query was compiled.
+	 */
+	Class<R> getResultType();
+}
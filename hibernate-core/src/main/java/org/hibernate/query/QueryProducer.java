@@ -4,6 +4,7 @@
  */
 package org.hibernate.query;
 
+import org.hibernate.Incubating;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
 import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
 
@@ -346,6 +347,19 @@ public interface QueryProducer {
 	 */
 	<R> SelectionQuery<R> createSelectionQuery(CriteriaQuery<R> criteria);
 
+	/**
+	 * Create a {@link SelectionQuery} instance for the given
+	 * {@linkplain CompiledSelectionQuery compiled query}, which
+	 * must have been compiled by the factory this session belongs
+	 * to.
+	 *
+	 * @see org.hibernate.SessionFactory#compileSelectionQuery(String, Class)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	<R> SelectionQuery<R> createSelectionQuery(CompiledSelectionQuery<R> compiledQuery);
+
 	/**
 	 * Create a {@link MutationQuery} reference for the given HQL insert,
 	 * update, or delete statement.
@@ -0,0 +1,289 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.metamodel.mapping.CollectionPart;
+import org.hibernate.metamodel.mapping.internal.BasicValuedCollectionPart;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * A {@link ScrollableResultsIterator} which detaches the entities of each
+ * result from the session when the iterator moves on to the next result,
+ * so that the persistence context does not grow with the number of results.
+ * <p>
+ * The entities of a result are only detached once the next result is
+ * requested. By then, a {@link org.hibernate.internal.FetchingScrollableResultsImpl}
+ * has read every row of the result, so the collections fetched by a
+ * {@code join fetch} are complete. The elements of these collections, and
+ * the targets of loaded to-one associations, are detached along with the
+ * result.
+ * <p>
+ * Only entities loaded while the stream is open are detached. An entity
+ * which was already managed when the stream was opened, which is not yet
+ * in the database, or which has unflushed changes, stays in the session.
+ * So does an entity whose eviction would {@linkplain CascadingActions#EVICT
+ * cascade} to such an entity, or to which an entity which stays in the
+ * session cascades.
+ *
+ * @see org.hibernate.cfg.QuerySettings#STREAM_DETACH_RESULTS
+ *
+ * @since 7.0
+ */
+public class DetachingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SessionImplementor session;
+	private final Set<EntityKey> managedBeforeStream;
+	private Object currentResult;
+
+	public DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			SessionImplementor session) {
+		super( scrollableResults );
+		this.session = session;
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		this.managedBeforeStream = persistenceContext.getNumberOfManagedEntities() == 0
+				? Collections.emptySet()
+				: new HashSet<>( persistenceContext.getEntitiesByKey().keySet() );
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( currentResult != null ) {
+			if ( !session.isClosed() ) {
+				detach( currentResult );
+			}
+			currentResult = null;
+		}
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T result = super.next();
+		currentResult = result;
+		return result;
+	}
+
+	private void detach(Object result) {
+		final Deque<Object> pending = new ArrayDeque<>();
+		if ( result instanceof Object[] ) {
+			Collections.addAll( pending, (Object[]) result );
+		}
+		else {
+			pending.add( result );
+		}
+
+		// collect every entity reachable from the result through loaded
+		// associations before evicting any of them, since evicting an
+		// entity also evicts its collections
+		final Set<Object> visited = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final Set<Object> detachable = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final Map<Object, List<Object>> cascadeTargets = new IdentityHashMap<>();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		while ( !pending.isEmpty() ) {
+			final Object entity = loadedEntity( pending.poll() );
+			if ( entity != null && visited.add( entity ) ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null && entry.getStatus() == Status.MANAGED ) {
+					final Object[] values = entry.getPersister().getValues( entity );
+					cascadeTargets.put( entity, cascadeTargets( entry.getPersister(), values ) );
+					// don't walk the associations of entities which were already managed
+					if ( !managedBeforeStream.contains( entry.getEntityKey() )
+							&& addAssociated( entry.getPersister().getPropertyTypes(), values, pending )
+							&& isDetachable( entity, entry, values ) ) {
+						detachable.add( entity );
+					}
+				}
+			}
+		}
+
+		// evicting an entity also evicts the entities it cascades to, and
+		// flushing an entity cascades to its associated entities, so keep
+		// an entity which cascades to, or is cascaded to from, an entity
+		// which must stay in the session
+		boolean removed;
+		do {
+			removed = false;
+			for ( Map.Entry<Object, List<Object>> entry : cascadeTargets.entrySet() ) {
+				final List<Object> targets = entry.getValue();
+				if ( detachable.contains( entry.getKey() ) ) {
+					if ( !allDetachable( targets, detachable ) ) {
+						detachable.remove( entry.getKey() );
+						removed = true;
+					}
+				}
+				else if ( targets != null ) {
+					for ( Object target : targets ) {
+						if ( detachable.remove( loadedEntity( target ) ) ) {
+							removed = true;
+						}
+					}
+				}
+			}
+		}
+		while ( removed );
+
+		for ( Object entity : detachable ) {
+			session.evict( entity );
+		}
+	}
+
+	/**
+	 * The values of the associations to which an eviction of the entity
+	 * cascades, or {@code null} if they can't be determined.
+	 */
+	private List<Object> cascadeTargets(EntityPersister persister, Object[] values) {
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		final List<Object> targets = new ArrayList<>();
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value != null && value != UNFETCHED_PROPERTY
+					&& cascadeStyles[i].doCascade( CascadingActions.EVICT ) ) {
+				if ( types[i].isEntityType() ) {
+					targets.add( value );
+				}
+				else if ( types[i] instanceof CollectionType collectionType
+						&& value instanceof PersistentCollection<?> collection ) {
+					// evictions don't cascade to uninitialized collections
+					if ( collection.wasInitialized() ) {
+						final CollectionPart elementDescriptor = elementDescriptor( collection );
+						if ( elementDescriptor instanceof EntityCollectionPart ) {
+							final Iterator<?> elements = collectionType.getElementsIterator( value );
+							while ( elements.hasNext() ) {
+								targets.add( elements.next() );
+							}
+						}
+						else if ( !( elementDescriptor instanceof BasicValuedCollectionPart ) ) {
+							return null;
+						}
+					}
+				}
+				else {
+					// the associations of an embeddable are not walked
+					return null;
+				}
+			}
+		}
+		return targets;
+	}
+
+	private static boolean allDetachable(List<Object> targets, Set<Object> detachable) {
+		if ( targets == null ) {
+			return false;
+		}
+		for ( Object target : targets ) {
+			if ( target != null ) {
+				final Object entity = loadedEntity( target );
+				if ( entity == null || !detachable.contains( entity ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The entity, or the implementation of the proxy, or {@code null} if the
+	 * value is not an entity or an uninitialized proxy.
+	 */
+	private static Object loadedEntity(Object value) {
+		if ( value == null ) {
+			return null;
+		}
+		final LazyInitializer lazyInitializer = extractLazyInitializer( value );
+		if ( lazyInitializer != null ) {
+			return lazyInitializer.isUninitialized() ? null : lazyInitializer.getImplementation();
+		}
+		return value;
+	}
+
+	/**
+	 * Add the targets of the to-one associations, and the elements of the
+	 * initialized collections, of an entity to the pending entities.
+	 *
+	 * @return {@code false} if one of the collections has unflushed changes
+	 */
+	private boolean addAssociated(Type[] types, Object[] values, Deque<Object> pending) {
+		boolean unchangedCollections = true;
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value != null ) {
+				if ( types[i].isEntityType() ) {
+					pending.add( value );
+				}
+				else if ( types[i] instanceof CollectionType collectionType
+						&& value instanceof PersistentCollection<?> collection
+						&& collection.wasInitialized() ) {
+					if ( collection.isDirty() ) {
+						unchangedCollections = false;
+					}
+					if ( hasEntityElements( collection ) ) {
+						final Iterator<?> elements = collectionType.getElementsIterator( value );
+						while ( elements.hasNext() ) {
+							pending.add( elements.next() );
+						}
+					}
+				}
+			}
+		}
+		return unchangedCollections;
+	}
+
+	private boolean hasEntityElements(PersistentCollection<?> collection) {
+		return elementDescriptor( collection ) instanceof EntityCollectionPart;
+	}
+
+	private CollectionPart elementDescriptor(PersistentCollection<?> collection) {
+		final CollectionEntry collectionEntry = session.getPersistenceContextInternal().getCollectionEntry( collection );
+		if ( collectionEntry == null ) {
+			return null;
+		}
+		final CollectionPersister persister = collectionEntry.getLoadedPersister();
+		return persister == null ? null : persister.getAttributeMapping().getElementDescriptor();
+	}
+
+	private boolean isDetachable(Object entity, EntityEntry entry, Object[] values) {
+		if ( !entry.isExistsInDatabase() ) {
+			return false;
+		}
+		else if ( !entry.requiresDirtyCheck( entity ) ) {
+			return true;
+		}
+		else {
+			final Object[] loadedState = entry.getLoadedState();
+			final EntityPersister persister = entry.getPersister();
+			return loadedState == null || persister.findDirty( values, loadedState, entity, session ) == null;
+		}
+	}
+}
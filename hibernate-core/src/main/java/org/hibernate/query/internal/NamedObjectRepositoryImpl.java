@@ -4,8 +4,18 @@
  */
 package org.hibernate.query.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -14,8 +24,12 @@ import org.hibernate.boot.Metadata;
 import org.hibernate.boot.query.NamedHqlQueryDefinition;
 import org.hibernate.boot.query.NamedNativeQueryDefinition;
 import org.hibernate.boot.query.NamedProcedureCallDefinition;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.query.sqm.EntityTypeException;
 import org.hibernate.query.NamedQueryValidationException;
@@ -25,7 +39,6 @@ import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sqm.UnknownEntityException;
 import org.hibernate.query.sqm.UnknownPathException;
@@ -47,6 +60,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedNativeQueryMemento<?>> sqlMementoMap;
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
+	private final Map<String, String> validatedQueryStrings = new HashMap<>();
+	private int startupCheckingThreads = 1;
 
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento<?>> sqmMementoMap,
@@ -224,6 +239,29 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 				}
 		);
 
+		final Map<String, Object> settings =
+				sessionFactory.getServiceRegistry().requireService( ConfigurationService.class ).getSettings();
+		if ( ConfigurationHelper.getBoolean( QuerySettings.QUERY_STARTUP_CHECKING_SKIP_VALIDATED, settings ) ) {
+			loadValidatedQueryStrings( sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class ) );
+		}
+		startupCheckingThreads = ConfigurationHelper.getInt( QuerySettings.QUERY_STARTUP_CHECKING_THREADS, settings, 1 );
+	}
+
+	private void loadValidatedQueryStrings(ClassLoaderService classLoaderService) {
+		final List<URL> resources = classLoaderService.locateResources( VALIDATED_QUERIES_RESOURCE );
+		if ( resources != null ) {
+			for ( URL resource : resources ) {
+				final Properties properties = new Properties();
+				try ( InputStream stream = resource.openStream() ) {
+					properties.load( stream );
+				}
+				catch ( IOException e ) {
+					log.debugf( e, "Unable to read validated named queries from %s", resource );
+					continue;
+				}
+				properties.forEach( (name, hql) -> validatedQueryStrings.put( (String) name, (String) hql ) );
+			}
+		}
 	}
 
 
@@ -253,29 +291,27 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
 		Map<String,HibernateException> errors = new HashMap<>();
 
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
-
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
+		final List<NamedSqmQueryMemento<?>> hqlMementos = new ArrayList<>( sqmMementoMap.size() );
 		for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
 			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						queryEngine.getHqlTranslator()
-				);
+			if ( hqlMemento.getHqlString().equals( validatedQueryStrings.get( registrationName ) ) ) {
+				log.debugf( "Skipping named HQL query validated at build time: %s", registrationName );
 			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
+			else {
+				hqlMementos.add( hqlMemento );
 			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		}
+		final List<HibernateException> hqlErrors =
+				startupCheckingThreads > 1 && hqlMementos.size() > 1
+						? checkHqlQueriesConcurrently( hqlMementos, queryEngine )
+						: checkHqlQueries( hqlMementos, queryEngine );
+		// collect the errors in the order of the queries, however many threads checked them
+		for ( int i = 0; i < hqlMementos.size(); i++ ) {
+			final HibernateException error = hqlErrors.get( i );
+			if ( error != null ) {
+				errors.put( hqlMementos.get( i ).getRegistrationName(), error );
 			}
 		}
 
@@ -318,6 +354,81 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	}
 
 
+	private static List<HibernateException> checkHqlQueries(
+			List<NamedSqmQueryMemento<?>> hqlMementos,
+			QueryEngine queryEngine) {
+		final List<HibernateException> errors = new ArrayList<>( hqlMementos.size() );
+		for ( NamedSqmQueryMemento<?> hqlMemento : hqlMementos ) {
+			errors.add( checkHqlQuery( hqlMemento, queryEngine ) );
+		}
+		return errors;
+	}
+
+	private List<HibernateException> checkHqlQueriesConcurrently(
+			List<NamedSqmQueryMemento<?>> hqlMementos,
+			QueryEngine queryEngine) {
+		final int threads = Math.min( startupCheckingThreads, hqlMementos.size() );
+		log.debugf( "Checking named HQL queries using %s threads", threads );
+		// the threads inherit the context class loader of the thread creating them
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<HibernateException>> futures = new ArrayList<>( hqlMementos.size() );
+			for ( NamedSqmQueryMemento<?> hqlMemento : hqlMementos ) {
+				futures.add( executor.submit( () -> checkHqlQuery( hqlMemento, queryEngine ) ) );
+			}
+			final List<HibernateException> errors = new ArrayList<>( hqlMementos.size() );
+			for ( Future<HibernateException> future : futures ) {
+				errors.add( future.get() );
+			}
+			return errors;
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while checking named queries", e );
+		}
+		catch ( ExecutionException e ) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( cause instanceof Error error ) {
+				throw error;
+			}
+			else {
+				throw new HibernateException( "Error checking named queries", cause );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return the error in the given query, or {@code null} if it's legal
+	 */
+	private static HibernateException checkHqlQuery(NamedSqmQueryMemento<?> hqlMemento, QueryEngine queryEngine) {
+		final String queryString = hqlMemento.getHqlString();
+		try {
+			log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					queryEngine.getHqlTranslator()
+			);
+			return null;
+		}
+		catch ( QueryException e ) {
+			return e;
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			return new UnknownPathException( e.getMessage(), queryString, e );
+		}
+		catch ( EntityTypeException e ) {
+			return new UnknownEntityException( e.getMessage(), e.getReference(), e );
+		}
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
 
@@ -327,5 +438,6 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		sqlMementoMap.clear();
 		callableMementoMap.clear();
 		resultSetMappingMementoMap.clear();
+		validatedQueryStrings.clear();
 	}
 }
@@ -13,6 +13,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.BindingContext;
 import org.hibernate.query.hql.HqlTranslator;
@@ -37,6 +38,7 @@ import org.jboss.logging.Logger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static java.util.Comparator.comparingInt;
@@ -202,7 +204,11 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			return new QueryInterpretationCacheStandardImpl(
+					size,
+					isFrequencyBasedEviction( properties ),
+					serviceRegistry
+			);
 		}
 		else {
 			// disabled
@@ -210,6 +216,24 @@ public class QueryEngineImpl implements QueryEngine {
 		}
 	}
 
+	private static boolean isFrequencyBasedEviction(Map<String, Object> properties) {
+		final String policy = ConfigurationHelper.getString(
+				AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY,
+				properties,
+				"lirs"
+		);
+		switch ( policy.trim().toLowerCase( Locale.ROOT ) ) {
+			case "lirs":
+				return false;
+			case "tinylfu":
+				return true;
+			default:
+				throw new ConfigurationException( "Unrecognized value for setting '"
+						+ AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY + "': '" + policy
+						+ "' (should be 'lirs' or 'tinylfu')" );
+		}
+	}
+
 	@Override
 	public void validateNamedQueries() {
 		namedObjectRepository.validateNamedQueries( this );
@@ -5,10 +5,13 @@
 package org.hibernate.query.internal;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.TinyLfuCache;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -20,10 +23,12 @@ import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 /**
@@ -37,23 +42,50 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedCache<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final BoundedCache<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, false, serviceRegistry );
+	}
+
+	/**
+	 * @param frequencyBasedEviction whether the caches use W-TinyLFU eviction
+	 * instead of LIRS
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_EVICTION_POLICY
+	 */
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			boolean frequencyBasedEviction,
+			ServiceRegistry serviceRegistry) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		if ( frequencyBasedEviction ) {
+			this.queryPlanCache = new TinyLfuBoundedCache<>( maxQueryPlanCount, this::queryPlanEvicted );
+			this.hqlInterpretationCache = new TinyLfuBoundedCache<>( maxQueryPlanCount, null );
+			this.nativeQueryParamCache = new TinyLfuBoundedCache<>( maxQueryPlanCount, null );
+		}
+		else {
+			this.queryPlanCache = new LirsBoundedCache<>( maxQueryPlanCount );
+			this.hqlInterpretationCache = new LirsBoundedCache<>( maxQueryPlanCount );
+			this.nativeQueryParamCache = new LirsBoundedCache<>( maxQueryPlanCount );
+		}
 		this.serviceRegistry = serviceRegistry;
 	}
 
+	private void queryPlanEvicted(Key key) {
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( key.getQueryString() );
+		}
+	}
+
 	@Override
 	public int getNumberOfCachedHqlInterpretations() {
 		return hqlInterpretationCache.size();
@@ -99,12 +131,40 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
-		return null;
+		if ( !isCacheableNonSelectKey( key ) ) {
+			return null;
+		}
+
+		final StatisticsImplementor statistics = getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+
+		final NonSelectQueryPlan cached = (NonSelectQueryPlan) queryPlanCache.get( key );
+		if ( stats ) {
+			if ( cached != null ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+			else {
+				statistics.queryPlanCacheMiss( key.getQueryString() );
+			}
+		}
+		return cached;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		if ( isCacheableNonSelectKey( key ) ) {
+			queryPlanCache.put( key.prepareForStore(), plan );
+		}
+	}
+
+	/**
+	 * Only the plans of HQL mutation queries are cached. A native plan holds
+	 * the parameter occurrences of the query which built it, which can't be
+	 * used to bind the arguments of another query.
+	 */
+	private static boolean isCacheableNonSelectKey(Key key) {
+		return key instanceof SqmInterpretationsKey;
 	}
 
 	@Override
@@ -192,6 +252,20 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return true;
 	}
 
+	@Override
+	public void forEachHqlInterpretation(BiConsumer<String, Class<?>> action) {
+		hqlInterpretationCache.forEachKey(
+				key -> {
+					if ( key instanceof HqlInterpretationCacheKey cacheKey ) {
+						action.accept( cacheKey.queryString, cacheKey.expectedResultType );
+					}
+					else {
+						action.accept( (String) key, null );
+					}
+				}
+		);
+	}
+
 	@Override
 	public void close() {
 		// todo (6.0) : clear maps/caches and LOG
@@ -200,6 +274,94 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		queryPlanCache.clear();
 	}
 
+	/**
+	 * The operations of a bounded map used by this cache.
+	 */
+	private interface BoundedCache<K, V> {
+		@Nullable V get(K key);
+		void put(K key, V value);
+		V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+		int size();
+		void forEachKey(Consumer<? super K> action);
+		void clear();
+	}
+
+	private static final class LirsBoundedCache<K, V> implements BoundedCache<K, V> {
+		private final BoundedConcurrentHashMap<K, V> map;
+
+		private LirsBoundedCache(int maxSize) {
+			map = new BoundedConcurrentHashMap<>( maxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		}
+
+		@Override
+		public @Nullable V get(K key) {
+			return map.get( key );
+		}
+
+		@Override
+		public void put(K key, V value) {
+			map.put( key, value );
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+			return map.computeIfAbsent( key, mappingFunction );
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public void forEachKey(Consumer<? super K> action) {
+			map.keySet().forEach( action );
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+	}
+
+	private static final class TinyLfuBoundedCache<K, V> implements BoundedCache<K, V> {
+		private final TinyLfuCache<K, V> cache;
+
+		private TinyLfuBoundedCache(int maxSize, @Nullable Consumer<? super K> evictionListener) {
+			cache = new TinyLfuCache<>( maxSize, 0, System::nanoTime, evictionListener );
+		}
+
+		@Override
+		public @Nullable V get(K key) {
+			return cache.get( key );
+		}
+
+		@Override
+		public void put(K key, V value) {
+			cache.put( key, value );
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+			return cache.computeIfAbsent( key, mappingFunction );
+		}
+
+		@Override
+		public int size() {
+			return cache.size();
+		}
+
+		@Override
+		public void forEachKey(Consumer<? super K> action) {
+			cache.forEachKey( action );
+		}
+
+		@Override
+		public void clear() {
+			cache.clear();
+		}
+	}
+
 	private static final class HqlInterpretationCacheKey {
 		private final String queryString;
 		private final Class<?> expectedResultType;
@@ -31,6 +31,21 @@ import jakarta.persistence.TypedQueryReference;
 @Incubating
 public interface NamedObjectRepository {
 
+	/**
+	 * The name of a resource listing named HQL queries which were already
+	 * validated at build time, by the Hibernate annotation processor, in
+	 * the format of a {@link java.util.Properties} file mapping each query
+	 * name to the query string. If
+	 * {@value org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECKING_SKIP_VALIDATED}
+	 * is enabled, a query listed with the same query string it has at
+	 * runtime is not {@linkplain #validateNamedQueries validated} again when
+	 * the {@code SessionFactory} is created, and is interpreted the first
+	 * time it is used instead.
+	 *
+	 * @since 7.0
+	 */
+	String VALIDATED_QUERIES_RESOURCE = "META-INF/hibernate/validated-named-queries.properties";
+
 	<R> Map<String, TypedQueryReference<R>> getNamedQueries(Class<R> resultType);
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
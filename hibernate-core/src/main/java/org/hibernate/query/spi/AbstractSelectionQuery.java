@@ -26,6 +26,7 @@ import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -36,6 +37,8 @@ import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.internal.DetachingScrollableResultsIterator;
+import org.hibernate.query.internal.QueryOptionsImpl;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
@@ -254,14 +257,50 @@ public abstract class AbstractSelectionQuery<R>
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final SharedSessionContractImplementor session = getSession();
+		final boolean detachResults = session instanceof SessionImplementor
+				&& getSessionFactory().getSessionFactoryOptions().isStreamDetachResultsEnabled();
+		final QueryOptionsImpl defaultedOptions = detachResults ? applyDefaultStreamFetchSize() : null;
+		final ScrollableResultsImplementor scrollableResults;
+		try {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
+		finally {
+			// the statement has been executed, and later executions
+			// of the query must not use the default fetch size
+			if ( defaultedOptions != null ) {
+				defaultedOptions.setFetchSize( (Integer) null );
+			}
+		}
+		final ScrollableResultsIterator iterator = detachResults
+				? new DetachingScrollableResultsIterator<>( scrollableResults, (SessionImplementor) session )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	/**
+	 * Use the {@linkplain org.hibernate.dialect.Dialect#getDefaultStreamFetchSize()
+	 * fetch size recommended by the dialect} if no other fetch size is specified.
+	 *
+	 * @return the options to which the fetch size was applied, or {@code null}
+	 */
+	private QueryOptionsImpl applyDefaultStreamFetchSize() {
+		final SessionFactoryImplementor factory = getSessionFactory();
+		if ( getQueryOptions() instanceof QueryOptionsImpl queryOptions
+				&& queryOptions.getFetchSize() == null
+				&& factory.getSessionFactoryOptions().getJdbcFetchSize() == null ) {
+			final int fetchSize = factory.getJdbcServices().getDialect().getDefaultStreamFetchSize();
+			if ( fetchSize > 0 ) {
+				queryOptions.setFetchSize( fetchSize );
+				return queryOptions;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
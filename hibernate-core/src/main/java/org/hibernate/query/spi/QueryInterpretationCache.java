@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -45,6 +46,18 @@ public interface QueryInterpretationCache {
 
 	boolean isEnabled();
 
+	/**
+	 * Call the given action with the query string and expected result type
+	 * of each cached {@linkplain HqlInterpretation HQL interpretation}. The
+	 * result type is {@code null} if the query was interpreted without one.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_WARMUP_FILE
+	 *
+	 * @since 7.0
+	 */
+	default void forEachHqlInterpretation(BiConsumer<String, Class<?>> action) {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
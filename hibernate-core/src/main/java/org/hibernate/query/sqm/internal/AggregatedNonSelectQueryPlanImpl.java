@@ -17,6 +17,10 @@ public class AggregatedNonSelectQueryPlanImpl implements NonSelectQueryPlan {
 		this.aggregatedQueryPlans = aggregatedQueryPlans;
 	}
 
+	NonSelectQueryPlan[] getAggregatedQueryPlans() {
+		return aggregatedQueryPlans;
+	}
+
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		int updated = 0;
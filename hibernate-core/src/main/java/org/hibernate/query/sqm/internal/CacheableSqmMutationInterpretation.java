@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+
+/**
+ * The translation of a mutation statement by one of the simple
+ * {@linkplain org.hibernate.query.spi.NonSelectQueryPlan non-select query plans}.
+ * Since a plan may be cached, and executed concurrently, the state it needs to
+ * execute the statement is kept together, and never modified once built.
+ *
+ * @param <T> the type of the SQL AST
+ *
+ * @see SimpleUpdateQueryPlan
+ * @see SimpleDeleteQueryPlan
+ * @see SimpleInsertQueryPlan
+ */
+final class CacheableSqmMutationInterpretation<T extends MutationStatement> {
+	private final SqmTranslation<T> sqmTranslation;
+	private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	private final JdbcOperationQueryMutation jdbcOperation;
+	private JdbcParameterBindings firstParameterBindings;
+
+	private CacheableSqmMutationInterpretation(
+			SqmTranslation<T> sqmTranslation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			JdbcOperationQueryMutation jdbcOperation,
+			JdbcParameterBindings firstParameterBindings) {
+		this.sqmTranslation = sqmTranslation;
+		this.jdbcParamsXref = jdbcParamsXref;
+		this.jdbcOperation = jdbcOperation;
+		this.firstParameterBindings = firstParameterBindings;
+	}
+
+	/**
+	 * Translate the given SQL AST, which is either the SQL AST of the given
+	 * {@link SqmTranslation}, or a statement derived from it.
+	 */
+	static <T extends MutationStatement> CacheableSqmMutationInterpretation<T> interpret(
+			SqmTranslation<T> sqmTranslation,
+			MutationStatement sqlAst,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmTranslation::getJdbcParamsBySqmParam );
+		final JdbcParameterBindings jdbcParameterBindings =
+				createJdbcParameterBindings( sqmTranslation, jdbcParamsXref, domainParameterXref, executionContext );
+		final JdbcOperationQueryMutation jdbcOperation =
+				factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildMutationTranslator( factory, sqlAst )
+						.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		return new CacheableSqmMutationInterpretation<>(
+				sqmTranslation,
+				jdbcParamsXref,
+				jdbcOperation,
+				jdbcParameterBindings
+		);
+	}
+
+	SqmTranslation<T> getSqmTranslation() {
+		return sqmTranslation;
+	}
+
+	Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> getJdbcParamsXref() {
+		return jdbcParamsXref;
+	}
+
+	JdbcOperationQueryMutation getJdbcOperation() {
+		return jdbcOperation;
+	}
+
+	/**
+	 * The bindings created when the statement was translated, which may only be used
+	 * once, by the execution which triggered the translation.
+	 */
+	JdbcParameterBindings takeFirstParameterBindings() {
+		final JdbcParameterBindings jdbcParameterBindings = firstParameterBindings;
+		firstParameterBindings = null;
+		return jdbcParameterBindings;
+	}
+
+	JdbcParameterBindings createJdbcParameterBindings(
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		return createJdbcParameterBindings( sqmTranslation, jdbcParamsXref, domainParameterXref, executionContext );
+	}
+
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			SqmTranslation<?> sqmTranslation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <P> MappingModelExpressible<P> getResolvedMappingModelType(SqmParameter<P> parameter) {
+						return (MappingModelExpressible<P>) sqmTranslation.getSqmParameterMappingModelTypeResolutions().get( parameter );
+					}
+				},
+				executionContext.getSession()
+		);
+	}
+}
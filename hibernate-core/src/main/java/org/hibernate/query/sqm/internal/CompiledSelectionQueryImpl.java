@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.CompiledSelectionQuery;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.SelectQueryPlan;
+
+/**
+ * Standard implementation of {@link CompiledSelectionQuery}.
+ * <p>
+ * Holds the {@link HqlInterpretation} of the query, and, once the query
+ * has been executed, the {@link SelectQueryPlan} which would be cached
+ * under the {@link SqmInterpretationsKey} of a query with no filters,
+ * fetch profiles, entity graph, locking, or transformers.
+ */
+public class CompiledSelectionQueryImpl<R> implements CompiledSelectionQuery<R> {
+	private final String hql;
+	private final Class<R> resultType;
+	private final HqlInterpretation<R> hqlInterpretation;
+	private final SessionFactoryImplementor factory;
+
+	private volatile SelectQueryPlan<R> queryPlan;
+
+	public CompiledSelectionQueryImpl(String hql, Class<R> resultType, SessionFactoryImplementor factory) {
+		this.hql = hql;
+		this.resultType = resultType;
+		this.factory = factory;
+		this.hqlInterpretation = factory.getQueryEngine().interpretHql( hql, resultType );
+		SqmUtil.verifyIsSelectStatement( hqlInterpretation.getSqmStatement(), hql );
+	}
+
+	@Override
+	public String getQueryString() {
+		return hql;
+	}
+
+	@Override
+	public Class<R> getResultType() {
+		return resultType;
+	}
+
+	public HqlInterpretation<R> getHqlInterpretation() {
+		return hqlInterpretation;
+	}
+
+	public SessionFactoryImplementor getFactory() {
+		return factory;
+	}
+
+	/**
+	 * Is the plan held by this object the plan of the given query?
+	 */
+	boolean isQueryPlanApplicable(SqmSelectionQueryImpl<R> query) {
+		if ( query.getSqmStatement() != hqlInterpretation.getSqmStatement()
+				|| !query.isQueryPlanCacheable() ) {
+			return false;
+		}
+		final QueryOptions queryOptions = query.getQueryOptions();
+		final LoadQueryInfluencers loadQueryInfluencers = query.getLoadQueryInfluencers();
+		return !loadQueryInfluencers.hasEnabledFilters()
+			&& !loadQueryInfluencers.hasEnabledFetchProfiles()
+			&& queryOptions.getAppliedGraph().getSemantic() == null
+			&& queryOptions.getLockOptions().isEmpty()
+			&& queryOptions.getTupleTransformer() == null
+			&& queryOptions.getResultListTransformer() == null;
+	}
+
+	SelectQueryPlan<R> resolveQueryPlan(Supplier<SelectQueryPlan<R>> creator) {
+		SelectQueryPlan<R> localCopy = queryPlan;
+		if ( localCopy == null ) {
+			// a plan may be built twice, concurrently, but they're equivalent
+			localCopy = creator.get();
+			queryPlan = localCopy;
+		}
+		return localCopy;
+	}
+}
@@ -5,6 +5,7 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -12,19 +13,28 @@ import java.util.Map;
 import jakarta.persistence.Tuple;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.Filter;
 import org.hibernate.InstantiationException;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.FilterDefinition;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.internal.util.MathHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -72,14 +82,20 @@ import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToRe
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	// the maximum number of distinct expansions of multivalued parameters for
+	// which translations are kept, the least recently used being evicted
+	private static final int MAX_EXPANDED_INTERPRETATIONS = 32;
+
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
+	private final List<QueryParameterImplementor<?>> multiValuedParameters;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Map<ParameterExpansions, CacheableSqmInterpretation> expandedSqmInterpretations;
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -90,6 +106,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
 		this.domainParameterXref = domainParameterXref;
+		this.multiValuedParameters = getMultiValuedParameters( domainParameterXref );
+		this.expandedSqmInterpretations = multiValuedParameters == null
+				? null
+				: new BoundedConcurrentHashMap<>( MAX_EXPANDED_INTERPRETATIONS, 4, BoundedConcurrentHashMap.Eviction.LRU );
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 
@@ -103,69 +123,58 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.executeQueryInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						null,
-						resultCountEstimate,
-						resultsConsumer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					null,
+					resultCountEstimate,
+					resultsConsumer
+			);
 		};
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				//noinspection unchecked
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						(Class<R>) executionContext.getResultType(),
-						uniqueSemantic,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			//noinspection unchecked
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					(Class<R>) executionContext.getResultType(),
+					uniqueSemantic,
+					resultCountEstimate
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
 //				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
 //						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
 //						sqmInterpretation.selectStatement,
@@ -173,39 +182,44 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 //						jdbcParameterBindings
 //				);
 
-				final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return jdbcSelectExecutor.scroll(
-						jdbcSelect,
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
-						rowTransformer,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return jdbcSelectExecutor.scroll(
+					jdbcSelect,
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+					rowTransformer,
+					resultCountEstimate
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
-		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		// NOTE : the translation depends on the enabled filters and on the
+		//		number of values bound to multi-valued parameters, and so it
+		//		is checked for each execution - see `#withCacheableSqmInterpretation`
+	}
+
+	private static List<QueryParameterImplementor<?>> getMultiValuedParameters(DomainParameterXref domainParameterXref) {
+		List<QueryParameterImplementor<?>> multiValuedParameters = null;
+		for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( queryParameter.allowsMultiValuedBinding() ) {
+				if ( multiValuedParameters == null ) {
+					multiValuedParameters = new ArrayList<>();
+				}
+				multiValuedParameters.add( queryParameter );
+			}
+		}
+		return multiValuedParameters;
 	}
 
 	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
@@ -377,6 +391,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
+		if ( multiValuedParameters != null ) {
+			return withExpandedSqmInterpretation( executionContext, context, interpreter );
+		}
+
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
 		//		to protect access.  However, synchronized is much simpler here.  We will verify
@@ -408,7 +426,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					}
 					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 					// We could avoid this by putting the lock options into the cache key
-					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+					// Filter arguments are bound for each execution, but a multivalued filter argument
+					// renders a JDBC parameter for each value, so if their number changed we have to
+					// translate from SQM to SQL AST again
+					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() )
+							|| !localCopy.hasSameFilterArgumentCounts( executionContext ) ) {
 						localCopy = buildCacheableSqmInterpretation(
 								sqm,
 								domainParameterXref,
@@ -429,7 +451,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			}
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			// Filter arguments are bound for each execution, but a multivalued filter argument
+			// renders a JDBC parameter for each value, so if their number changed we have to
+			// translate from SQM to SQL AST again
+			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() )
+					|| !localCopy.hasSameFilterArgumentCounts( executionContext ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
 						domainParameterXref,
@@ -448,10 +474,79 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	/**
+	 * The translation of the query depends on the number of values bound to each
+	 * multivalued parameter, since each value is bound to its own JDBC parameter.
+	 * So we keep a translation for each distinct combination of numbers of values.
+	 * When {@linkplain org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_PADDING
+	 * padding} is enabled, the lists are padded by the translation, and so the
+	 * number of distinct combinations is much smaller. Otherwise, only the most
+	 * recently used combinations are kept.
+	 */
+	private <T, X> T withExpandedSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
+		final ParameterExpansions parameterExpansions = getParameterExpansions( executionContext );
+		CacheableSqmInterpretation localCopy = expandedSqmInterpretations.get( parameterExpansions );
+		JdbcParameterBindings jdbcParameterBindings = null;
+
+		executionContext.getSession().autoPreFlush();
+
+		if ( localCopy != null ) {
+			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
+				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+			}
+			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() )
+					|| !localCopy.hasSameFilterArgumentCounts( executionContext ) ) {
+				localCopy = null;
+			}
+		}
+
+		if ( localCopy == null ) {
+			// the expansions of the multivalued parameters belong to the translation,
+			// since the same plan may be executed concurrently with different values
+			localCopy = buildCacheableSqmInterpretation(
+					sqm,
+					domainParameterXref.copy(),
+					executionContext
+			);
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			if ( localCopy.hasParameterExpansions( multiValuedParameters, parameterExpansions ) ) {
+				expandedSqmInterpretations.put( parameterExpansions, localCopy );
+			}
+		}
+
+		if ( jdbcParameterBindings == null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+		}
+
+		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	}
+
+	private ParameterExpansions getParameterExpansions(DomainQueryExecutionContext executionContext) {
+		final QueryParameterBindings parameterBindings = executionContext.getQueryParameterBindings();
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final boolean padding = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final int inExpressionCountLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		final int[] valueCounts = new int[multiValuedParameters.size()];
+		for ( int i = 0; i < valueCounts.length; i++ ) {
+			final QueryParameterBinding<?> binding = parameterBindings.getBinding( multiValuedParameters.get( i ) );
+			if ( binding.isMultiValued() ) {
+				final int valueCount = binding.getBindValues().size();
+				valueCounts[i] = padding && valueCount > 0
+						? MathHelper.ceilingPowerOfTwo( valueCount, inExpressionCountLimit )
+						: valueCount;
+			}
+			else {
+				valueCounts[i] = -1;
+			}
+		}
+		return new ParameterExpansions( valueCounts );
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				new SqmParameterMappingModelResolutionAccess() {
 					//this is pretty ugly!
@@ -470,6 +565,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final int[] filterArgumentCounts = getFilterArgumentCounts( session.getLoadQueryInfluencers() );
 
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
@@ -507,15 +603,58 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 
 		return new CacheableSqmInterpretation(
+				domainParameterXref,
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
-				jdbcParameterBindings
+				jdbcParameterBindings,
+				filterArgumentCounts
 		);
 	}
 
+	/**
+	 * The number of values of each argument of the enabled filters, in a stable
+	 * order, or {@code -1} if the argument is a single value, or {@code null} if
+	 * no filter is enabled. The arguments themselves are bound for each execution
+	 * by the {@link org.hibernate.internal.FilterJdbcParameter}s.
+	 */
+	private static int[] getFilterArgumentCounts(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		else {
+			final List<Integer> counts = new ArrayList<>();
+			// the enabled filters are sorted by name
+			for ( Filter enabledFilter : loadQueryInfluencers.getEnabledFilters().values() ) {
+				final FilterImpl filter = (FilterImpl) enabledFilter;
+				final FilterDefinition filterDefinition = filter.getFilterDefinition();
+				for ( String parameterName : filterDefinition.getParameterNames() ) {
+					final Object argument = filter.getParameterValue( parameterName );
+					final JdbcMapping jdbcMapping = filterDefinition.getParameterJdbcMapping( parameterName );
+					// the same test as the translator, which renders a JDBC parameter for each value
+					if ( argument instanceof Iterable<?> values
+							&& ( jdbcMapping == null || !jdbcMapping.getJavaTypeDescriptor().isInstance( values ) ) ) {
+						int count = 0;
+						for ( Object ignored : values ) {
+							count++;
+						}
+						counts.add( count );
+					}
+					else {
+						counts.add( -1 );
+					}
+				}
+			}
+			final int[] result = new int[counts.size()];
+			for ( int i = 0; i < result.length; i++ ) {
+				result[i] = counts.get( i );
+			}
+			return result;
+		}
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -524,27 +663,97 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				JdbcParameterBindings jdbcParameterBindings);
 	}
 
+	/**
+	 * The number of values bound to each multivalued parameter, after padding,
+	 * or {@code -1} if the parameter is bound to a single value.
+	 */
+	private static final class ParameterExpansions {
+		private final int[] valueCounts;
+		private final int hashCode;
+
+		private ParameterExpansions(int[] valueCounts) {
+			this.valueCounts = valueCounts;
+			this.hashCode = Arrays.hashCode( valueCounts );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ParameterExpansions that
+				&& Arrays.equals( valueCounts, that.valueCounts );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	private static class CacheableSqmInterpretation {
+		private final DomainParameterXref domainParameterXref;
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
+		private final int[] filterArgumentCounts;
 
 		CacheableSqmInterpretation(
+				DomainParameterXref domainParameterXref,
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
-				JdbcParameterBindings firstParameterBindings) {
+				JdbcParameterBindings firstParameterBindings,
+				int[] filterArgumentCounts) {
+			this.domainParameterXref = domainParameterXref;
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
+			this.filterArgumentCounts = filterArgumentCounts;
+		}
+
+		boolean hasSameFilterArgumentCounts(DomainQueryExecutionContext executionContext) {
+			return filterArgumentCounts == null
+				|| Arrays.equals( filterArgumentCounts,
+						getFilterArgumentCounts( executionContext.getSession().getLoadQueryInfluencers() ) );
+		}
+
+		/**
+		 * Does each use of the given multivalued parameters have exactly the given
+		 * number of JDBC parameters? This is not the case when padding is enabled,
+		 * but a parameter is used somewhere other than an {@code in} list.
+		 */
+		boolean hasParameterExpansions(
+				List<QueryParameterImplementor<?>> multiValuedParameters,
+				ParameterExpansions parameterExpansions) {
+			for ( int i = 0; i < multiValuedParameters.size(); i++ ) {
+				final int valueCount = parameterExpansions.valueCounts[i];
+				if ( valueCount > 0 ) {
+					final QueryParameterImplementor<?> parameter = multiValuedParameters.get( i );
+					final Map<SqmParameter<?>, List<JdbcParametersList>> jdbcParams = jdbcParamsXref.get( parameter );
+					for ( SqmParameter<?> sqmParameter : domainParameterXref.getSqmParameters( parameter ) ) {
+						final List<JdbcParametersList> uses = jdbcParams == null ? null : jdbcParams.get( sqmParameter );
+						if ( uses != null ) {
+							// each use binds the first value to the parameter itself,
+							// and each of the other values to one of its expansions
+							final int expansionCount = domainParameterXref.getExpansions( sqmParameter ).size();
+							if ( expansionCount != ( valueCount - 1 ) * uses.size() ) {
+								return false;
+							}
+						}
+					}
+				}
+			}
+			return true;
+		}
+
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
 		}
 
 		SelectStatement getSelectStatement() {
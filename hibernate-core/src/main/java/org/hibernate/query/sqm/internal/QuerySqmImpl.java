@@ -14,7 +14,6 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import jakarta.persistence.EntityGraph;
 import org.hibernate.CacheMode;
@@ -317,11 +316,6 @@ public class QuerySqmImpl<R>
 		return false;
 	}
 
-	@Override
-	public Supplier<Boolean> hasMultiValuedParameterBindingsChecker() {
-		return this::hasMultiValuedParameterBindings;
-	}
-
 	protected boolean hasMultiValuedParameterBindings() {
 		return getQueryParameterBindings().hasAnyMultiValuedBindings()
 			|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
@@ -524,7 +518,10 @@ public class QuerySqmImpl<R>
 
 		NonSelectQueryPlan queryPlan = null;
 
-		final QueryInterpretationCache.Key cacheKey = generateNonSelectKey( this );
+		// the expansions of multivalued parameters are rendered into the SQL AST
+		// of a mutation plan, so it can't be reused with a different number of values
+		final QueryInterpretationCache.Key cacheKey =
+				hasMultiValuedParameterBindings() ? null : generateNonSelectKey( this );
 		final QueryInterpretationCache interpretationCache =
 				getSessionFactory().getQueryEngine().getInterpretationCache();
 		if ( cacheKey != null ) {
@@ -533,7 +530,7 @@ public class QuerySqmImpl<R>
 
 		if ( queryPlan == null ) {
 			queryPlan = buildNonSelectQueryPlan();
-			if ( cacheKey != null ) {
+			if ( cacheKey != null && isCacheable( queryPlan ) ) {
 				interpretationCache.cacheNonSelectQueryPlan( cacheKey, queryPlan );
 			}
 		}
@@ -541,6 +538,25 @@ public class QuerySqmImpl<R>
 		return queryPlan;
 	}
 
+	/**
+	 * The multi-table plans hand the statement to a {@link SqmMultiTableMutationStrategy},
+	 * which translates it on each execution, so there's nothing to gain from caching them.
+	 */
+	private static boolean isCacheable(NonSelectQueryPlan queryPlan) {
+		if ( queryPlan instanceof AggregatedNonSelectQueryPlanImpl ) {
+			for ( NonSelectQueryPlan aggregatedQueryPlan :
+					( (AggregatedNonSelectQueryPlanImpl) queryPlan ).getAggregatedQueryPlans() ) {
+				if ( !isCacheable( aggregatedQueryPlan ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return !( queryPlan instanceof MultiTableDeleteQueryPlan
+				|| queryPlan instanceof MultiTableUpdateQueryPlan
+				|| queryPlan instanceof MultiTableInsertQueryPlan );
+	}
+
 	private NonSelectQueryPlan buildNonSelectQueryPlan() {
 		// to get here the SQM statement has already been validated to be
 		// a non-select variety...
@@ -5,8 +5,6 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.Collections;
-import java.util.List;
-import java.util.Map;
 
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
@@ -16,20 +14,15 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.MutableObject;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.SoftDeleteMapping;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
-import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.spi.NavigablePath;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.AbstractUpdateOrDeleteStatement;
 import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
@@ -43,9 +36,7 @@ import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
-import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
-import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 
 /**
@@ -56,10 +47,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcOperationQueryMutation jdbcOperation;
-
-	private SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	private volatile CacheableSqmMutationInterpretation<? extends MutationStatement> interpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -83,37 +71,28 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<? extends JdbcOperationQueryMutation> sqlAstTranslator = null;
-		if ( jdbcOperation == null ) {
-			sqlAstTranslator = createTranslator( executionContext );
-		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-					}
-				},
-				session
-		);
-
-		if ( jdbcOperation != null
-				&& ! jdbcOperation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			sqlAstTranslator = createTranslator( executionContext );
+		// the plan may be cached and executed concurrently, so work with a local copy
+		CacheableSqmMutationInterpretation<? extends MutationStatement> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( localCopy != null ) {
+			jdbcParameterBindings = localCopy.createJdbcParameterBindings( domainParameterXref, executionContext );
+			if ( !localCopy.getJdbcOperation().isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				localCopy = null;
+			}
 		}
-
-		if ( sqlAstTranslator != null ) {
-			jdbcOperation = sqlAstTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		if ( localCopy == null ) {
+			localCopy = interpret( executionContext );
+			jdbcParameterBindings = localCopy.takeFirstParameterBindings();
+			interpretation = localCopy;
 		}
 
-		final boolean missingRestriction = sqmInterpretation.getSqlAst().getRestriction() == null;
+		final SqmTranslation<? extends MutationStatement> sqmInterpretation = localCopy.getSqmTranslation();
+		final AbstractUpdateOrDeleteStatement sqlAst = (AbstractUpdateOrDeleteStatement) sqmInterpretation.getSqlAst();
+		final boolean missingRestriction = sqlAst.getRestriction() == null;
 		if ( missingRestriction ) {
 			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert localCopy.getJdbcParamsXref().isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -155,7 +134,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 					final MutatingTableReferenceGroupWrapper tableGroup = new MutatingTableReferenceGroupWrapper(
 							new NavigablePath( attributeMapping.getRootPathName() ),
 							attributeMapping,
-							sqmInterpretation.getSqlAst().getTargetTable()
+							sqlAst.getTargetTable()
 					);
 					final Expression fkTargetColumnExpression = MappingModelCreationHelper.buildColumnReferenceExpression(
 							tableGroup,
@@ -169,7 +148,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 							tableGroup
 					);
 
-					matchingIdSubQuery.applyPredicate( sqmInterpretation.getSqlAst().getRestriction() );
+					matchingIdSubQuery.applyPredicate( sqlAst.getRestriction() );
 
 					return Predicate.combinePredicates(
 							additionalPredicate.get(),
@@ -181,7 +160,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		);
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcOperation,
+				localCopy.getJdbcOperation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -192,7 +171,8 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		);
 	}
 
-	protected SqlAstTranslator<? extends JdbcOperationQueryMutation> createTranslator(DomainQueryExecutionContext executionContext) {
+	private CacheableSqmMutationInterpretation<? extends MutationStatement> interpret(
+			DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final SqmTranslator<? extends MutationStatement> translator = factory.getQueryEngine().getSqmTranslatorFactory().createMutationTranslator(
 				sqmDelete,
@@ -202,19 +182,15 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				executionContext.getSession().getLoadQueryInfluencers(),
 				factory
 		);
-		//noinspection unchecked
-		sqmInterpretation = (SqmTranslation<? extends AbstractUpdateOrDeleteStatement>) translator.translate();
+		final SqmTranslation<? extends MutationStatement> sqmInterpretation = translator.translate();
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
 		final MutationStatement ast;
 		if ( entityDescriptor.getSoftDeleteMapping() == null ) {
 			ast = sqmInterpretation.getSqlAst();
 		}
 		else {
-			final AbstractUpdateOrDeleteStatement sqlDeleteAst = sqmInterpretation.getSqlAst();
+			final AbstractUpdateOrDeleteStatement sqlDeleteAst =
+					(AbstractUpdateOrDeleteStatement) sqmInterpretation.getSqlAst();
 			final NamedTableReference targetTable = sqlDeleteAst.getTargetTable();
 			final SoftDeleteMapping columnMapping = getEntityDescriptor().getSoftDeleteMapping();
 			final ColumnReference columnReference = new ColumnReference( targetTable, columnMapping );
@@ -228,10 +204,12 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 					sqlDeleteAst.getRestriction()
 			);
 		}
-		return factory.getJdbcServices()
-				.getJdbcEnvironment()
-				.getSqlAstTranslatorFactory()
-				.buildMutationTranslator( factory, ast );
+		return CacheableSqmMutationInterpretation.interpret(
+				sqmInterpretation,
+				ast,
+				domainParameterXref,
+				executionContext
+		);
 	}
 
 }
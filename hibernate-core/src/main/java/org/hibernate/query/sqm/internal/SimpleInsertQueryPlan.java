@@ -4,26 +4,16 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.List;
-import java.util.Map;
-
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
-import org.hibernate.query.spi.QueryParameterImplementor;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.MutationStatement;
-import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
-import org.hibernate.sql.exec.spi.JdbcParametersList;
 
 /**
  * @author Gavin King
@@ -31,10 +21,8 @@ import org.hibernate.sql.exec.spi.JdbcParametersList;
 public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 	private final SqmInsertStatement<?> sqmInsert;
 	private final DomainParameterXref domainParameterXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
 
-	private JdbcOperationQueryMutation jdbcInsert;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	private volatile CacheableSqmMutationInterpretation<? extends MutationStatement> interpretation;
 
 	public SimpleInsertQueryPlan(
 			SqmInsertStatement<?> sqmInsert,
@@ -43,7 +31,7 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<? extends JdbcOperationQueryMutation> createInsertTranslator(DomainQueryExecutionContext executionContext) {
+	private CacheableSqmMutationInterpretation<? extends MutationStatement> interpret(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 
 		final SqmTranslation<? extends MutationStatement> sqmInterpretation = factory.getQueryEngine().getSqmTranslatorFactory()
@@ -57,17 +45,12 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 						)
 						.translate();
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
+		return CacheableSqmMutationInterpretation.interpret(
+				sqmInterpretation,
+				sqmInterpretation.getSqlAst(),
 				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
+				executionContext
 		);
-
-		this.paramTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices()
-				.getJdbcEnvironment()
-				.getSqlAstTranslatorFactory()
-				.buildMutationTranslator( factory, sqmInterpretation.getSqlAst() );
 	}
 
 	@Override
@@ -76,37 +59,24 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<? extends JdbcOperationQueryMutation> insertTranslator = null;
-		if ( jdbcInsert == null ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) paramTypeResolutions.get(parameter);
-					}
-				},
-				session
-		);
-
-		if ( jdbcInsert != null && !jdbcInsert.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			insertTranslator = createInsertTranslator( executionContext );
+		// the plan may be cached and executed concurrently, so work with a local copy
+		CacheableSqmMutationInterpretation<? extends MutationStatement> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( localCopy != null ) {
+			jdbcParameterBindings = localCopy.createJdbcParameterBindings( domainParameterXref, executionContext );
+			if ( !localCopy.getJdbcOperation().isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				localCopy = null;
+			}
 		}
-
-		if ( insertTranslator != null ) {
-			jdbcInsert = insertTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		if ( localCopy == null ) {
+			localCopy = interpret( executionContext );
+			jdbcParameterBindings = localCopy.takeFirstParameterBindings();
+			interpretation = localCopy;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcInsert,
+				localCopy.getJdbcOperation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
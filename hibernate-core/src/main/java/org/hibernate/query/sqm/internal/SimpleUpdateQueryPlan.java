@@ -4,26 +4,16 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.List;
-import java.util.Map;
-
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
-import org.hibernate.query.spi.QueryParameterImplementor;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.MutationStatement;
-import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
-import org.hibernate.sql.exec.spi.JdbcParametersList;
 
 /**
  * @author Steve Ebersole
@@ -32,9 +22,7 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 	private final SqmUpdateStatement<?> sqmUpdate;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcOperationQueryMutation jdbcUpdate;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions;
+	private volatile CacheableSqmMutationInterpretation<? extends MutationStatement> interpretation;
 
 	public SimpleUpdateQueryPlan(
 			SqmUpdateStatement<?> sqmUpdate,
@@ -49,37 +37,24 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<? extends JdbcOperationQueryMutation> updateTranslator = null;
-		if ( jdbcUpdate == null ) {
-			updateTranslator = createUpdateTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmParamMappingTypeResolutions.get(parameter);
-					}
-				},
-				session
-		);
 
-		if ( jdbcUpdate != null && !jdbcUpdate.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			updateTranslator = createUpdateTranslator( executionContext );
+		// the plan may be cached and executed concurrently, so work with a local copy
+		CacheableSqmMutationInterpretation<? extends MutationStatement> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( localCopy != null ) {
+			jdbcParameterBindings = localCopy.createJdbcParameterBindings( domainParameterXref, executionContext );
+			if ( !localCopy.getJdbcOperation().isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				localCopy = null;
+			}
 		}
-
-		if ( updateTranslator != null ) {
-			jdbcUpdate = updateTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		if ( localCopy == null ) {
+			localCopy = interpret( executionContext );
+			jdbcParameterBindings = localCopy.takeFirstParameterBindings();
+			interpretation = localCopy;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcUpdate,
+				localCopy.getJdbcOperation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -90,7 +65,7 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		);
 	}
 
-	private SqlAstTranslator<? extends JdbcOperationQueryMutation> createUpdateTranslator(DomainQueryExecutionContext executionContext) {
+	private CacheableSqmMutationInterpretation<? extends MutationStatement> interpret(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 
 		final SqmTranslation<? extends MutationStatement> sqmInterpretation =
@@ -105,14 +80,11 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 						)
 						.translate();
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
+		return CacheableSqmMutationInterpretation.interpret(
+				sqmInterpretation,
+				sqmInterpretation.getSqlAst(),
 				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
+				executionContext
 		);
-
-		this.sqmParamMappingTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildMutationTranslator( factory, sqmInterpretation.getSqlAst() );
 	}
 }
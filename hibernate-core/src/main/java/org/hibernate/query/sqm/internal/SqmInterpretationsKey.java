@@ -8,17 +8,21 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Supplier;
+
+import jakarta.persistence.EntityGraph;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.EntityGraphs;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
-import static java.lang.Boolean.TRUE;
 import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
 
 /**
@@ -31,7 +35,6 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		SqmStatement<?> getSqmStatement();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
-		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
@@ -43,14 +46,22 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
 					? keySource.getSqmStatement()
 					: keySource.getQueryString();
+			final AppliedGraph appliedGraph = keySource.getQueryOptions().getAppliedGraph();
+			final GraphSemantic graphSemantic = appliedGraph.getSemantic();
+			final RootGraphImplementor<?> graph = graphSemantic == null ? null : appliedGraph.getGraph();
+			final Collection<String> enabledFilters =
+					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFilterNames() );
 			return new SqmInterpretationsKey(
 					query,
-					query.hashCode(),
+					hash( query, enabledFilters, graphSemantic, graph ),
 					keySource.getResultType(),
 					keySource.getQueryOptions().getLockOptions(),
 					keySource.getQueryOptions().getTupleTransformer(),
 					keySource.getQueryOptions().getResultListTransformer(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() )
+					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() ),
+					enabledFilters,
+					graphSemantic,
+					graph
 			);
 		}
 		else {
@@ -58,6 +69,23 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		}
 	}
 
+	private static int hash(
+			Object query,
+			Collection<String> enabledFilters,
+			GraphSemantic graphSemantic,
+			RootGraphImplementor<?> graph) {
+		int hash = query.hashCode();
+		if ( enabledFilters != null ) {
+			hash = 31 * hash + enabledFilters.hashCode();
+		}
+		if ( graph != null ) {
+			// the structure of the graph is only compared by equals()
+			hash = 31 * hash + graphSemantic.hashCode();
+			hash = 31 * hash + graph.getGraphedType().hashCode();
+		}
+		return hash;
+	}
+
 	private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<String> set) {
 		if ( set == null ) {
 			return null;
@@ -83,26 +111,49 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		// for now at least, skip caching Criteria-based plans
 		// - especially wrt parameters atm; this works with HQL because the
 		// parameters are part of the query string; with Criteria, they're not.
-		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+		// - enabled filters and the applied entity graph are part of the key;
+		// the arguments of the filters are checked by ConcreteSqmSelectQueryPlan
+		// each time the plan is executed
+		// - likewise, ConcreteSqmSelectQueryPlan keeps a translation for each
+		// number of values bound to a multivalued parameter
+		return keySource.isQueryPlanCacheable();
+	}
+
+	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keySource) {
+		if ( isNonSelectCacheable( keySource ) ) {
+			final String query = keySource.getQueryString();
+			return new SqmInterpretationsKey(
+					query,
+					query.hashCode(),
+					null,
+					keySource.getQueryOptions().getLockOptions(),
+					null,
+					null,
+					null,
+					null,
+					null,
+					null
+			);
+		}
+		else {
+			return null;
+		}
 	}
 
-	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+	private static boolean isNonSelectCacheable(InterpretationsKeySource keySource) {
+		// - the plan holds the DomainParameterXref of the query which built it,
+		// and only queries created from the same HQL string share it, so plans
+		// for Criteria-based statements are never cached
+		// - the simple mutation plans keep a single translation, and re-translate
+		// whenever the JDBC operation is incompatible with the parameter bindings;
+		// enabled filters are rendered into the SQL AST, so they're not checked
+		// there, and veto caching instead (as do expanded multivalued parameters,
+		// see QuerySqmImpl)
+		// - the multi-table plans translate the statement for each execution,
+		// so they're not cached at all (see QuerySqmImpl)
+		return keySource.isQueryPlanCacheable()
+			&& !CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
+			&& !keySource.getLoadQueryInfluencers().hasEnabledFilters();
 	}
 
 	private final Object query;
@@ -111,6 +162,9 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer<?> resultListTransformer;
 	private final Collection<String> enabledFetchProfiles;
+	private final Collection<String> enabledFilters;
+	private final GraphSemantic graphSemantic;
+	private final RootGraphImplementor<?> graph;
 	private final int hashcode;
 
 	private SqmInterpretationsKey(
@@ -120,7 +174,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer<?> resultListTransformer,
-			Collection<String> enabledFetchProfiles) {
+			Collection<String> enabledFetchProfiles,
+			Collection<String> enabledFilters,
+			GraphSemantic graphSemantic,
+			RootGraphImplementor<?> graph) {
 		this.query = query;
 		this.hashcode = hash;
 		this.resultType = resultType;
@@ -128,6 +185,9 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.enabledFilters = enabledFilters;
+		this.graphSemantic = graphSemantic;
+		this.graph = graph;
 	}
 
 	@Override
@@ -140,7 +200,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 				lockOptions.makeDefensiveCopy(),
 				tupleTransformer,
 				resultListTransformer,
-				enabledFetchProfiles
+				enabledFetchProfiles,
+				enabledFilters,
+				graphSemantic,
+				// Since the graph might be mutable, we need a copy for the cache key
+				graph == null ? null : graph.makeImmutableCopy( graph.getName() )
 		);
 	}
 
@@ -165,7 +229,24 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			&& Objects.equals( lockOptions, that.lockOptions )
 			&& Objects.equals( tupleTransformer, that.tupleTransformer )
 			&& Objects.equals( resultListTransformer, that.resultListTransformer )
-			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles );
+			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles )
+			&& Objects.equals( enabledFilters, that.enabledFilters )
+			&& graphSemantic == that.graphSemantic
+			&& areEqual( graph, that.graph );
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static boolean areEqual(RootGraphImplementor<?> graph, RootGraphImplementor<?> other) {
+		if ( graph == other ) {
+			return true;
+		}
+		else if ( graph == null || other == null ) {
+			return false;
+		}
+		else {
+			return graph.getGraphedType().equals( other.getGraphedType() )
+				&& EntityGraphs.areEqual( (EntityGraph) graph, (EntityGraph) other );
+		}
 	}
 
 	@Override
@@ -11,7 +11,6 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -98,6 +97,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	private final Class<?> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private CompiledSelectionQueryImpl<R> compiledQuery;
+
 	public SqmSelectionQueryImpl(
 			String hql,
 			HqlInterpretation<R> hqlInterpretation,
@@ -122,6 +123,21 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		setComment( hql );
 	}
 
+	/**
+	 * Form used for {@linkplain org.hibernate.query.CompiledSelectionQuery compiled} queries
+	 */
+	public SqmSelectionQueryImpl(
+			CompiledSelectionQueryImpl<R> compiledQuery,
+			SharedSessionContractImplementor session) {
+		this(
+				compiledQuery.getQueryString(),
+				compiledQuery.getHqlInterpretation(),
+				compiledQuery.getResultType(),
+				session
+		);
+		this.compiledQuery = compiledQuery;
+	}
+
 	public SqmSelectionQueryImpl(
 			NamedHqlQueryMementoImpl<?> memento,
 			Class<R> resultType,
@@ -455,6 +471,9 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
+		if ( compiledQuery != null && compiledQuery.isQueryPlanApplicable( this ) ) {
+			return compiledQuery.resolveQueryPlan( this::buildSelectQueryPlan );
+		}
 		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
 			return getSessionFactory().getQueryEngine().getInterpretationCache()
@@ -479,15 +498,6 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		return getSession().getLoadQueryInfluencers();
 	}
 
-	@Override
-	public Supplier<Boolean> hasMultiValuedParameterBindingsChecker() {
-		return this::hasMultiValuedParameterBindings;
-	}
-
-	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-			|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
-	}
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -545,12 +545,17 @@ public class SqmUtil {
 
 					// an then one for each of the expansions
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					final int expansionCount = bindValues.size() - 1;
 					final int parameterUseCount = jdbcParamsBinds.size();
+					// there might be more expansions than bind values, if the in list was padded,
+					// in which case the last value is repeated
+					final int expansionCount = expansions.size() / parameterUseCount;
 					assert expansions.size() == expansionCount * parameterUseCount;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final Object expandedValue = valueItr.next();
+					assert expansionCount >= bindValues.size() - 1;
+					Object expandedValue = firstValue;
+					for ( int expansionPosition = 0; expansionPosition < expansionCount; expansionPosition++ ) {
+						if ( valueItr.hasNext() ) {
+							expandedValue = valueItr.next();
+						}
 						for ( int j = 0; j < parameterUseCount; j++ ) {
 							final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
 							final List<JdbcParametersList> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
@@ -567,7 +572,6 @@ public class SqmUtil {
 								);
 							}
 						}
-						expansionPosition++;
 					}
 				}
 				else {
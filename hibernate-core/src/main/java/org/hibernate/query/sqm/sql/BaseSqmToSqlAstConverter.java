@@ -46,6 +46,7 @@ import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.CompositeNestedGeneratedValueGenerator;
 import org.hibernate.id.OptimizableGenerator;
 import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
@@ -8219,6 +8220,15 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
+			// when padding is enabled, create the padding expansions up front, so that the
+			// translation may be reused for any number of bind values with the same padding
+			final int expressionCount = inListPredicate.getListExpressions().size();
+			final int expressionCountWithPadding = getInListExpressionCountWithPadding( expressionCount );
+			for ( int i = expressionCount; i < expressionCountWithPadding; i++ ) {
+				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
+			}
 			return inListPredicate;
 		}
 		finally {
@@ -8226,6 +8236,12 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	private int getInListExpressionCountWithPadding(int expressionCount) {
+		return creationContext.getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+				? MathHelper.ceilingPowerOfTwo( expressionCount, getDialect().getInExpressionCountLimit() )
+				: expressionCount;
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
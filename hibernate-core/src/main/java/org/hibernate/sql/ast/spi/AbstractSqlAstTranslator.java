@@ -7671,23 +7671,30 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		if ( value instanceof Iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, ( (Iterable<?>) value ).iterator() );
+			processIterableFilterParameterValue( parameter, ( (Iterable<?>) value ).iterator() );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			processSingularFilterParameterValue( parameter, value, -1 );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
+	private void processSingularFilterParameterValue(FilterFragmentParameter parameter, Object value, int elementIndex) {
+		visitParameterAsParameter( new FilterJdbcParameter(
+				parameter.getValueMapping(),
+				value,
+				parameter.getFilterName(),
+				parameter.getParameterName(),
+				elementIndex
+		) );
 	}
 
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
+	private void processIterableFilterParameterValue(FilterFragmentParameter parameter, Iterator<?> iterator) {
+		int elementIndex = 0;
 		while ( iterator.hasNext() ) {
 			final Object element = iterator.next();
-			processSingularFilterParameterValue( valueMapping, element );
+			processSingularFilterParameterValue( parameter, element, elementIndex++ );
 			if ( iterator.hasNext() ) {
 				appendSql( "," );
 			}
@@ -7834,14 +7841,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	}
 
 	private static int addPadding(int bindValueCount, int inExprLimit) {
-		int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
-		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
-			return ceilingPowerOfTwo;
-		}
-
-		int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
-		int numberOfInClausesWithPadding = MathHelper.ceilingPowerOfTwo( numberOfInClauses );
-		return numberOfInClausesWithPadding * inExprLimit;
+		return MathHelper.ceilingPowerOfTwo( bindValueCount, inExprLimit );
 	}
 
 	@Override
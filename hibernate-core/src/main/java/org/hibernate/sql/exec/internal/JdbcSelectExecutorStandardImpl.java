@@ -37,6 +37,7 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
@@ -136,6 +137,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
+				// only a list reads every row once, front to back
+				resultsConsumer instanceof ListResultsConsumer,
 				executionContext,
 				deferredResultSetAccess
 		);
@@ -252,6 +255,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			String queryIdentifier,
 			JdbcOperationQuerySelect jdbcSelect,
 			boolean canBeCached,
+			boolean canPrefetch,
 			ExecutionContext executionContext,
 			DeferredResultSetAccess resultSetAccess) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
@@ -353,7 +357,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					resultSetAccess.usesFollowOnLocking(),
 					jdbcValuesMapping,
 					metadataForCache,
-					executionContext
+					executionContext,
+					canPrefetch ? factory.getSessionFactoryOptions().getJdbcResultSetPrefetchSize() : 0
 			);
 		}
 		else {
@@ -12,6 +12,8 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.internal.CompactCachedJdbcValues;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -25,21 +27,26 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final boolean compactEntries;
 	private final List<Object> dataToCache = new ArrayList<>();
+	private final int firstRowIndex;
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
 			StatisticsImplementor statistics,
 			QueryKey queryKey,
 			String queryIdentifier,
-			CachedJdbcValuesMetadata metadataForCache) {
+			CachedJdbcValuesMetadata metadataForCache,
+			boolean compactEntries) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.compactEntries = compactEntries;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
 		}
+		this.firstRowIndex = dataToCache.size();
 	}
 
 	@Override
@@ -54,16 +61,36 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 
 	@Override
 	public void finishUp(int resultCount, SharedSessionContractImplementor session) {
-		if ( !dataToCache.isEmpty() ) {
-			dataToCache.add( resultCount );
+		final List<Object> data = compactEntries ? compact( dataToCache ) : dataToCache;
+		if ( !data.isEmpty() ) {
+			data.add( resultCount );
 		}
 		final boolean put = queryCache.put(
 				queryKey,
-				dataToCache,
+				data,
 				session
 		);
 		if ( put && statistics.isStatisticsEnabled() ) {
 			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
 		}
 	}
+
+	/**
+	 * Replace the rows with a single {@link CompactCachedJdbcValues}, if they may be encoded.
+	 *
+	 * @see JdbcValuesCacheHit
+	 */
+	private List<Object> compact(List<Object> data) {
+		if ( data.size() > firstRowIndex ) {
+			final CompactCachedJdbcValues compactValues =
+					CompactCachedJdbcValues.encode( data.subList( firstRowIndex, data.size() ) );
+			if ( compactValues != null ) {
+				final List<Object> compacted = new ArrayList<>( firstRowIndex + 2 );
+				compacted.addAll( data.subList( 0, firstRowIndex ) );
+				compacted.add( compactValues );
+				return compacted;
+			}
+		}
+		return data;
+	}
 }
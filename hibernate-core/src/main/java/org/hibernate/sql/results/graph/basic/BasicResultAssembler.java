@@ -55,8 +55,33 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 	@Override
 	public J assemble(
 			RowProcessingState rowProcessingState) {
-		final Object jdbcValue = extractRawValue( rowProcessingState );
+		return toDomainValue( extractRawValue( rowProcessingState ) );
+	}
 
+	/**
+	 * Assemble the values of a block of rows, given the JDBC values of each
+	 * column of the block, indexed by values array position and then by row.
+	 * The block holds the values of outermost rows, so this may not be used
+	 * to assemble the values of a {@linkplain RowProcessingState#unwrap() nested}
+	 * row.
+	 *
+	 * @return the JDBC values of the column, if they need no conversion,
+	 *         or else a new array holding the converted values
+	 */
+	@Internal
+	public Object[] assembleBlock(Object[][] jdbcValueColumns, int rowCount) {
+		final Object[] jdbcValues = jdbcValueColumns[valuesArrayPosition];
+		if ( valueConverter == null ) {
+			return jdbcValues;
+		}
+		final Object[] values = new Object[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			values[i] = toDomainValue( jdbcValues[i] );
+		}
+		return values;
+	}
+
+	private J toDomainValue(Object jdbcValue) {
 		if ( valueConverter != null ) {
 			if ( jdbcValue != null ) {
 				// the raw value type should be the converter's relational-JTD
@@ -94,6 +119,16 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return assembledJavaType;
 	}
 
+	/**
+	 * The position of the value in the JDBC values array, if the value
+	 * can be read from the {@link RowProcessingState} as is, without any
+	 * conversion, or {@code -1} otherwise.
+	 */
+	@Internal
+	public int getDirectValuesArrayPosition() {
+		return valueConverter == null && !unwrapRowProcessingState ? valuesArrayPosition : -1;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
@@ -20,6 +20,7 @@ import org.hibernate.WrongClassException;
 import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.cache.internal.ReferenceDataCache;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -1244,8 +1245,10 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 						false
 				);
 			}
-			// We have to query the second level cache if reference cache entries are used
-			else if ( entityDescriptor.canUseReferenceCacheEntries() ) {
+			// We have to query the second level cache if reference cache entries are used,
+			// or the reference data cache if the instances are shared between (stateful) sessions
+			else if ( entityDescriptor.canUseReferenceCacheEntries()
+					|| entityDescriptor.canUseReferenceDataCache() && rowProcessingState.getSession().isEventSource() ) {
 				final Object cached = resolveInstanceFromCache( data );
 				if ( cached != null ) {
 					// EARLY EXIT!!!
@@ -1427,6 +1430,24 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 				putInCache( data, session, persistenceContext, resolvedEntityState, version, cacheAccess );
 			}
 		}
+		if ( data.concreteDescriptor.canUseReferenceDataCache()
+				&& session.isEventSource()
+				&& session.getCacheMode().isPutEnabled()
+				// don't share a row which might yet be rolled back
+				&& !persistenceContext.wasInsertedDuringTransaction( data.concreteDescriptor, data.entityKey.getIdentifier() ) ) {
+			final ReferenceDataCache referenceDataCache = session.getFactory().getFastSessionServices().referenceDataCache;
+			if ( referenceDataCache != null ) {
+				referenceDataCache.putFromLoad(
+						data.entityKey,
+						session.getTenantIdentifierValue(),
+						data.entityInstanceForNotify,
+						resolvedEntityState,
+						version,
+						data.concreteDescriptor,
+						persistenceContext.getReadTimestamp()
+				);
+			}
+		}
 	}
 
 	protected void registerNaturalIdResolution(
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.graph.instantiation.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import org.hibernate.query.sqm.sql.internal.InstantiationException;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Specialization of {@link DynamicInstantiationAssemblerConstructorImpl} for
+ * the case where every argument is a basic value read without conversion.
+ * The JDBC values of the current row are passed straight to a
+ * {@link MethodHandle} bound to the constructor, without going through the
+ * argument assemblers, and, for up to {@value #MAX_UNSPREAD_ARGUMENTS}
+ * arguments, without collecting them into an array.
+ */
+public class DynamicInstantiationAssemblerDirectConstructorImpl<R> implements DomainResultAssembler<R> {
+	private static final int MAX_UNSPREAD_ARGUMENTS = 6;
+
+	private final Class<R> targetClass;
+	private final JavaType<R> resultType;
+	private final int[] valuesArrayPositions;
+	private final MethodHandle constructorHandle;
+
+	private DynamicInstantiationAssemblerDirectConstructorImpl(
+			Class<R> targetClass,
+			JavaType<R> resultType,
+			int[] valuesArrayPositions,
+			MethodHandle constructorHandle) {
+		this.targetClass = targetClass;
+		this.resultType = resultType;
+		this.valuesArrayPositions = valuesArrayPositions;
+		this.constructorHandle = constructorHandle;
+	}
+
+	/**
+	 * Create an assembler calling the given constructor directly, or return
+	 * {@code null} if one of the arguments needs its assembler.
+	 *
+	 * @param targetConstructor a constructor, already made accessible
+	 */
+	public static <R> @Nullable DomainResultAssembler<R> from(
+			Constructor<R> targetConstructor,
+			JavaType<R> resultType,
+			List<ArgumentReader<?>> argumentReaders) {
+		if ( targetConstructor.isVarArgs() ) {
+			return null;
+		}
+		final int numberOfArgs = argumentReaders.size();
+		final int[] valuesArrayPositions = new int[numberOfArgs];
+		for ( int i = 0; i < numberOfArgs; i++ ) {
+			final DomainResultAssembler<?> assembler = argumentReaders.get( i ).getDelegateAssembler();
+			// subclasses, like CoercingResultAssembler, do more than read the value
+			if ( assembler.getClass() != BasicResultAssembler.class ) {
+				return null;
+			}
+			valuesArrayPositions[i] = ( (BasicResultAssembler<?>) assembler ).getDirectValuesArrayPosition();
+			if ( valuesArrayPositions[i] < 0 ) {
+				return null;
+			}
+		}
+
+		final MethodHandle constructorHandle;
+		try {
+			constructorHandle = MethodHandles.lookup().unreflectConstructor( targetConstructor )
+					.asType( MethodType.genericMethodType( numberOfArgs ) );
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+		return new DynamicInstantiationAssemblerDirectConstructorImpl<>(
+				targetConstructor.getDeclaringClass(),
+				resultType,
+				valuesArrayPositions,
+				numberOfArgs > MAX_UNSPREAD_ARGUMENTS
+						? constructorHandle.asSpreader( Object[].class, numberOfArgs )
+						: constructorHandle
+		);
+	}
+
+	@Override
+	public JavaType<R> getAssembledJavaType() {
+		return resultType;
+	}
+
+	@Override
+	public R assemble(RowProcessingState rowProcessingState) {
+		try {
+			return targetClass.cast( instantiate( rowProcessingState ) );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new InstantiationException( "Error instantiating class '" + targetClass.getName() + "'", e );
+		}
+	}
+
+	private Object instantiate(RowProcessingState state) throws Throwable {
+		final int[] positions = valuesArrayPositions;
+		switch ( positions.length ) {
+			case 0:
+				return constructorHandle.invokeExact();
+			case 1:
+				return constructorHandle.invokeExact(
+						state.getJdbcValue( positions[0] )
+				);
+			case 2:
+				return constructorHandle.invokeExact(
+						state.getJdbcValue( positions[0] ),
+						state.getJdbcValue( positions[1] )
+				);
+			case 3:
+				return constructorHandle.invokeExact(
+						state.getJdbcValue( positions[0] ),
+						state.getJdbcValue( positions[1] ),
+						state.getJdbcValue( positions[2] )
+				);
+			case 4:
+				return constructorHandle.invokeExact(
+						state.getJdbcValue( positions[0] ),
+						state.getJdbcValue( positions[1] ),
+						state.getJdbcValue( positions[2] ),
+						state.getJdbcValue( positions[3] )
+				);
+			case 5:
+				return constructorHandle.invokeExact(
+						state.getJdbcValue( positions[0] ),
+						state.getJdbcValue( positions[1] ),
+						state.getJdbcValue( positions[2] ),
+						state.getJdbcValue( positions[3] ),
+						state.getJdbcValue( positions[4] )
+				);
+			case 6:
+				return constructorHandle.invokeExact(
+						state.getJdbcValue( positions[0] ),
+						state.getJdbcValue( positions[1] ),
+						state.getJdbcValue( positions[2] ),
+						state.getJdbcValue( positions[3] ),
+						state.getJdbcValue( positions[4] ),
+						state.getJdbcValue( positions[5] )
+				);
+			default:
+				final Object[] args = new Object[positions.length];
+				for ( int i = 0; i < positions.length; i++ ) {
+					args[i] = state.getJdbcValue( positions[i] );
+				}
+				return constructorHandle.invokeExact( args );
+		}
+	}
+
+	@Override
+	public void resolveState(RowProcessingState rowProcessingState) {
+		for ( int position : valuesArrayPositions ) {
+			rowProcessingState.getJdbcValue( position );
+		}
+	}
+}
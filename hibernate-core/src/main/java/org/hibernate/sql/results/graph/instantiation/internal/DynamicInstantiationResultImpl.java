@@ -171,7 +171,11 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 		);
 		if ( constructor != null ) {
 			constructor.setAccessible( true );
-			return new DynamicInstantiationAssemblerConstructorImpl<>( constructor, javaType, argumentReaders );
+			final DomainResultAssembler<R> directAssembler =
+					DynamicInstantiationAssemblerDirectConstructorImpl.from( constructor, javaType, argumentReaders );
+			return directAssembler == null
+					? new DynamicInstantiationAssemblerConstructorImpl<>( constructor, javaType, argumentReaders )
+					: directAssembler;
 		}
 
 		if ( log.isDebugEnabled() ) {
@@ -8,6 +8,9 @@ import jakarta.persistence.TupleElement;
 import org.hibernate.InstantiationException;
 import org.hibernate.sql.results.spi.RowTransformer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.List;
 
@@ -25,7 +28,7 @@ import static org.hibernate.sql.results.graph.instantiation.internal.Instantiati
  */
 public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	private final Class<T> type;
-	private final Constructor<T> constructor;
+	private final MethodHandle constructor;
 
 	public RowTransformerConstructorImpl(
 			Class<T> type,
@@ -41,11 +44,28 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 			throw new InstantiationException( "Cannot instantiate query result type, argument types are unknown ", type );
 		}
 
-		constructor = findMatchingConstructor( type, argumentTypes, typeConfiguration );
+		final Constructor<T> constructor = findMatchingConstructor( type, argumentTypes, typeConfiguration );
 		if ( constructor == null ) {
 			throw new InstantiationException( "Cannot instantiate query result type, found no matching constructor", type );
 		}
 		constructor.setAccessible( true );
+		this.constructor = spreadingHandle( constructor, argumentTypes.size() );
+	}
+
+	/**
+	 * A handle which accepts the whole row as its only argument,
+	 * and spreads it over the parameters of the given constructor.
+	 */
+	private static MethodHandle spreadingHandle(Constructor<?> constructor, int numberOfArgs) {
+		try {
+			return MethodHandles.lookup().unreflectConstructor( constructor )
+					.asFixedArity()
+					.asType( MethodType.genericMethodType( numberOfArgs ) )
+					.asSpreader( Object[].class, numberOfArgs );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Cannot instantiate query result type, constructor is not accessible", constructor.getDeclaringClass(), e );
+		}
 	}
 
 	private static Class<?> resolveElementJavaType(TupleElement<?> element) {
@@ -62,9 +82,12 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	@Override
 	public T transformRow(Object[] row) {
 		try {
-			return constructor.newInstance( row );
+			return type.cast( (Object) constructor.invokeExact( row ) );
+		}
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Cannot instantiate query result type", type, e );
 		}
 	}
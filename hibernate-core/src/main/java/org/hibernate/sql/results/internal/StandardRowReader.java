@@ -7,11 +7,13 @@ package org.hibernate.sql.results.internal;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -158,6 +160,65 @@ public class StandardRowReader<T> implements RowReader<T> {
 		return result;
 	}
 
+	/**
+	 * Whether {@link #readBlock} can assemble the results, that is, whether
+	 * every result is a basic value read by a plain {@link BasicResultAssembler}
+	 * from an outermost row. If not, the rows must be read one by one.
+	 */
+	public boolean canReadBlocks(RowProcessingState rowProcessingState) {
+		if ( initializers.length != 0 || componentType != ComponentType.OBJECT ) {
+			return false;
+		}
+		// a block holds the values of outermost rows, which is also where an
+		// assembler that unwraps the row processing state reads its value from
+		if ( rowProcessingState.unwrap() != rowProcessingState ) {
+			return false;
+		}
+		for ( DomainResultAssembler<?> resultAssembler : resultAssemblers ) {
+			// subclasses, like CoercingResultAssembler, do more than convert the value
+			if ( resultAssembler.getClass() != BasicResultAssembler.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Assemble the results of a block of rows, given the JDBC values of each
+	 * column of the block, indexed by values array position and then by row,
+	 * and pass them to the given consumer.
+	 */
+	public void readBlock(Object[][] jdbcValueColumns, int rowCount, Consumer<? super T> consumer) {
+		if ( resultAssemblers.length == 1 && rowTransformer == null ) {
+			final Object[] values =
+					( (BasicResultAssembler<?>) resultAssemblers[0] ).assembleBlock( jdbcValueColumns, rowCount );
+			for ( int row = 0; row < rowCount; row++ ) {
+				consumer.accept( untransformedResult( values[row] ) );
+			}
+		}
+		else {
+			final Object[][] columns = new Object[resultAssemblers.length][];
+			for ( int i = 0; i < resultAssemblers.length; i++ ) {
+				columns[i] = ( (BasicResultAssembler<?>) resultAssemblers[i] ).assembleBlock( jdbcValueColumns, rowCount );
+			}
+			for ( int row = 0; row < rowCount; row++ ) {
+				final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
+				for ( int i = 0; i < resultAssemblers.length; i++ ) {
+					resultRow[i] = columns[i][row];
+				}
+				consumer.accept( rowTransformer == null
+						? untransformedResult( resultRow )
+						: rowTransformer.transformRow( resultRow ) );
+			}
+		}
+	}
+
+	// without a RowTransformer, the query result type is that of the assembled value, or Object[]
+	@SuppressWarnings("unchecked")
+	private T untransformedResult(Object value) {
+		return (T) value;
+	}
+
 	private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 		// The following is ugly, but unfortunately necessary to not hurt performance.
 		// This implementation was micro-benchmarked and discussed with Francesco Nigro,
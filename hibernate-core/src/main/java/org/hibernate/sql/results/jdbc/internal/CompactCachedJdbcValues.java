@@ -0,0 +1,406 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The rows of a cached query result, encoded as a single {@code byte[]} in which
+ * each JDBC value is preceded by a one-byte tag identifying its type. Integral
+ * values are written as variable-length integers, so that small values occupy a
+ * single byte.
+ * <p>
+ * This is much more compact than a list of {@code Object[]} rows, both on the heap
+ * and once serialized by a replicated or remote cache. Rows are decoded one at a
+ * time by a {@link Cursor}, as they are read.
+ * <p>
+ * Only values of the most common immutable types may be encoded. If a result holds
+ * a value of any other type, it is cached as a list of rows, as usual.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_QUERY_CACHE_ENTRIES
+ * @see JdbcValuesCacheHit
+ *
+ * @since 7.0
+ */
+public final class CompactCachedJdbcValues implements Serializable {
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_INTEGER = 11;
+	private static final byte BIG_DECIMAL = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte LOCAL_DATE = 14;
+	private static final byte LOCAL_TIME = 15;
+	private static final byte LOCAL_DATE_TIME = 16;
+	private static final byte INSTANT = 17;
+	private static final byte BYTES = 18;
+
+	private final byte[] data;
+	private final int rowCount;
+	// whether each row is a single value, rather than an array
+	private final boolean singleValueRows;
+
+	private CompactCachedJdbcValues(byte[] data, int rowCount, boolean singleValueRows) {
+		this.data = data;
+		this.rowCount = rowCount;
+		this.singleValueRows = singleValueRows;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The size of the encoded rows, in bytes.
+	 */
+	public int getEncodedSize() {
+		return data.length;
+	}
+
+	/**
+	 * Encode the given rows, each of which is either an {@code Object[]}, or a
+	 * single value.
+	 *
+	 * @return the encoded rows, or {@code null} if a row holds a value which
+	 * may not be encoded
+	 */
+	public static @Nullable CompactCachedJdbcValues encode(List<?> rows) {
+		final boolean singleValueRows = rows.isEmpty() || !isArrayRow( rows.get( 0 ) );
+		final Encoder encoder = new Encoder();
+		for ( Object row : rows ) {
+			if ( singleValueRows ) {
+				if ( !encoder.writeValue( row ) ) {
+					return null;
+				}
+			}
+			else {
+				if ( !isArrayRow( row ) ) {
+					return null;
+				}
+				final Object[] values = (Object[]) row;
+				encoder.writeVarInt( values.length );
+				for ( Object value : values ) {
+					if ( !encoder.writeValue( value ) ) {
+						return null;
+					}
+				}
+			}
+		}
+		return new CompactCachedJdbcValues( encoder.toByteArray(), rows.size(), singleValueRows );
+	}
+
+	private static boolean isArrayRow(@Nullable Object row) {
+		// a single value might be an array of some other type
+		return row != null && row.getClass() == Object[].class;
+	}
+
+	/**
+	 * A new cursor over the rows. A cursor is not thread-safe.
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * Decodes rows on demand, remembering the current row so that the values
+	 * of a row may be read repeatedly without decoding it again.
+	 */
+	public final class Cursor {
+		private int position = -1;
+		private int offset;
+		private @Nullable Object row;
+		// byte offsets of the rows, built on the first move other than to the next row
+		private int @Nullable [] rowOffsets;
+
+		private Cursor() {
+		}
+
+		/**
+		 * The row at the given position, either an {@code Object[]}, or a single value.
+		 */
+		public @Nullable Object getRow(int position) {
+			if ( position != this.position ) {
+				if ( position == this.position + 1 ) {
+					// the usual case
+					offset = decodeRow( offset );
+				}
+				else {
+					if ( rowOffsets == null ) {
+						rowOffsets = indexRows();
+					}
+					offset = decodeRow( rowOffsets[position] );
+				}
+				this.position = position;
+			}
+			return row;
+		}
+
+		private int decodeRow(int start) {
+			final Decoder decoder = new Decoder( data, start );
+			if ( singleValueRows ) {
+				row = decoder.readValue();
+			}
+			else {
+				final Object[] values = new Object[decoder.readVarInt()];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = decoder.readValue();
+				}
+				row = values;
+			}
+			return decoder.offset;
+		}
+
+		private int[] indexRows() {
+			final int[] offsets = new int[rowCount];
+			final Decoder decoder = new Decoder( data, 0 );
+			for ( int i = 0; i < rowCount; i++ ) {
+				offsets[i] = decoder.offset;
+				if ( singleValueRows ) {
+					decoder.readValue();
+				}
+				else {
+					final int length = decoder.readVarInt();
+					for ( int j = 0; j < length; j++ ) {
+						decoder.readValue();
+					}
+				}
+			}
+			return offsets;
+		}
+	}
+
+	private static final class Encoder {
+		private byte[] buffer = new byte[256];
+		private int size;
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, size );
+		}
+
+		boolean writeValue(@Nullable Object value) {
+			if ( value == null ) {
+				writeByte( NULL );
+			}
+			else if ( value instanceof Boolean bool ) {
+				writeByte( bool ? TRUE : FALSE );
+			}
+			else if ( value instanceof Integer integer ) {
+				writeByte( INTEGER );
+				writeVarLong( zigzag( integer ) );
+			}
+			else if ( value instanceof Long longValue ) {
+				writeByte( LONG );
+				writeVarLong( zigzag( longValue ) );
+			}
+			else if ( value instanceof Short shortValue ) {
+				writeByte( SHORT );
+				writeVarLong( zigzag( shortValue ) );
+			}
+			else if ( value instanceof Byte byteValue ) {
+				writeByte( BYTE );
+				writeByte( byteValue );
+			}
+			else if ( value instanceof String string ) {
+				writeByte( STRING );
+				writeBytes( string.getBytes( StandardCharsets.UTF_8 ) );
+			}
+			else if ( value instanceof Double doubleValue ) {
+				writeByte( DOUBLE );
+				writeFixedLong( Double.doubleToRawLongBits( doubleValue ) );
+			}
+			else if ( value instanceof Float floatValue ) {
+				writeByte( FLOAT );
+				writeVarLong( Float.floatToRawIntBits( floatValue ) & 0xFFFFFFFFL );
+			}
+			else if ( value instanceof Character character ) {
+				writeByte( CHARACTER );
+				writeVarLong( character );
+			}
+			else if ( value instanceof BigDecimal bigDecimal ) {
+				writeByte( BIG_DECIMAL );
+				writeVarLong( zigzag( bigDecimal.scale() ) );
+				writeBytes( bigDecimal.unscaledValue().toByteArray() );
+			}
+			else if ( value instanceof BigInteger bigInteger ) {
+				writeByte( BIG_INTEGER );
+				writeBytes( bigInteger.toByteArray() );
+			}
+			else if ( value instanceof UUID uuid ) {
+				writeByte( UUID_VALUE );
+				writeFixedLong( uuid.getMostSignificantBits() );
+				writeFixedLong( uuid.getLeastSignificantBits() );
+			}
+			else if ( value instanceof LocalDate localDate ) {
+				writeByte( LOCAL_DATE );
+				writeVarLong( zigzag( localDate.toEpochDay() ) );
+			}
+			else if ( value instanceof LocalTime localTime ) {
+				writeByte( LOCAL_TIME );
+				writeVarLong( localTime.toNanoOfDay() );
+			}
+			else if ( value instanceof LocalDateTime localDateTime ) {
+				writeByte( LOCAL_DATE_TIME );
+				writeVarLong( zigzag( localDateTime.toLocalDate().toEpochDay() ) );
+				writeVarLong( localDateTime.toLocalTime().toNanoOfDay() );
+			}
+			else if ( value instanceof Instant instant ) {
+				writeByte( INSTANT );
+				writeVarLong( zigzag( instant.getEpochSecond() ) );
+				writeVarLong( instant.getNano() );
+			}
+			else if ( value instanceof byte[] bytes ) {
+				writeByte( BYTES );
+				writeBytes( bytes );
+			}
+			else {
+				return false;
+			}
+			return true;
+		}
+
+		private static long zigzag(long value) {
+			return ( value << 1 ) ^ ( value >> 63 );
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong( value & 0xFFFFFFFFL );
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[size++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[size++] = (byte) value;
+		}
+
+		private void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				buffer[size++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarInt( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, size, bytes.length );
+			size += bytes.length;
+		}
+
+		private void writeByte(byte value) {
+			ensureCapacity( 1 );
+			buffer[size++] = value;
+		}
+
+		private void ensureCapacity(int length) {
+			if ( size + length > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, size + length ) );
+			}
+		}
+	}
+
+	private static final class Decoder {
+		private final byte[] data;
+		private int offset;
+
+		Decoder(byte[] data, int offset) {
+			this.data = data;
+			this.offset = offset;
+		}
+
+		@Nullable Object readValue() {
+			final byte tag = data[offset++];
+			return switch ( tag ) {
+				case NULL -> null;
+				case TRUE -> Boolean.TRUE;
+				case FALSE -> Boolean.FALSE;
+				case INTEGER -> (int) unzigzag( readVarLong() );
+				case LONG -> unzigzag( readVarLong() );
+				case SHORT -> (short) unzigzag( readVarLong() );
+				case BYTE -> data[offset++];
+				case STRING -> new String( readBytes(), StandardCharsets.UTF_8 );
+				case DOUBLE -> Double.longBitsToDouble( readFixedLong() );
+				case FLOAT -> Float.intBitsToFloat( (int) readVarLong() );
+				case CHARACTER -> (char) readVarLong();
+				case BIG_DECIMAL -> {
+					final int scale = (int) unzigzag( readVarLong() );
+					yield new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case BIG_INTEGER -> new BigInteger( readBytes() );
+				case UUID_VALUE -> new UUID( readFixedLong(), readFixedLong() );
+				case LOCAL_DATE -> LocalDate.ofEpochDay( unzigzag( readVarLong() ) );
+				case LOCAL_TIME -> LocalTime.ofNanoOfDay( readVarLong() );
+				case LOCAL_DATE_TIME -> {
+					final LocalDate date = LocalDate.ofEpochDay( unzigzag( readVarLong() ) );
+					yield LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong() ) );
+				}
+				case INSTANT -> {
+					final long seconds = unzigzag( readVarLong() );
+					yield Instant.ofEpochSecond( seconds, readVarLong() );
+				}
+				case BYTES -> readBytes();
+				default -> throw new IllegalStateException( "Unexpected tag in cached query result: " + tag );
+			};
+		}
+
+		private static long unzigzag(long value) {
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data[offset++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( b < 0 );
+			return value;
+		}
+
+		private long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( data[offset++] & 0xFF );
+			}
+			return value;
+		}
+
+		private byte[] readBytes() {
+			final int length = readVarInt();
+			final byte[] bytes = Arrays.copyOfRange( data, offset, offset + length );
+			offset += length;
+			return bytes;
+		}
+	}
+}
@@ -17,6 +17,7 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	private final CompactCachedJdbcValues.Cursor compactRows;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -28,7 +29,15 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
 		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
-		this.numberOfRows = cachedResults.size() - offset - 1;
+		if ( cachedResults.size() == offset + 2
+				&& cachedResults.get( offset ) instanceof CompactCachedJdbcValues compactCachedValues ) {
+			this.compactRows = compactCachedValues.cursor();
+			this.numberOfRows = compactCachedValues.getRowCount();
+		}
+		else {
+			this.compactRows = null;
+			this.numberOfRows = cachedResults.size() - offset - 1;
+		}
 		this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
 		this.resolvedMapping = resolvedMapping;
 		this.valueIndexesToCacheIndexes = resolvedMapping.getValueIndexesToCacheIndexes();
@@ -170,7 +179,9 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
-		final Object row = cachedResults.get( position + offset );
+		final Object row = compactRows == null
+				? cachedResults.get( position + offset )
+				: compactRows.getRow( position );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
 		}
@@ -24,6 +24,8 @@ import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -52,6 +54,13 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final int rowToCacheSize;
 	private int resultCount;
 
+	// the number of rows read by each call to readBlock(), or 0 if
+	// the rows can't be read in blocks
+	private final int blockSize;
+	// the values of the last block of rows, indexed by value index and then by row
+	private Object[][] blockColumns;
+	private boolean blocksExhausted;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -61,6 +70,34 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			JdbcValuesMapping valuesMapping,
 			CachedJdbcValuesMetadata metadataForCache,
 			ExecutionContext executionContext) {
+		this(
+				resultSetAccess,
+				queryCacheKey,
+				queryIdentifier,
+				queryOptions,
+				usesFollowOnLocking,
+				valuesMapping,
+				metadataForCache,
+				executionContext,
+				0
+		);
+	}
+
+	/**
+	 * @param prefetchSize The number of rows to {@linkplain #readBlock() read at a time},
+	 * if the results consist only of basic values, or {@code 0} to read rows one at a time.
+	 * Rows may only be read in blocks if the results are never scrolled.
+	 */
+	public JdbcValuesResultSetImpl(
+			ResultSetAccess resultSetAccess,
+			QueryKey queryCacheKey,
+			String queryIdentifier,
+			QueryOptions queryOptions,
+			boolean usesFollowOnLocking,
+			JdbcValuesMapping valuesMapping,
+			CachedJdbcValuesMetadata metadataForCache,
+			ExecutionContext executionContext,
+			int prefetchSize) {
 		this.queryCachePutManager = resolveQueryCachePutManager(
 				executionContext,
 				queryOptions,
@@ -102,6 +139,29 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			}
 			this.rowToCacheSize = cacheIndex;
 		}
+		this.blockSize = canPrefetch( prefetchSize ) ? prefetchSize : 0;
+	}
+
+	private boolean canPrefetch(int prefetchSize) {
+		if ( prefetchSize <= 1 || sqlSelections.length == 0
+				|| queryCachePutManager != null || usesFollowOnLocking ) {
+			return false;
+		}
+		for ( DomainResult<?> domainResult : valuesMapping.getDomainResults() ) {
+			if ( !( domainResult instanceof BasicResult ) ) {
+				return false;
+			}
+		}
+		for ( SqlSelection sqlSelection : sqlSelections ) {
+			// a LOB or stream can't be read once the ResultSet has moved on
+			if ( sqlSelection == null
+					|| sqlSelection.getExpressionType() == null
+					|| sqlSelection.getExpressionType().getJdbcTypeCount() != 1
+					|| sqlSelection.getExpressionType().getSingleJdbcMapping().getJdbcType().isLobOrLong() ) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private int determineResultCountEstimate(
@@ -135,7 +195,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					factory.getSessionFactoryOptions().isCompactQueryCacheEntriesEnabled()
 			);
 		}
 		else {
@@ -148,6 +209,48 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		return advance( advanceNext() );
 	}
 
+	/**
+	 * Whether the rows may be read a block at a time, by {@link #readBlock()},
+	 * instead of one at a time.
+	 */
+	public boolean canReadBlocks() {
+		return blockSize > 1;
+	}
+
+	/**
+	 * Read the values of the next block of rows into the {@linkplain #getBlockColumns()
+	 * block columns}. Rows read in blocks can't also be read one at a time.
+	 *
+	 * @return the number of rows read, or {@code 0} if there are no more rows
+	 */
+	public int readBlock() {
+		assert canReadBlocks();
+		if ( blockColumns == null ) {
+			blockColumns = new Object[sqlSelections.length][blockSize];
+		}
+		int rowCount = 0;
+		while ( rowCount < blockSize && !blocksExhausted ) {
+			if ( advanceNext() ) {
+				for ( int valueIndex = 0; valueIndex < sqlSelections.length; valueIndex++ ) {
+					blockColumns[valueIndex][rowCount] = extractValue( sqlSelections[valueIndex] );
+				}
+				rowCount++;
+			}
+			else {
+				blocksExhausted = true;
+			}
+		}
+		return rowCount;
+	}
+
+	/**
+	 * The JDBC values of the rows of the last {@linkplain #readBlock() block},
+	 * indexed by value index, and then by row.
+	 */
+	public Object[][] getBlockColumns() {
+		return blockColumns;
+	}
+
 	@Override
 	protected boolean processPrevious(RowProcessingState rowProcessingState) {
 		return advance( advancePrevious() );
@@ -380,25 +483,28 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	public Object getCurrentRowValue(int valueIndex) {
 		if ( !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
-			final SqlSelection sqlSelection = sqlSelections[valueIndex];
-			try {
-				currentRowJdbcValues[valueIndex] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
-						executionContext.getSession()
-				);
-			}
-			catch ( SQLException e ) {
-				// do not want to wrap in ExecutionException here
-				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
-						e,
-						"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
-				);
-			}
+			currentRowJdbcValues[valueIndex] = extractValue( sqlSelections[valueIndex] );
 		}
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	private Object extractValue(SqlSelection sqlSelection) {
+		try {
+			return sqlSelection.getJdbcValueExtractor().extract(
+					resultSet,
+					sqlSelection.getJdbcResultSetIndex(),
+					executionContext.getSession()
+			);
+		}
+		catch ( SQLException e ) {
+			// do not want to wrap in ExecutionException here
+			throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+			);
+		}
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
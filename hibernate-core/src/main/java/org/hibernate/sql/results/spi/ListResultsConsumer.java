@@ -15,6 +15,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
@@ -195,6 +197,9 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 			else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 				readRows = readUniqueAssert( rowProcessingState, rowReader, results );
 			}
+			else if ( canReadBlocks( jdbcValues, rowReader, rowProcessingState ) ) {
+				readRows = readBlocks( (JdbcValuesResultSetImpl) jdbcValues, (StandardRowReader<R>) rowReader, results );
+			}
 			else {
 				readRows = read( rowProcessingState, rowReader, results );
 			}
@@ -251,6 +256,33 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		return readRows;
 	}
 
+	private static boolean canReadBlocks(
+			JdbcValues jdbcValues,
+			RowReader<?> rowReader,
+			RowProcessingStateStandardImpl rowProcessingState) {
+		return jdbcValues instanceof JdbcValuesResultSetImpl
+			&& ( (JdbcValuesResultSetImpl) jdbcValues ).canReadBlocks()
+			&& rowReader instanceof StandardRowReader
+			&& ( (StandardRowReader<?>) rowReader ).canReadBlocks( rowProcessingState );
+	}
+
+	/**
+	 * Read the rows a block at a time, and assemble the results of each
+	 * block column by column, rather than row by row.
+	 */
+	private static <R> int readBlocks(
+			JdbcValuesResultSetImpl jdbcValues,
+			StandardRowReader<R> rowReader,
+			Results<R> results) {
+		int readRows = 0;
+		int rowCount;
+		while ( ( rowCount = jdbcValues.readBlock() ) > 0 ) {
+			rowReader.readBlock( jdbcValues.getBlockColumns(), rowCount, results::add );
+			readRows += rowCount;
+		}
+		return readRows;
+	}
+
 	private static <R> int readUniqueAssert(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
@@ -6,6 +6,8 @@ package org.hibernate.stat;
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Entity-related statistics.
  *
@@ -48,4 +50,51 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) an instance of
+	 * this entity was found in the reference data cache.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#REFERENCE_DATA_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReferenceDataCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * Number of times (since last Statistics clearing) an instance of
+	 * this entity was <em>not</em> found in the reference data cache.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReferenceDataCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * Number of times (since last Statistics clearing) an instance of
+	 * this entity was put in the reference data cache.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReferenceDataCachePutCount() {
+		return 0;
+	}
+
+	/**
+	 * Number of times (since last Statistics clearing) an instance of
+	 * this entity was evicted from the reference data cache to respect
+	 * its maximum size.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReferenceDataCacheEvictionCount() {
+		return 0;
+	}
 }
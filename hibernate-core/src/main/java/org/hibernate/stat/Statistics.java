@@ -8,6 +8,7 @@ import java.time.Instant;
 import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.Incubating;
 
 /**
  * Exposes statistics collected from all sessions belonging to a
@@ -393,4 +394,62 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from the cache. Evictions
+	 * are only counted when the cache uses the {@code tinylfu}
+	 * {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_EVICTION_POLICY
+	 * eviction policy}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of entity instances successfully retrieved from the
+	 * reference data cache.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#REFERENCE_DATA_CACHE_SIZE
+	 * @see EntityStatistics#getReferenceDataCacheHitCount()
+	 */
+	@Incubating
+	default long getReferenceDataCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of reference data cache lookups <em>not</em> found in cache.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReferenceDataCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of entity instances put in the reference data cache.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReferenceDataCachePutCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of entity instances evicted from the reference data
+	 * cache to respect its maximum size.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getReferenceDataCacheEvictionCount() {
+		return 0;
+	}
 }
@@ -24,6 +24,10 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder referenceDataCacheHitCount = new LongAdder();
+	private final LongAdder referenceDataCacheMissCount = new LongAdder();
+	private final LongAdder referenceDataCachePutCount = new LongAdder();
+	private final LongAdder referenceDataCacheEvictionCount = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -58,6 +62,26 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public long getReferenceDataCacheHitCount() {
+		return referenceDataCacheHitCount.sum();
+	}
+
+	@Override
+	public long getReferenceDataCacheMissCount() {
+		return referenceDataCacheMissCount.sum();
+	}
+
+	@Override
+	public long getReferenceDataCachePutCount() {
+		return referenceDataCachePutCount.sum();
+	}
+
+	@Override
+	public long getReferenceDataCacheEvictionCount() {
+		return referenceDataCacheEvictionCount.sum();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -82,6 +106,22 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void incrementReferenceDataCacheHitCount() {
+		referenceDataCacheHitCount.increment();
+	}
+
+	void incrementReferenceDataCacheMissCount() {
+		referenceDataCacheMissCount.increment();
+	}
+
+	void incrementReferenceDataCachePutCount() {
+		referenceDataCachePutCount.increment();
+	}
+
+	void incrementReferenceDataCacheEvictionCount() {
+		referenceDataCacheEvictionCount.increment();
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -91,7 +131,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",referenceDataCacheHitCount=" ).append( this.referenceDataCacheHitCount )
+				.append( ",referenceDataCacheMissCount=" ).append( this.referenceDataCacheMissCount )
+				.append( ",referenceDataCachePutCount=" ).append( this.referenceDataCachePutCount )
+				.append( ",referenceDataCacheEvictionCount=" ).append( this.referenceDataCacheEvictionCount );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
@@ -96,6 +96,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	private final LongAdder referenceDataCacheHitCount = new LongAdder();
+	private final LongAdder referenceDataCacheMissCount = new LongAdder();
+	private final LongAdder referenceDataCachePutCount = new LongAdder();
+	private final LongAdder referenceDataCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -207,6 +213,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+
+		referenceDataCacheHitCount.reset();
+		referenceDataCacheMissCount.reset();
+		referenceDataCachePutCount.reset();
+		referenceDataCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -771,6 +783,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -798,6 +815,55 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String query) {
+		queryPlanCacheEvictionCount.increment();
+	}
+
+	@Override
+	public long getReferenceDataCacheHitCount() {
+		return referenceDataCacheHitCount.sum();
+	}
+
+	@Override
+	public long getReferenceDataCacheMissCount() {
+		return referenceDataCacheMissCount.sum();
+	}
+
+	@Override
+	public long getReferenceDataCachePutCount() {
+		return referenceDataCachePutCount.sum();
+	}
+
+	@Override
+	public long getReferenceDataCacheEvictionCount() {
+		return referenceDataCacheEvictionCount.sum();
+	}
+
+	@Override
+	public void referenceDataCacheHit(String entityName) {
+		referenceDataCacheHitCount.increment();
+		getEntityStatistics( entityName ).incrementReferenceDataCacheHitCount();
+	}
+
+	@Override
+	public void referenceDataCacheMiss(String entityName) {
+		referenceDataCacheMissCount.increment();
+		getEntityStatistics( entityName ).incrementReferenceDataCacheMissCount();
+	}
+
+	@Override
+	public void referenceDataCachePut(String entityName) {
+		referenceDataCachePutCount.increment();
+		getEntityStatistics( entityName ).incrementReferenceDataCachePutCount();
+	}
+
+	@Override
+	public void referenceDataCacheEviction(String entityName) {
+		referenceDataCacheEvictionCount.increment();
+		getEntityStatistics( entityName ).incrementReferenceDataCacheEvictionCount();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -972,6 +1038,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
+				",reference data cache puts=" + referenceDataCachePutCount +
+				",reference data cache hits=" + referenceDataCacheHitCount +
+				",reference data cache misses=" + referenceDataCacheMissCount +
+				",reference data cache evictions=" + referenceDataCacheEvictionCount +
 				']';
 	}
 
@@ -267,6 +267,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating the eviction of a plan from the query plan cache.
+	 *
+	 * @param query The query, or {@code null} if the plan was not for a query string
+	 */
+	default void queryPlanCacheEviction(String query) {
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -277,6 +285,42 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a get from the reference data cache resulted in a hit.
+	 *
+	 * @param entityName The name of the root entity
+	 */
+	default void referenceDataCacheHit(String entityName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the reference data cache resulted in a miss.
+	 *
+	 * @param entityName The name of the root entity
+	 */
+	default void referenceDataCacheMiss(String entityName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a put into the reference data cache.
+	 *
+	 * @param entityName The name of the root entity
+	 */
+	default void referenceDataCachePut(String entityName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an eviction from the reference data cache.
+	 *
+	 * @param entityName The name of the root entity
+	 */
+	default void referenceDataCacheEviction(String entityName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Register the execution of a slow SQL query.
 	 */
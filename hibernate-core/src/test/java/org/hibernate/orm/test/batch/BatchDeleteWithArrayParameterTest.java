@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.OptimisticLockException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = {
+		BatchDeleteWithArrayParameterTest.Book.class,
+		BatchDeleteWithArrayParameterTest.Publication.class,
+		BatchDeleteWithArrayParameterTest.Magazine.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DIALECT, value = "org.hibernate.orm.test.batch.BatchDeleteWithArrayParameterTest$TestDialect"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_DELETES_WITH_ARRAY_PARAMETER, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class BatchDeleteWithArrayParameterTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testDeleteSingleTable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 25; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			inspector.clear();
+			books.forEach( session::remove );
+		} );
+
+		// one statement per batch of 10 identifiers
+		inspector.assertExecutedCount( 3 );
+		assertThat( inspector.getSqlQueries() ).allMatch( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "delete" ) );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isZero() );
+	}
+
+	@Test
+	public void testDeleteJoinedInheritance(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 5; i++ ) {
+				session.persist( new Magazine( i, "Magazine " + i, (int) i ) );
+			}
+		} );
+
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Magazine> magazines =
+					session.createSelectionQuery( "from Magazine", Magazine.class ).getResultList();
+			inspector.clear();
+			magazines.forEach( session::remove );
+		} );
+
+		// the subclass table, then the root table
+		inspector.assertExecutedCount( 2 );
+		assertThat( inspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "Magazine" );
+		assertThat( inspector.getSqlQueries().get( 1 ) ).containsIgnoringCase( "Publication" );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Publication", Long.class ).getSingleResult()
+		).isZero() );
+	}
+
+	@Test
+	public void testDeleteStaleEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Book 1" ) ) );
+
+		scope.inSession( session -> {
+			final Book book = session.find( Book.class, 1L );
+			scope.inTransaction( other -> other.remove( other.find( Book.class, 1L ) ) );
+
+			session.getTransaction().begin();
+			try {
+				session.remove( book );
+				assertThatThrownBy( session::flush )
+						.isInstanceOf( OptimisticLockException.class )
+						.getCause()
+						.isInstanceOfSatisfying( StaleObjectStateException.class, e -> {
+							assertThat( e.getEntityName() ).isEqualTo( Book.class.getName() );
+							assertThat( e.getIdentifier() ).isEqualTo( 1L );
+						} );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	@Test
+	public void testDeleteConcurrentlyDeletedEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 5; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+
+		scope.inSession( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			scope.inTransaction( other -> other.remove( other.find( Book.class, 3L ) ) );
+
+			session.getTransaction().begin();
+			try {
+				books.forEach( session::remove );
+				assertThatThrownBy( session::flush )
+						.isInstanceOf( OptimisticLockException.class )
+						.getCause()
+						.isInstanceOfSatisfying( StaleObjectStateException.class,
+								e -> assertThat( e.getEntityName() ).isEqualTo( Book.class.getName() ) );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( 4L ) );
+	}
+
+	public static class TestDialect extends H2Dialect {
+		public TestDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		public TestDialect() {
+		}
+
+		public TestDialect(DatabaseVersion version) {
+			super( version );
+		}
+
+		@Override
+		public boolean useArrayForMultiValuedParameters() {
+			return true;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Publication")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Publication {
+		@Id
+		private Long id;
+		private String title;
+
+		public Publication() {
+		}
+
+		public Publication(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	public static class Magazine extends Publication {
+		private int issue;
+
+		public Magazine() {
+		}
+
+		public Magazine(Long id, String title, int issue) {
+			super( id, title );
+			this.issue = issue;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link org.hibernate.cfg.BatchSettings#BATCH_PIPELINING}, using H2,
+ * whose connections may be used from several threads, as a stand-in for a
+ * pipelining driver
+ */
+@DomainModel(annotatedClasses = BatchPipeliningTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.BATCH_PIPELINING, value = "true"),
+		@Setting(name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.batch.BatchPipeliningTest$TrackingConnectionProvider")
+})
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class BatchPipeliningTest {
+
+	@BeforeEach
+	public void setUp() {
+		TrackingConnectionProvider.reset();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsertAndUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 95; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			assertThat( items ).hasSize( 95 );
+			items.forEach( item -> item.name = "updated " + item.id );
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item where name like 'updated %'", Long.class )
+						.getSingleResult()
+		).isEqualTo( 95L ) );
+
+		// full batches were executed in the background while the next batch was being built
+		assertThat( TrackingConnectionProvider.executingThreads )
+				.anyMatch( thread -> thread.startsWith( "hibernate-batch-pipeline-" ) );
+		assertThat( TrackingConnectionProvider.overlappingAddBatchCount ).hasPositiveValue();
+	}
+
+	@Test
+	public void testErrorInPipelinedBatch(SessionFactoryScope scope) {
+		// the duplicate name violates the unique constraint in the first, background, batch
+		assertThatThrownBy( () -> scope.inTransaction( session -> {
+			for ( long i = 0; i < 25; i++ ) {
+				session.persist( new Item( i, i == 3 ? "item 2" : "item " + i ) );
+			}
+			session.flush();
+		} ) ).isInstanceOf( ConstraintViolationException.class );
+
+		assertThat( TrackingConnectionProvider.executingThreads )
+				.anyMatch( thread -> thread.startsWith( "hibernate-batch-pipeline-" ) );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isZero() );
+	}
+
+	@Test
+	public void testStaleStateInPipelinedBatch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 25; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		// the row count check for the first, background, batch must fail the flush
+		final OptimisticLockException exception =
+				assertThrows( OptimisticLockException.class, () -> scope.inTransaction( session -> {
+					final List<Item> items =
+							session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+					scope.inTransaction( other -> other.createMutationQuery( "delete from Item where id = 3" ).executeUpdate() );
+					items.forEach( item -> item.name = "updated " + item.id );
+					session.flush();
+				} ) );
+		assertThat( exception.getCause() ).isInstanceOfSatisfying( StaleObjectStateException.class,
+				e -> assertThat( e.getIdentifier() ).isEqualTo( 3L ) );
+		assertThat( TrackingConnectionProvider.executingThreads )
+				.anyMatch( thread -> thread.startsWith( "hibernate-batch-pipeline-" ) );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item where name like 'updated %'", Long.class )
+						.getSingleResult()
+		).isZero() );
+	}
+
+	/**
+	 * Records the threads executing batches, and slows their execution down
+	 * enough for the flushing thread to add statements to the next batch
+	 * in the meantime
+	 */
+	public static class TrackingConnectionProvider extends ConnectionProviderDelegate {
+		static final Set<String> executingThreads = ConcurrentHashMap.newKeySet();
+		static final AtomicInteger executionsInFlight = new AtomicInteger();
+		static final AtomicInteger overlappingAddBatchCount = new AtomicInteger();
+
+		static void reset() {
+			executingThreads.clear();
+			executionsInFlight.set( 0 );
+			overlappingAddBatchCount.set( 0 );
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						final Object result = invoke( connection, method, args );
+						return result instanceof PreparedStatement statement
+								? trackingStatement( statement )
+								: result;
+					}
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( connection.unwrap( Connection.class ) );
+		}
+
+		private static PreparedStatement trackingStatement(PreparedStatement statement) {
+			final InvocationHandler handler = (proxy, method, args) -> {
+				switch ( method.getName() ) {
+					case "addBatch":
+						if ( executionsInFlight.get() > 0 ) {
+							overlappingAddBatchCount.incrementAndGet();
+						}
+						break;
+					case "executeBatch":
+						executingThreads.add( Thread.currentThread().getName() );
+						executionsInFlight.incrementAndGet();
+						try {
+							Thread.sleep( 20 );
+							return invoke( statement, method, args );
+						}
+						finally {
+							executionsInFlight.decrementAndGet();
+						}
+				}
+				return invoke( statement, method, args );
+			};
+			return (PreparedStatement) Proxy.newProxyInstance(
+					TrackingConnectionProvider.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class },
+					handler
+			);
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke( target, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		@Column(unique = true)
+		private String name;
+		@Version
+		private int version;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
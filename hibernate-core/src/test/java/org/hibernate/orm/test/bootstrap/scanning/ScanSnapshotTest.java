@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
+import org.hibernate.boot.model.process.internal.ScanningCoordinator;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that a {@linkplain AvailableSettings#SCANNER_SNAPSHOT_FILE scan snapshot}
+ * written by one bootstrap replaces the scan in the next one.
+ */
+public class ScanSnapshotTest {
+
+	@TempDir
+	Path directory;
+
+	private final BootstrapContext bootstrapContext = Mockito.mock( BootstrapContext.class );
+	private final MetadataBuildingOptions metadataBuildingOptions = Mockito.mock( MetadataBuildingOptions.class );
+	private final ScanEnvironment scanEnvironment = Mockito.mock( ScanEnvironment.class );
+	private final StandardServiceRegistry serviceRegistry = Mockito.mock( StandardServiceRegistry.class );
+	private final ClassLoaderService classLoaderService = Mockito.mock( ClassLoaderService.class );
+	private final ConfigurationService configurationService = Mockito.mock( ConfigurationService.class );
+
+	private final AtomicInteger scanCount = new AtomicInteger();
+
+	@BeforeEach
+	public void init() throws Exception {
+		when( bootstrapContext.getScanEnvironment() ).thenReturn( scanEnvironment );
+		when( bootstrapContext.getScanOptions() ).thenReturn( new StandardScanOptions() );
+		when( bootstrapContext.getServiceRegistry() ).thenReturn( serviceRegistry );
+		when( bootstrapContext.getMetadataBuildingOptions() ).thenReturn( metadataBuildingOptions );
+		when( bootstrapContext.getScanner() ).thenReturn( (Scanner) (environment, options, parameters) -> {
+			scanCount.incrementAndGet();
+			return new ScanResultImpl(
+					Collections.emptySet(),
+					Collections.singleton( new ClassDescriptorImpl(
+							"org.example.Book",
+							ClassDescriptor.Categorization.MODEL,
+							new ByteArrayInputStreamAccess( "Book", new byte[0] )
+					) ),
+					Collections.emptySet()
+			);
+		} );
+
+		when( serviceRegistry.requireService( ClassLoaderService.class ) ).thenReturn( classLoaderService );
+		when( serviceRegistry.getService( ConfigurationService.class ) ).thenReturn( configurationService );
+		when( configurationService.getSettings() ).thenReturn(
+				Map.of( AvailableSettings.SCANNER_SNAPSHOT_FILE, directory.resolve( "scan.bin" ).toString() )
+		);
+
+		when( scanEnvironment.getExplicitlyListedClassNames() ).thenReturn( List.of() );
+	}
+
+	@Test
+	public void testSnapshotReplacesScan() throws Exception {
+		// the snapshot file must not live within the scanned archive
+		final Path classes = Files.createDirectories( directory.resolve( "classes/org/example" ) );
+		Files.write( classes.resolve( "Book.class" ), new byte[0] );
+		when( scanEnvironment.getRootUrl() ).thenReturn( directory.resolve( "classes" ).toUri().toURL() );
+
+		assertThat( coordinateScan().getAnnotatedClassNames() ).containsExactly( "org.example.Book" );
+		assertThat( scanCount ).hasValue( 1 );
+		assertThat( directory.resolve( "scan.bin" ) ).exists();
+
+		assertThat( coordinateScan().getAnnotatedClassNames() ).containsExactly( "org.example.Book" );
+		assertThat( scanCount ).hasValue( 1 );
+
+		// the class is located within its archive, not by name
+		verify( classLoaderService, never() ).locateResource( anyString() );
+	}
+
+	@Test
+	public void testSnapshotOfJarArchive() throws Exception {
+		final Path jar = directory.resolve( "classes.jar" );
+		try ( JarOutputStream out = new JarOutputStream( Files.newOutputStream( jar ) ) ) {
+			out.putNextEntry( new JarEntry( "org/example/Book.class" ) );
+			out.closeEntry();
+		}
+		when( scanEnvironment.getRootUrl() ).thenReturn( jar.toUri().toURL() );
+
+		coordinateScan();
+		assertThat( coordinateScan().getAnnotatedClassNames() ).containsExactly( "org.example.Book" );
+		assertThat( scanCount ).hasValue( 1 );
+	}
+
+	@Test
+	public void testMovedClassInvalidatesSnapshot() throws Exception {
+		final Path root = Files.createDirectory( directory.resolve( "classes" ) );
+		final Path classes = Files.createDirectories( root.resolve( "org/example" ) );
+		Files.write( classes.resolve( "Book.class" ), new byte[0] );
+		resetLastModifiedTimes( root );
+		when( scanEnvironment.getRootUrl() ).thenReturn( root.toUri().toURL() );
+
+		coordinateScan();
+		assertThat( scanCount ).hasValue( 1 );
+
+		// the fingerprint of the archive is unchanged, but the class is gone,
+		// even if the class loader still finds a resource of the same name
+		when( classLoaderService.locateResource( anyString() ) ).thenReturn( directory.toUri().toURL() );
+		Files.move( classes.resolve( "Book.class" ), classes.resolve( "Other.class" ) );
+		resetLastModifiedTimes( root );
+		coordinateScan();
+		assertThat( scanCount ).hasValue( 2 );
+	}
+
+	@Test
+	public void testChangedManifestInvalidatesSnapshot() throws Exception {
+		final Path root = Files.createDirectory( directory.resolve( "classes" ) );
+		Files.createDirectories( root.resolve( "org/example" ) );
+		Files.write( root.resolve( "org/example/Book.class" ), new byte[0] );
+		Files.createDirectory( root.resolve( "META-INF" ) );
+		Files.writeString( root.resolve( "META-INF/MANIFEST.MF" ), "Manifest-Version: 1.0\n" );
+		resetLastModifiedTimes( root );
+		when( scanEnvironment.getRootUrl() ).thenReturn( root.toUri().toURL() );
+
+		coordinateScan();
+		coordinateScan();
+		assertThat( scanCount ).hasValue( 1 );
+
+		// only the manifest of the exploded archive changes
+		Files.writeString( root.resolve( "META-INF/MANIFEST.MF" ), "Manifest-Version: 1.0\nImplementation-Version: 2\n" );
+		Files.setLastModifiedTime( root.resolve( "META-INF" ), FileTime.fromMillis( 1_000_000_000_000L ) );
+		coordinateScan();
+		assertThat( scanCount ).hasValue( 2 );
+	}
+
+	@Test
+	public void testChangedDetectionSettingInvalidatesSnapshot() throws Exception {
+		final Path root = Files.createDirectory( directory.resolve( "classes" ) );
+		Files.createDirectories( root.resolve( "org/example" ) );
+		Files.write( root.resolve( "org/example/Book.class" ), new byte[0] );
+		when( scanEnvironment.getRootUrl() ).thenReturn( root.toUri().toURL() );
+
+		coordinateScan();
+		assertThat( scanCount ).hasValue( 1 );
+
+		when( configurationService.getSettings() ).thenReturn( Map.of(
+				AvailableSettings.SCANNER_SNAPSHOT_FILE, directory.resolve( "scan.bin" ).toString(),
+				AvailableSettings.SCANNER_DISCOVERY, "class"
+		) );
+		coordinateScan();
+		assertThat( scanCount ).hasValue( 2 );
+	}
+
+	@Test
+	public void testUnlocatedClassNotWritten() throws Exception {
+		// the scanned archive doesn't hold the class the scanner located
+		when( scanEnvironment.getRootUrl() ).thenReturn(
+				Files.createDirectory( directory.resolve( "classes" ) ).toUri().toURL()
+		);
+
+		coordinateScan();
+		assertThat( directory.resolve( "scan.bin" ) ).doesNotExist();
+		coordinateScan();
+		assertThat( scanCount ).hasValue( 2 );
+	}
+
+	private static void resetLastModifiedTimes(Path root) throws Exception {
+		try ( Stream<Path> files = Files.walk( root ) ) {
+			for ( Path file : (Iterable<Path>) files::iterator ) {
+				Files.setLastModifiedTime( file, FileTime.fromMillis( 1_000_000_000_000L ) );
+			}
+		}
+	}
+
+	private ManagedResourcesImpl coordinateScan() {
+		final ManagedResourcesImpl managedResources = ManagedResourcesImpl.baseline( new MetadataSources(), bootstrapContext );
+		ScanningCoordinator.INSTANCE.coordinateScan( managedResources, bootstrapContext, null );
+		return managedResources;
+	}
+}
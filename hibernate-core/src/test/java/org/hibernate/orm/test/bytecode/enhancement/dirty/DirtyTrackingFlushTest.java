@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.List;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Clean entities which track their own dirtiness are skipped by the flush,
+ * which must still detect the entities modified between flushes.
+ */
+@DomainModel(annotatedClasses = DirtyTrackingFlushTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@BytecodeEnhanced
+public class DirtyTrackingFlushTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 20; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testRepeatedFlushes(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+
+			inspector.clear();
+			session.flush();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).isEmpty();
+
+			items.get( 3 ).setName( "changed 3" );
+			items.get( 17 ).setName( "changed 17" );
+			session.flush();
+			inspector.assertUpdate();
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).isEmpty();
+
+			items.get( 5 ).setName( "changed 5" );
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item where name like 'changed %'", Long.class )
+						.getSingleResult()
+		).isEqualTo( 3L ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.cache.internal.TimestampsCacheInMemoryImpl;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.cache.internal.InMemoryTimestampsCacheFactory}
+ */
+@DomainModel(annotatedClasses = {
+		InMemoryTimestampsCacheTest.Book.class,
+		InMemoryTimestampsCacheTest.Author.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.cache.internal.LocalRegionFactory"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_FACTORY,
+				value = "org.hibernate.cache.internal.InMemoryTimestampsCacheFactory"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class InMemoryTimestampsCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Author( 1L, "Gavin" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	private static long countAuthors(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( "from Author", Author.class )
+				.setCacheable( true )
+				.getResultList()
+				.size() );
+	}
+
+	@Test
+	public void testTimestampsKeptInMemory(SessionFactoryScope scope) {
+		final TimestampsCache timestampsCache = scope.getSessionFactory().getCache().getTimestampsCache();
+		assertThat( timestampsCache ).isInstanceOf( TimestampsCacheInMemoryImpl.class );
+		scope.inTransaction( session -> session.persist( new Book( 2L, "Java Persistence with Hibernate" ) ) );
+		assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+		// the region is never written
+		assertThat( ( (ExtendedStatisticsSupport) timestampsCache.getRegion() ).getElementCountInMemory() ).isZero();
+	}
+
+	@Test
+	public void testStaleResultsDetected(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+		statistics.clear();
+		assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		// a write to an unrelated table leaves the cached result valid
+		scope.inTransaction( session -> session.persist( new Book( 2L, "Java Persistence with Hibernate" ) ) );
+		statistics.clear();
+		assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.persist( new Author( 2L, "Christian" ) ) );
+		statistics.clear();
+		assertThat( countAuthors( scope ) ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidates(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.persist( new Author( 2L, "Christian" ) );
+			session.persist( new Author( 3L, "Steve" ) );
+			// results cached while the transaction is in flight are not trusted
+			assertThat( session.createSelectionQuery( "from Author", Author.class )
+					.setCacheable( true )
+					.getResultList() ).hasSize( 2 );
+		} );
+		statistics.clear();
+		assertThat( countAuthors( scope ) ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+
+		statistics.clear();
+		assertThat( countAuthors( scope ) ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUpToDateWithoutLookupAfterCommit(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Book( 2L, "Java Persistence with Hibernate" ) ) );
+		assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+
+		statistics.clear();
+		assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		// the result is newer than every completed update, so no space was looked up
+		assertThat( statistics.getUpdateTimestampsCacheHitCount() ).isZero();
+		assertThat( statistics.getUpdateTimestampsCacheMissCount() ).isZero();
+	}
+
+	@Test
+	public void testUpdateInProgressNotTrusted(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.persist( new Author( 2L, "Christian" ) );
+			session.flush();
+			// another session caches the result while the update is in progress
+			assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+			statistics.clear();
+			assertThat( countAuthors( scope ) ).isEqualTo( 1 );
+			assertThat( statistics.getQueryCacheHitCount() ).isZero();
+
+			// a space which is not being updated is not affected
+			scope.inTransaction( other -> other.createSelectionQuery( "from Book", Book.class )
+					.setCacheable( true )
+					.getResultList() );
+			statistics.clear();
+			scope.inTransaction( other -> other.createSelectionQuery( "from Book", Book.class )
+					.setCacheable( true )
+					.getResultList() );
+			assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		} );
+		statistics.clear();
+		assertThat( countAuthors( scope ) ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		protected Book() {
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		protected Author() {
+		}
+	}
+}
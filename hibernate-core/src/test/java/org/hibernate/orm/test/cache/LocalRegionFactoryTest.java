@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LocalRegionFactory}
+ */
+@DomainModel(annotatedClasses = {
+		LocalRegionFactoryTest.Product.class,
+		LocalRegionFactoryTest.Category.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.cache.internal.LocalRegionFactory"),
+		@Setting(name = AvailableSettings.LOCAL_CACHE_MAX_ENTRIES, value = "100"),
+		@Setting(name = AvailableSettings.LOCAL_CACHE_MAX_ENTRIES + ".products", value = "5"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class LocalRegionFactoryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntityCached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Category( 1L, "books" ) ) );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.getCollectingStatementInspector().clear();
+
+		scope.inTransaction( session -> assertThat( session.find( Category.class, 1L ).name ).isEqualTo( "books" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		scope.getCollectingStatementInspector().assertExecutedCount( 0 );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "categories" );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getElementCountOnDisk() ).isZero();
+
+		scope.inTransaction( session -> session.find( Category.class, 1L ).name = "comics" );
+		scope.inTransaction( session -> assertThat( session.find( Category.class, 1L ).name ).isEqualTo( "comics" ) );
+	}
+
+	@Test
+	public void testRegionSizeLimit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 20; id++ ) {
+				session.persist( new Product( id, "product " + id ) );
+			}
+		} );
+		final CacheRegionStatistics regionStatistics =
+				scope.getSessionFactory().getStatistics().getDomainDataRegionStatistics( "products" );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 5 );
+
+		// evicted entries are loaded from the database
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 20; id++ ) {
+				assertThat( session.find( Product.class, id ).name ).isEqualTo( "product " + id );
+			}
+		} );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testQueryCached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Category( 1L, "books" ) ) );
+		scope.inTransaction( session -> session.createSelectionQuery( "from Category", Category.class )
+				.setCacheable( true )
+				.getResultList() );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getCollectingStatementInspector().clear();
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Category", Category.class )
+						.setCacheable( true )
+						.getResultList()
+		).hasSize( 1 ) );
+		scope.getCollectingStatementInspector().assertExecutedCount( 0 );
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		protected Product() {
+		}
+	}
+
+	@Entity(name = "Category")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
+	public static class Category {
+		@Id
+		private Long id;
+		private String name;
+
+		public Category(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		protected Category() {
+		}
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cache.internal.ReferenceDataCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.cfg.CacheSettings#REFERENCE_DATA_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = {
+		ReferenceDataCacheTest.Currency.class,
+		ReferenceDataCacheTest.Account.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.REFERENCE_DATA_CACHE_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class ReferenceDataCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Currency( "EUR", "Euro" ) );
+			session.persist( new Currency( "USD", "US Dollar" ) );
+			session.persist( new Currency( "JPY", "Japanese Yen" ) );
+			session.persist( new Account( 1L, "first" ) );
+		} );
+		referenceDataCache( scope ).clear();
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getCollectingStatementInspector().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		referenceDataCache( scope ).clear();
+	}
+
+	private static ReferenceDataCache referenceDataCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getFastSessionServices().referenceDataCache;
+	}
+
+	@Test
+	public void testInstanceSharedBetweenSessions(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		final Currency euro = scope.fromTransaction( session -> session.find( Currency.class, "EUR" ) );
+		assertThat( statistics.getReferenceDataCacheMissCount() ).isPositive();
+		assertThat( statistics.getReferenceDataCachePutCount() ).isEqualTo( 1 );
+		scope.getCollectingStatementInspector().assertExecutedCount( 1 );
+
+		scope.getCollectingStatementInspector().clear();
+		scope.inTransaction( session -> {
+			final Currency loaded = session.find( Currency.class, "EUR" );
+			assertThat( loaded ).isSameAs( euro );
+			assertThat( session.isReadOnly( loaded ) ).isTrue();
+			assertThat( session.contains( loaded ) ).isTrue();
+		} );
+		assertThat( statistics.getReferenceDataCacheHitCount() ).isEqualTo( 1 );
+		scope.getCollectingStatementInspector().assertExecutedCount( 0 );
+
+		// query results are resolved against the cache too
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Currency where code = 'EUR'", Currency.class )
+						.getSingleResult()
+		).isSameAs( euro ) );
+	}
+
+	@Test
+	public void testMutableEntityNotCached(SessionFactoryScope scope) {
+		final Account account = scope.fromTransaction( session -> session.find( Account.class, 1L ) );
+		scope.inTransaction( session -> assertThat( session.find( Account.class, 1L ) ).isNotSameAs( account ) );
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+		assertThat( scope.getSessionFactory().getStatistics().getReferenceDataCacheMissCount() ).isZero();
+	}
+
+	@Test
+	public void testBoundedSize(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.find( Currency.class, "EUR" );
+			session.find( Currency.class, "USD" );
+		} );
+		// recently used instances get a second chance
+		scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+		scope.inTransaction( session -> session.find( Currency.class, "JPY" ) );
+
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 2 );
+		assertThat( statistics.getReferenceDataCacheEvictionCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+		assertThat( statistics.getReferenceDataCacheHitCount() ).isEqualTo( 1 );
+		scope.inTransaction( session -> session.find( Currency.class, "USD" ) );
+		assertThat( statistics.getReferenceDataCacheMissCount() ).isPositive();
+	}
+
+	@Test
+	public void testEvictedOnDelete(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.remove( session.find( Currency.class, "EUR" ) ) );
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+		scope.inTransaction( session -> assertThat( session.find( Currency.class, "EUR" ) ).isNull() );
+	}
+
+	@Test
+	public void testEvictedOnBulkDelete(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.find( Currency.class, "EUR" );
+			session.find( Currency.class, "USD" );
+		} );
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Currency" ).executeUpdate() );
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+		scope.inTransaction( session -> assertThat( session.find( Currency.class, "USD" ) ).isNull() );
+	}
+
+	@Test
+	public void testInsertedInstanceNotCachedBeforeCommit(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.beginTransaction();
+			session.persist( new Currency( "GBP", "Pound Sterling" ) );
+			session.flush();
+			session.clear();
+			assertThat( session.find( Currency.class, "GBP" ) ).isNotNull();
+			assertThat( referenceDataCache( scope ).size() ).isZero();
+			session.getTransaction().rollback();
+		} );
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+		scope.inTransaction( session -> assertThat( session.find( Currency.class, "GBP" ) ).isNull() );
+	}
+
+	@Test
+	public void testInsertedInstanceCachedAfterCommit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Currency( "GBP", "Pound Sterling" ) );
+			session.flush();
+			session.clear();
+			session.find( Currency.class, "GBP" );
+		} );
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+
+		scope.inTransaction( session -> session.find( Currency.class, "GBP" ) );
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testInstanceReadBeforeEvictionNotCached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// the eviction happens after the transaction started reading,
+			// so the instance might have been deleted in the meantime
+			scope.getSessionFactory().getCache().evictEntityData( Currency.class, "EUR" );
+			assertThat( session.find( Currency.class, "EUR" ) ).isNotNull();
+		} );
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+
+		scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEvictedByCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.find( Currency.class, "EUR" );
+			session.find( Currency.class, "USD" );
+		} );
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 2 );
+
+		scope.getSessionFactory().getCache().evict( Currency.class, "EUR" );
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 1 );
+
+		scope.getSessionFactory().getCache().evictAll();
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+	}
+
+	@Test
+	public void testRepeatedlyEvicted(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		// more explicitly evicted instances than the bound, which are purged lazily
+		for ( int i = 0; i < 5; i++ ) {
+			scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+			assertThat( referenceDataCache( scope ).size() ).isEqualTo( 1 );
+			scope.getSessionFactory().getCache().evict( Currency.class, "EUR" );
+			assertThat( referenceDataCache( scope ).size() ).isZero();
+		}
+		assertThat( statistics.getReferenceDataCachePutCount() ).isEqualTo( 5 );
+
+		scope.inTransaction( session -> {
+			session.find( Currency.class, "EUR" );
+			session.find( Currency.class, "USD" );
+			session.find( Currency.class, "JPY" );
+		} );
+		assertThat( referenceDataCache( scope ).size() ).isEqualTo( 2 );
+		assertThat( statistics.getReferenceDataCacheEvictionCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStatelessSessionNotCached(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			final Currency euro = session.get( Currency.class, "EUR" );
+			assertThat( session.get( Currency.class, "EUR" ) ).isNotSameAs( euro );
+		} );
+		assertThat( referenceDataCache( scope ).size() ).isZero();
+	}
+
+	@Test
+	public void testEntityStatistics(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+		scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+
+		final EntityStatistics currencyStatistics = statistics.getEntityStatistics( Currency.class.getName() );
+		assertThat( currencyStatistics.getReferenceDataCacheMissCount() ).isPositive();
+		assertThat( currencyStatistics.getReferenceDataCachePutCount() ).isEqualTo( 1 );
+		assertThat( currencyStatistics.getReferenceDataCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityStatistics( Account.class.getName() ).getReferenceDataCachePutCount() )
+				.isZero();
+	}
+
+	@Entity(name = "Currency")
+	@Immutable
+	public static class Currency {
+		@Id
+		private String code;
+		private String name;
+
+		public Currency(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+
+		protected Currency() {
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Long id;
+		private String name;
+
+		public Account(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		protected Account() {
+		}
+	}
+}
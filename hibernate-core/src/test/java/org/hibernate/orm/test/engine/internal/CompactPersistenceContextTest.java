@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Basic persistence context operations with {@link PersistenceSettings#COMPACT_PERSISTENCE_CONTEXT}
+ */
+@DomainModel(annotatedClasses = {
+		CompactPersistenceContextTest.Parent.class,
+		CompactPersistenceContextTest.Child.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.COMPACT_PERSISTENCE_CONTEXT, value = "true"))
+public class CompactPersistenceContextTest {
+	private static final int PARENTS = 500;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < PARENTS; i++ ) {
+				final Parent parent = new Parent( i );
+				parent.children.add( new Child( i ) );
+				session.persist( parent.children.get( 0 ) );
+				session.persist( parent );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLoadEvictAndFind(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Parent> parents = session.createSelectionQuery( "from Parent", Parent.class ).getResultList();
+			assertThat( parents ).hasSize( PARENTS );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( PARENTS );
+
+			for ( Parent parent : parents ) {
+				assertThat( parent.children ).hasSize( 1 );
+			}
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 2 * PARENTS );
+
+			for ( int i = 0; i < PARENTS; i += 2 ) {
+				session.evict( parents.get( i ) );
+			}
+			for ( Parent parent : parents ) {
+				assertThat( session.contains( parent ) ).isEqualTo( parent.id % 2 == 1 );
+				assertThat( session.find( Parent.class, parent.id ) == parent ).isEqualTo( parent.id % 2 == 1 );
+			}
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		@OneToMany
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		public Child() {
+		}
+
+		public Child(Integer id) {
+			this.id = id;
+		}
+	}
+}
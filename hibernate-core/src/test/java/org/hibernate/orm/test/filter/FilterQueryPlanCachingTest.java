@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that query plans are cached for queries executed with enabled filters,
+ * or with an entity graph, and that a cached plan binds the current arguments
+ * of the filters without translating the query again.
+ */
+@DomainModel(
+		annotatedClasses = {
+				FilterQueryPlanCachingTest.Author.class,
+				FilterQueryPlanCachingTest.Book.class
+		}
+)
+@ServiceRegistry(settings = @Setting(
+		name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+		value = "org.hibernate.orm.test.filter.FilterQueryPlanCachingTest$CountingSqmTranslatorFactory"
+))
+@SessionFactory
+public class FilterQueryPlanCachingTest {
+	private static final String QUERY = "from Book order by id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Author author = new Author( 1, "Gavin" );
+					session.persist( author );
+					session.persist( new Book( 1, "Hibernate in Action", 2004, author ) );
+					session.persist( new Book( 2, "Java Persistence with Hibernate", 2006, author ) );
+					session.persist( new Book( 3, "Hibernate Reactive", 2021, author ) );
+				}
+		);
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearPlans(SessionFactoryScope scope) {
+		getInterpretationCache( scope ).close();
+		CountingSqmTranslatorFactory.selectTranslations.set( 0 );
+	}
+
+	@Test
+	public void testFilterArgumentsChangeBetweenExecutions(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "publishedAfter" ).setParameter( "year", 2005 );
+					assertThat( titles( session.createSelectionQuery( QUERY, Book.class ).list() ) )
+							.containsExactly( "Java Persistence with Hibernate", "Hibernate Reactive" );
+
+					session.enableFilter( "publishedAfter" ).setParameter( "year", 2010 );
+					assertThat( titles( session.createSelectionQuery( QUERY, Book.class ).list() ) )
+							.containsExactly( "Hibernate Reactive" );
+
+					session.enableFilter( "publishedAfter" ).setParameter( "year", 2005 );
+					assertThat( titles( session.createSelectionQuery( QUERY, Book.class ).list() ) )
+							.containsExactly( "Java Persistence with Hibernate", "Hibernate Reactive" );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "publishedAfter" ).setParameter( "year", 2000 );
+					assertThat( session.createSelectionQuery( QUERY, Book.class ).list() ).hasSize( 3 );
+				}
+		);
+
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		// the arguments are bound for each execution, the query is translated once
+		assertThat( CountingSqmTranslatorFactory.selectTranslations ).hasValue( 1 );
+	}
+
+	@Test
+	public void testMultivaluedFilterArguments(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.enableFilter( "publishedIn" ).setParameterList( "years", List.of( 2004, 2021 ) );
+					assertThat( titles( session.createSelectionQuery( QUERY, Book.class ).list() ) )
+							.containsExactly( "Hibernate in Action", "Hibernate Reactive" );
+
+					session.enableFilter( "publishedIn" ).setParameterList( "years", List.of( 2006, 2021 ) );
+					assertThat( titles( session.createSelectionQuery( QUERY, Book.class ).list() ) )
+							.containsExactly( "Java Persistence with Hibernate", "Hibernate Reactive" );
+					assertThat( CountingSqmTranslatorFactory.selectTranslations ).hasValue( 1 );
+
+					// a different number of values needs a different translation
+					session.enableFilter( "publishedIn" ).setParameterList( "years", List.of( 2006 ) );
+					assertThat( titles( session.createSelectionQuery( QUERY, Book.class ).list() ) )
+							.containsExactly( "Java Persistence with Hibernate" );
+					assertThat( CountingSqmTranslatorFactory.selectTranslations ).hasValue( 2 );
+				}
+		);
+	}
+
+	@Test
+	public void testEnabledFiltersArePartOfTheKey(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( QUERY, Book.class ).list() ).hasSize( 3 );
+
+					session.enableFilter( "publishedAfter" ).setParameter( "year", 2005 );
+					assertThat( session.createSelectionQuery( QUERY, Book.class ).list() ).hasSize( 2 );
+
+					session.disableFilter( "publishedAfter" );
+					assertThat( session.createSelectionQuery( QUERY, Book.class ).list() ).hasSize( 3 );
+				}
+		);
+
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEntityGraph(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createSelectionQuery( QUERY, Book.class ).list();
+					assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isFalse();
+				}
+		);
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						// an equivalent graph, but a different instance, each time
+						final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+						graph.addAttributeNodes( "author" );
+						final List<Book> books = session.createSelectionQuery( QUERY, Book.class )
+								.setEntityGraph( graph, GraphSemantic.FETCH )
+								.list();
+						assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+					}
+			);
+		}
+
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	private static QueryInterpretationCache getInterpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	private static List<String> titles(List<Book> books) {
+		return books.stream().map( book -> book.title ).toList();
+	}
+
+	/**
+	 * Counts the translations of select queries from SQM to SQL AST.
+	 */
+	public static class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+		static final AtomicInteger selectTranslations = new AtomicInteger();
+
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext,
+				boolean deduplicateSelectionItems) {
+			selectTranslations.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext,
+					deduplicateSelectionItems
+			);
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@FilterDef(name = "publishedAfter", parameters = @ParamDef(name = "year", type = Integer.class))
+	@FilterDef(name = "publishedIn", parameters = @ParamDef(name = "years", type = Integer.class))
+	@Filter(name = "publishedAfter", condition = "published > :year")
+	@Filter(name = "publishedIn", condition = "published in (:years)")
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		private int published;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int published, Author author) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+			this.author = author;
+		}
+	}
+}
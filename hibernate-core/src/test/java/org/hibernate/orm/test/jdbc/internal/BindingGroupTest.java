@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Verifies that a {@link BindingGroup} holds its bindings ordered by JDBC position.
+ */
+public class BindingGroupTest {
+
+	@Test
+	public void testBindingsOrderedByPosition() {
+		final BindingGroup bindingGroup = new BindingGroup( "books", 2 );
+		bind( bindingGroup, "isbn", 3, "978-0" );
+		bind( bindingGroup, "title", 1, "Hibernate in Action" );
+		// beyond the initial slots
+		bind( bindingGroup, "version", 12, 1 );
+
+		assertThat( bindingGroup.getMaxPosition() ).isEqualTo( 12 );
+		assertThat( bindingGroup.getValueDescriptor( 2 ) ).isNull();
+		assertThat( bindingGroup.getBindings() )
+				.extracting( Binding::getColumnName, Binding::getPosition, Binding::getValue )
+				.containsExactly(
+						tuple( "title", 1, "Hibernate in Action" ),
+						tuple( "isbn", 3, "978-0" ),
+						tuple( "version", 12, 1 )
+				);
+	}
+
+	@Test
+	public void testFirstValueWins() {
+		final BindingGroup bindingGroup = new BindingGroup( "books" );
+		bind( bindingGroup, "title", 1, "first" );
+		bind( bindingGroup, "title", 1, "second" );
+
+		assertThat( bindingGroup.getValue( 1 ) ).isEqualTo( "first" );
+		assertThat( bindingGroup.getBindings() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testClear() {
+		final BindingGroup bindingGroup = new BindingGroup( "books" );
+		bind( bindingGroup, "title", 1, "first" );
+		bind( bindingGroup, "isbn", 2, "978-0" );
+		bindingGroup.clear();
+
+		assertThat( bindingGroup.getMaxPosition() ).isZero();
+		assertThat( bindingGroup.getBindings() ).isEmpty();
+
+		bind( bindingGroup, "title", 1, "second" );
+		assertThat( bindingGroup.getValue( 1 ) ).isEqualTo( "second" );
+		assertThat( bindingGroup.getValue( 2 ) ).isNull();
+	}
+
+	private static void bind(BindingGroup bindingGroup, String columnName, int position, Object value) {
+		bindingGroup.bindValue( columnName, value, new JdbcValueDescriptor() {
+			@Override
+			public String getColumnName() {
+				return columnName;
+			}
+
+			@Override
+			public ParameterUsage getUsage() {
+				return ParameterUsage.SET;
+			}
+
+			@Override
+			public int getJdbcPosition() {
+				return position;
+			}
+
+			@Override
+			public JdbcMapping getJdbcMapping() {
+				return null;
+			}
+		} );
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.model.MutationOperation;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the {@link org.hibernate.engine.jdbc.mutation.spi.BindingGroup}
+ * of a mutation is sized from the value descriptors of its operation.
+ */
+@DomainModel(annotatedClasses = MutationParameterCountTest.Book.class)
+@SessionFactory
+public class MutationParameterCountTest {
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testParameterCount(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+
+		final MutationOperation insert =
+				persister.getInsertCoordinator().getStaticMutationOperationGroup().getSingleOperation();
+		assertThat( JdbcValueBindingsImpl.parameterCount( insert ) ).isEqualTo( 11 );
+		assertThat( insert.getJdbcValueDescriptor( "id", ParameterUsage.SET ).getJdbcPosition() )
+				.isLessThanOrEqualTo( 11 );
+
+		final MutationOperation delete =
+				persister.getDeleteCoordinator().getStaticMutationOperationGroup().getSingleOperation();
+		assertThat( JdbcValueBindingsImpl.parameterCount( delete ) ).isEqualTo( 1 );
+		assertThat( delete.getJdbcValueDescriptor( "id", ParameterUsage.RESTRICT ).getJdbcPosition() )
+				.isEqualTo( 1 );
+
+		// more parameters than a binding group has slots by default
+		scope.inTransaction( session -> session.persist( new Book( 1L ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1L ).c10 ).isEqualTo( "c10" ) );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String c1 = "c1";
+		String c2 = "c2";
+		String c3 = "c3";
+		String c4 = "c4";
+		String c5 = "c5";
+		String c6 = "c6";
+		String c7 = "c7";
+		String c8 = "c8";
+		String c9 = "c9";
+		String c10 = "c10";
+
+		public Book() {
+		}
+
+		public Book(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that persisters build their coordinators and loaders on first
+ * use, and that entities are persisted, loaded, updated and removed with
+ * them.
+ */
+@DomainModel(annotatedClasses = {
+		LazyPersisterInitializationTest.Document.class,
+		LazyPersisterInitializationTest.Unused.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLifecycle(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1L, "draft" ) );
+			session.persist( new Document( 2L, "draft" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.status ).isEqualTo( "draft" );
+			document.status = "published";
+		} );
+		scope.inTransaction( session -> {
+			final List<Document> documents = session.byMultipleIds( Document.class ).multiLoad( 1L, 2L );
+			assertThat( documents ).extracting( document -> document.status )
+					.containsExactly( "published", "draft" );
+			assertThat( documents.get( 0 ).version ).isEqualTo( 1 );
+			session.lock( documents.get( 1 ), LockMode.OPTIMISTIC_FORCE_INCREMENT );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Document.class, 2L ).version ).isEqualTo( 1 );
+			session.remove( session.find( Document.class, 1L ) );
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Document.class, 1L ) ).isNull() );
+	}
+
+	@Test
+	public void testBuiltOnFirstUse(SessionFactoryScope scope) throws ReflectiveOperationException {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Unused.class );
+		assertThat( getField( persister, "insertCoordinator" ) ).isNull();
+		assertThat( getField( persister, "updateCoordinator" ) ).isNull();
+		assertThat( getField( persister, "deleteCoordinator" ) ).isNull();
+		assertThat( getField( persister, "mergeCoordinator" ) ).isNull();
+		assertThat( getField( persister, "singleIdLoader" ) ).isNull();
+		assertThat( getField( persister, "multiIdLoader" ) ).isNull();
+
+		scope.inTransaction( session -> session.persist( new Unused( 1L, "first" ) ) );
+		assertThat( getField( persister, "insertCoordinator" ) ).isNotNull();
+		assertThat( getField( persister, "updateCoordinator" ) ).isNull();
+		assertThat( getField( persister, "singleIdLoader" ) ).isNull();
+
+		scope.inTransaction( session -> session.find( Unused.class, 1L ).name = "changed" );
+		assertThat( getField( persister, "singleIdLoader" ) ).isNotNull();
+		assertThat( getField( persister, "updateCoordinator" ) ).isNotNull();
+		assertThat( getField( persister, "deleteCoordinator" ) ).isNull();
+		assertThat( getField( persister, "multiIdLoader" ) ).isNull();
+
+		scope.inTransaction( session -> session.remove( session.find( Unused.class, 1L ) ) );
+		assertThat( getField( persister, "deleteCoordinator" ) ).isNotNull();
+		assertThat( getField( persister, "mergeCoordinator" ) ).isNull();
+
+		scope.inTransaction( session -> session.byMultipleIds( Unused.class ).multiLoad( 1L, 2L ) );
+		assertThat( getField( persister, "multiIdLoader" ) ).isNotNull();
+	}
+
+	private static Object getField(EntityPersister persister, String name) throws ReflectiveOperationException {
+		final Field field = AbstractEntityPersister.class.getDeclaredField( name );
+		field.setAccessible( true );
+		return field.get( persister );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		@Version
+		private int version;
+
+		private String status;
+
+		public Document() {
+		}
+
+		public Document(Long id, String status) {
+			this.id = id;
+			this.status = status;
+		}
+	}
+
+	@Entity(name = "Unused")
+	public static class Unused {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Unused() {
+		}
+
+		public Unused(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.CompiledSelectionQuery;
+import org.hibernate.query.IllegalSelectQueryException;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that a {@link CompiledSelectionQuery} may be executed in
+ * different sessions, without looking up the interpretation caches.
+ */
+@DomainModel(annotatedClasses = CompiledSelectionQueryTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class CompiledSelectionQueryTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Book( "1", "Hibernate in Action" ) );
+					session.persist( new Book( "2", "Java Persistence with Hibernate" ) );
+				}
+		);
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testExecuteInDifferentSessions(SessionFactoryScope scope) {
+		final CompiledSelectionQuery<String> compiled = scope.getSessionFactory()
+				.compileSelectionQuery( "select b.title from Book b where b.isbn = :isbn", String.class );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> assertThat( session.createSelectionQuery( compiled )
+												.setParameter( "isbn", "1" )
+												.getSingleResult() )
+						.isEqualTo( "Hibernate in Action" )
+		);
+		scope.inStatelessTransaction(
+				session -> assertThat( session.createSelectionQuery( compiled )
+												.setParameter( "isbn", "2" )
+												.getSingleResult() )
+						.isEqualTo( "Java Persistence with Hibernate" )
+		);
+
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isZero();
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isZero();
+	}
+
+	@Test
+	public void testQueryOptions(SessionFactoryScope scope) {
+		final CompiledSelectionQuery<Book> compiled = scope.getSessionFactory()
+				.compileSelectionQuery( "from Book b order by b.isbn", Book.class );
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createSelectionQuery( compiled ).getResultList();
+					assertThat( books ).extracting( book -> book.isbn ).containsExactly( "1", "2" );
+
+					// a lock mode is not part of the compiled plan
+					final List<Book> locked = session.createSelectionQuery( compiled )
+							.setHibernateLockMode( LockMode.PESSIMISTIC_WRITE )
+							.getResultList();
+					assertThat( locked ).hasSize( 2 );
+
+					final List<Book> first = session.createSelectionQuery( compiled )
+							.setMaxResults( 1 )
+							.getResultList();
+					assertThat( first ).extracting( book -> book.isbn ).containsExactly( "1" );
+				}
+		);
+	}
+
+	@Test
+	public void testMutationQueryRejected(SessionFactoryScope scope) {
+		assertThatThrownBy( () -> scope.getSessionFactory().compileSelectionQuery( "delete from Book", Book.class ) )
+				.isInstanceOf( IllegalSelectQueryException.class );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private String isbn;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(String isbn, String title) {
+			this.isbn = isbn;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the plan of a query with a multivalued parameter is cached,
+ * and that it may be executed with any number of values.
+ */
+@DomainModel(annotatedClasses = InListParameterQueryPlanCachingTest.Person.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class InListParameterQueryPlanCachingTest {
+	private static final String QUERY = "select p.id from Person p where p.id in :ids order by p.id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 20; i++ ) {
+						session.persist( new Person( i, "Person nr " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearPlans(SessionFactoryScope scope) {
+		getInterpretationCache( scope ).close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testDifferentNumbersOfValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					// each number of values twice, in an order which exercises
+					// both reuse and padding of the translations
+					for ( int round = 0; round < 2; round++ ) {
+						for ( int count = 1; count <= 20; count++ ) {
+							final List<Integer> ids = ids( count );
+							assertThat( session.createSelectionQuery( QUERY, Integer.class )
+												.setParameterList( "ids", ids )
+												.list() )
+									.isEqualTo( ids );
+						}
+					}
+				}
+		);
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isPositive();
+	}
+
+	@Test
+	public void testSingleValue(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( QUERY, Integer.class )
+										.setParameterList( "ids", ids( 3 ) )
+										.list() )
+							.containsExactly( 1, 2, 3 );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class )
+										.setParameter( "ids", 7 )
+										.list() )
+							.containsExactly( 7 );
+					assertThat( session.createSelectionQuery( QUERY, Integer.class )
+										.setParameterList( "ids", List.of( 4, 5 ) )
+										.list() )
+							.containsExactly( 4, 5 );
+				}
+		);
+
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testParameterUsedTwice(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final String query = "select p.id from Person p where p.id in :ids and p.id + 1 in :ids order by p.id";
+					assertThat( session.createSelectionQuery( query, Integer.class )
+										.setParameterList( "ids", List.of( 1, 2, 3 ) )
+										.list() )
+							.containsExactly( 1, 2 );
+					assertThat( session.createSelectionQuery( query, Integer.class )
+										.setParameterList( "ids", List.of( 5, 6, 7, 8, 10 ) )
+										.list() )
+							.containsExactly( 5, 6, 7 );
+					assertThat( session.createSelectionQuery( query, Integer.class )
+										.setParameterList( "ids", List.of( 11, 12, 14, 15 ) )
+										.list() )
+							.containsExactly( 11, 14 );
+				}
+		);
+	}
+
+	private static List<Integer> ids(int count) {
+		return IntStream.rangeClosed( 1, count ).boxed().collect( Collectors.toList() );
+	}
+
+	private static QueryInterpretationCache getInterpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
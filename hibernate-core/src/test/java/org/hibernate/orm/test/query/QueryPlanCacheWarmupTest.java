@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.tool.schema.Action;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the HQL queries cached by one session factory are
+ * interpreted eagerly by the next one.
+ */
+public class QueryPlanCacheWarmupTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testWarmup() {
+		final Path file = directory.resolve( "query-plans.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			assertThat( interpretationCount( sessionFactory ) ).isZero();
+			sessionFactory.inSession( session -> {
+				session.createSelectionQuery( "from Book where title = :title", Book.class )
+						.setParameter( "title", "Hibernate in Action" )
+						.getResultList();
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult();
+			} );
+		}
+		assertThat( file ).exists();
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			assertThat( interpretationCount( sessionFactory ) ).isGreaterThanOrEqualTo( 2 );
+		}
+	}
+
+	@Test
+	public void testDifferentDomainModel() throws Exception {
+		final Path file = directory.resolve( "query-plans.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			sessionFactory.inSession(
+					session -> session.createSelectionQuery( "from Book", Book.class ).getResultList()
+			);
+		}
+		final byte[] written = Files.readAllBytes( file );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class, Author.class ) ) {
+			assertThat( interpretationCount( sessionFactory ) ).isZero();
+		}
+		// the second factory never interpreted any query, so it left the file alone
+		assertThat( Files.readAllBytes( file ) ).isEqualTo( written );
+	}
+
+	@Test
+	public void testCorruptFile() throws Exception {
+		final Path file = directory.resolve( "query-plans.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			sessionFactory.inSession(
+					session -> session.createSelectionQuery( "from Book", Book.class ).getResultList()
+			);
+		}
+		final byte[] written = Files.readAllBytes( file );
+		// the number of queries follows the magic number and the fingerprint
+		final int countOffset = 4 + 2 + 64;
+
+		final byte[] negativeCount = written.clone();
+		ByteBuffer.wrap( negativeCount ).putInt( countOffset, -1 );
+		Files.write( file, negativeCount );
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			assertThat( interpretationCount( sessionFactory ) ).isZero();
+		}
+
+		final byte[] hugeCount = written.clone();
+		ByteBuffer.wrap( hugeCount ).putInt( countOffset, Integer.MAX_VALUE );
+		Files.write( file, hugeCount );
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			assertThat( interpretationCount( sessionFactory ) ).isZero();
+		}
+
+		Files.write( file, Arrays.copyOf( written, written.length - 3 ) );
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			assertThat( interpretationCount( sessionFactory ) ).isZero();
+		}
+	}
+
+	private static int interpretationCount(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Path file, Class<?>... entityClasses) {
+		final Configuration cfg = new Configuration()
+				.setProperty( AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, Action.ACTION_CREATE_THEN_DROP )
+				.setProperty( AvailableSettings.QUERY_PLAN_CACHE_WARMUP_FILE, file.toString() );
+		for ( Class<?> entityClass : entityClasses ) {
+			cfg.addAnnotatedClass( entityClass );
+		}
+		ServiceRegistryUtil.applySettings( cfg.getStandardServiceRegistryBuilder() );
+		return (SessionFactoryImplementor) cfg.buildSessionFactory();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private String isbn;
+
+		private String title;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that queries return the same results when rows are
+ * {@linkplain AvailableSettings#RESULT_SET_PREFETCH_SIZE read ahead},
+ * and that lists of basic values are then assembled a block at a time.
+ */
+@DomainModel(annotatedClasses = ResultSetPrefetchTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.RESULT_SET_PREFETCH_SIZE, value = "3"))
+@SessionFactory
+public class ResultSetPrefetchTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 7; i++ ) {
+				session.persist( new Book( i, "Book " + i, "b" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testListScalars(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> titles = session.createSelectionQuery( "select title from Book order by id", String.class )
+					.getResultList();
+			assertThat( titles ).containsExactly(
+					"Book 1", "Book 2", "Book 3", "Book 4", "Book 5", "Book 6", "Book 7"
+			);
+		} );
+	}
+
+	@Test
+	public void testListTuples(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createSelectionQuery( "select id, title from Book where id > 1 order by id", Object[].class )
+					.getResultList();
+			assertThat( rows ).hasSize( 6 );
+			for ( int i = 0; i < rows.size(); i++ ) {
+				assertThat( rows.get( i ) ).containsExactly( i + 2, "Book " + ( i + 2 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testListConverted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			CodeConverter.readInBlock = false;
+			final List<String> codes = session.createSelectionQuery( "select code from Book order by id", String.class )
+					.getResultList();
+			assertThat( codes ).containsExactly( "B1", "B2", "B3", "B4", "B5", "B6", "B7" );
+			assertThat( CodeConverter.readInBlock ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testListConvertedTuples(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			CodeConverter.readInBlock = false;
+			final List<Object[]> rows = session.createSelectionQuery( "select code, title from Book order by id", Object[].class )
+					.getResultList();
+			assertThat( rows ).hasSize( 7 );
+			for ( int i = 0; i < rows.size(); i++ ) {
+				assertThat( rows.get( i ) ).containsExactly( "B" + ( i + 1 ), "Book " + ( i + 1 ) );
+			}
+			assertThat( CodeConverter.readInBlock ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testScrollConverted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			CodeConverter.readInBlock = false;
+			final List<String> codes = new ArrayList<>();
+			try ( ScrollableResults<String> results = session.createSelectionQuery( "select code from Book order by id", String.class )
+					.scroll() ) {
+				while ( results.next() ) {
+					codes.add( results.get() );
+				}
+			}
+			assertThat( codes ).hasSize( 7 ).endsWith( "B7" );
+			// scrolled results are read a row at a time
+			assertThat( CodeConverter.readInBlock ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testListEmpty(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select title from Book where id > 7", String.class ).getResultList() )
+					.isEmpty();
+		} );
+	}
+
+	@Test
+	public void testListEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			assertThat( books ).extracting( book -> book.title ).startsWith( "Book 1" ).hasSize( 7 );
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> titles = new ArrayList<>();
+			try ( ScrollableResults<String> results = session.createSelectionQuery( "select title from Book order by id", String.class )
+					.scroll() ) {
+				while ( results.next() ) {
+					titles.add( results.get() );
+				}
+			}
+			assertThat( titles ).hasSize( 7 ).endsWith( "Book 7" );
+		} );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "books")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@Convert(converter = CodeConverter.class)
+		String code;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, String code) {
+			this.id = id;
+			this.title = title;
+			this.code = code;
+		}
+	}
+
+	/**
+	 * Stores codes in lower case, and records whether a code was
+	 * last converted while assembling a block of rows.
+	 */
+	public static class CodeConverter implements AttributeConverter<String, String> {
+		static volatile boolean readInBlock;
+
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return attribute == null ? null : attribute.toLowerCase( Locale.ROOT );
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			readInBlock = StackWalker.getInstance()
+					.walk( frames -> frames.anyMatch( frame -> frame.getMethodName().equals( "assembleBlock" ) ) );
+			return dbData == null ? null : dbData.toUpperCase( Locale.ROOT );
+		}
+	}
+}
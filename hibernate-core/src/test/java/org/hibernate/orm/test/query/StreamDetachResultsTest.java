@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the results of a stream are
+ * {@linkplain AvailableSettings#STREAM_DETACH_RESULTS detached}
+ * once the stream moves on.
+ */
+@DomainModel(annotatedClasses = {
+		StreamDetachResultsTest.Author.class,
+		StreamDetachResultsTest.Book.class,
+		StreamDetachResultsTest.Publisher.class,
+		StreamDetachResultsTest.Edition.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STREAM_DETACH_RESULTS, value = "true"))
+@SessionFactory
+public class StreamDetachResultsTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i, "Author " + i );
+				session.persist( author );
+				for ( int j = 1; j <= 3; j++ ) {
+					session.persist( new Book( i * 10 + j, "Book " + i + "." + j, author ) );
+				}
+			}
+			for ( int i = 1; i <= 3; i++ ) {
+				final Publisher publisher = new Publisher( i );
+				for ( int j = 1; j <= 2; j++ ) {
+					publisher.editions.add( new Edition( i * 10 + j, "Edition " + i + "." + j ) );
+				}
+				session.persist( publisher );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntitiesDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Author> authors = new ArrayList<>();
+			try ( Stream<Author> stream = session.createSelectionQuery( "from Author order by id", Author.class )
+					.getResultStream() ) {
+				stream.forEach( author -> {
+					assertThat( session.contains( author ) ).isTrue();
+					assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 1 );
+					authors.add( author );
+				} );
+			}
+			assertThat( authors ).hasSize( 5 );
+			for ( Author author : authors.subList( 0, 4 ) ) {
+				assertThat( session.contains( author ) ).isFalse();
+			}
+		} );
+	}
+
+	@Test
+	public void testFetchedCollectionsDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Set<Integer> authorIds = new HashSet<>();
+			try ( Stream<Author> stream = session.createSelectionQuery(
+					"from Author a join fetch a.books order by a.id",
+					Author.class
+			).getResultStream() ) {
+				stream.forEach( author -> {
+					// the collection is complete when the author is returned
+					assertThat( author.books ).hasSize( 3 );
+					assertThat( persistenceContext.getCollectionEntriesSize() ).isEqualTo( 1 );
+					// the author and its books, but none of the previous books
+					assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 4 );
+					authorIds.add( author.id );
+				} );
+			}
+			assertThat( authorIds ).hasSize( 5 );
+		} );
+	}
+
+	@Test
+	public void testAssociatedEntitiesDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Book> books = new ArrayList<>();
+			try ( Stream<Book> stream = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultStream() ) {
+				stream.forEach( book -> {
+					// the book and the author it loaded
+					assertThat( session.contains( book.author ) ).isTrue();
+					assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 2 );
+					books.add( book );
+				} );
+			}
+			assertThat( books ).hasSize( 15 );
+			assertThat( session.contains( books.get( 0 ).author ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testManagedEntitiesKept(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author managed = session.find( Author.class, 1 );
+			managed.name = "Changed before";
+			final List<Book> books = new ArrayList<>();
+			try ( Stream<Book> stream = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultStream() ) {
+				stream.forEach( book -> {
+					if ( book.id == 21 ) {
+						book.title = "Changed by consumer";
+					}
+					books.add( book );
+				} );
+			}
+			assertThat( books ).hasSize( 15 );
+			assertThat( session.contains( managed ) ).isTrue();
+			// Book 1.1 belongs to the managed author
+			assertThat( books.get( 0 ).author ).isSameAs( managed );
+			assertThat( session.contains( books.get( 0 ) ) ).isFalse();
+			// Book 2.1 was changed, Book 2.2 wasn't
+			assertThat( session.contains( books.get( 3 ) ) ).isTrue();
+			assertThat( session.contains( books.get( 4 ) ) ).isFalse();
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Author.class, 1 ).name ).isEqualTo( "Changed before" );
+			assertThat( session.find( Book.class, 21 ).title ).isEqualTo( "Changed by consumer" );
+			session.find( Author.class, 1 ).name = "Author 1";
+			session.find( Book.class, 21 ).title = "Book 2.1";
+		} );
+	}
+
+	@Test
+	public void testCascadeTargetsKept(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Edition managed = session.find( Edition.class, 11 );
+			final List<Publisher> publishers = new ArrayList<>();
+			try ( Stream<Publisher> stream = session.createSelectionQuery(
+					"from Publisher p join fetch p.editions order by p.id",
+					Publisher.class
+			).getResultStream() ) {
+				stream.forEach( publisher -> {
+					for ( Edition edition : publisher.editions ) {
+						if ( edition.id == 11 || edition.id == 21 ) {
+							edition.title = "Changed by consumer";
+						}
+					}
+					publishers.add( publisher );
+				} );
+			}
+			assertThat( publishers ).hasSize( 3 );
+			// evicting these publishers would evict their editions too,
+			// Edition 1.1 was already managed, Edition 2.1 was changed
+			assertThat( session.contains( managed ) ).isTrue();
+			assertThat( session.contains( publishers.get( 0 ) ) ).isTrue();
+			assertThat( session.contains( publishers.get( 1 ) ) ).isTrue();
+			assertThat( session.contains( publishers.get( 2 ) ) ).isFalse();
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Edition.class, 11 ).title ).isEqualTo( "Changed by consumer" );
+			assertThat( session.find( Edition.class, 21 ).title ).isEqualTo( "Changed by consumer" );
+			session.find( Edition.class, 11 ).title = "Edition 1.1";
+			session.find( Edition.class, 21 ).title = "Edition 2.1";
+		} );
+	}
+
+	@Test
+	public void testTuplesDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = new ArrayList<>();
+			try ( Stream<Object[]> stream = session.createSelectionQuery(
+					"select b, b.title from Book b order by b.id",
+					Object[].class
+			).getResultStream() ) {
+				stream.forEach( row -> {
+					if ( !books.isEmpty() ) {
+						assertThat( session.contains( books.get( books.size() - 1 ) ) ).isFalse();
+					}
+					assertThat( session.contains( row[0] ) ).isTrue();
+					books.add( (Book) row[0] );
+				} );
+			}
+			assertThat( books ).hasSize( 15 );
+		} );
+	}
+
+	@Test
+	public void testScalars(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<String> stream = session.createSelectionQuery( "select name from Author order by id", String.class )
+					.getResultStream() ) {
+				assertThat( stream ).startsWith( "Author 1" ).hasSize( 5 );
+			}
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "authors")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "author")
+		Set<Book> books = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "books")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "publishers")
+	public static class Publisher {
+		@Id
+		Integer id;
+		@OneToMany(cascade = CascadeType.ALL)
+		@JoinColumn(name = "publisher_id")
+		Set<Edition> editions = new HashSet<>();
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Edition")
+	@Table(name = "editions")
+	public static class Edition {
+		@Id
+		Integer id;
+		String title;
+
+		public Edition() {
+		}
+
+		public Edition(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.annotations.Imported;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Instantiation of records from basic values, which calls the constructor
+ * directly with the JDBC values of each row.
+ */
+@DomainModel( annotatedClasses = { DynamicInstantiationRecordTest.Book.class } )
+@SessionFactory
+public class DynamicInstantiationRecordTest {
+	@BeforeAll
+	public void prepareData(final SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action", "978-1932394153", 400, 39.95, true,
+					LocalDate.of( 2004, 8, 1 ), Format.PAPERBACK ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", "978-1932394887", 880, 49.99, false,
+					LocalDate.of( 2006, 11, 1 ), Format.HARDCOVER ) );
+		} );
+	}
+
+	@AfterAll
+	public void cleanUpData(final SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	void testRecord(final SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<BookSummary> results = session.createQuery(
+					"select new BookSummary(id, title) from Book order by id",
+					BookSummary.class
+			).getResultList();
+			assertThat( results ).containsExactly(
+					new BookSummary( 1L, "Hibernate in Action" ),
+					new BookSummary( 2L, "Java Persistence with Hibernate" )
+			);
+		} );
+	}
+
+	@Test
+	void testRecordWithManyArguments(final SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final BookDetails result = session.createQuery(
+					"select new BookDetails(id, title, isbn, pages, price, inPrint, published) from Book where id = 2",
+					BookDetails.class
+			).getSingleResult();
+			assertThat( result ).isEqualTo( new BookDetails( 2L, "Java Persistence with Hibernate", "978-1932394887",
+					880, 49.99, false, LocalDate.of( 2006, 11, 1 ) ) );
+		} );
+	}
+
+	@Test
+	void testRecordWithConvertedArgument(final SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final BookFormat result = session.createQuery(
+					"select new BookFormat(title, format) from Book where id = 1",
+					BookFormat.class
+			).getSingleResult();
+			assertThat( result ).isEqualTo( new BookFormat( "Hibernate in Action", Format.PAPERBACK ) );
+		} );
+	}
+
+	@Test
+	void testImplicitRecord(final SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<BookSummary> results = session.createQuery(
+					"select id, title from Book order by id",
+					BookSummary.class
+			).getResultList();
+			assertThat( results ).extracting( BookSummary::title )
+					.containsExactly( "Hibernate in Action", "Java Persistence with Hibernate" );
+		} );
+	}
+
+	public enum Format {
+		PAPERBACK,
+		HARDCOVER
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private String isbn;
+		private int pages;
+		private double price;
+		private boolean inPrint;
+		private LocalDate published;
+		@Enumerated( EnumType.STRING )
+		private Format format;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, String isbn, int pages, double price, boolean inPrint,
+				LocalDate published, Format format) {
+			this.id = id;
+			this.title = title;
+			this.isbn = isbn;
+			this.pages = pages;
+			this.price = price;
+			this.inPrint = inPrint;
+			this.published = published;
+			this.format = format;
+		}
+	}
+
+	@Imported
+	public record BookSummary(Long id, String title) {
+	}
+
+	@Imported
+	public record BookDetails(Long id, String title, String isbn, int pages, double price, boolean inPrint,
+			LocalDate published) {
+	}
+
+	@Imported
+	public record BookFormat(String title, Format format) {
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.mutationquery;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.MutationQuery;
+import org.hibernate.query.spi.QueryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the plans of HQL mutation queries are cached, and that a cached
+ * plan executes correctly with different arguments. The plans of multi-table and
+ * native mutation queries are not cached.
+ */
+@DomainModel(annotatedClasses = {
+		MutationQueryPlanCachingTest.Job.class,
+		MutationQueryPlanCachingTest.Task.class,
+		MutationQueryPlanCachingTest.ScheduledTask.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class MutationQueryPlanCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Job( i, "new" ) );
+						session.persist( new ScheduledTask( i, "new", i * 10 ) );
+					}
+				}
+		);
+		getInterpretationCache( scope ).close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSimpleUpdate(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						assertThat( session.createMutationQuery( "update Job set status = :s where id <= :id" )
+											.setParameter( "s", "status " + i )
+											.setParameter( "id", i )
+											.executeUpdate() )
+								.isEqualTo( i );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					assertThat( session.find( Job.class, 1 ).status ).isEqualTo( "status 10" );
+					assertThat( session.find( Job.class, 10 ).status ).isEqualTo( "status 10" );
+				}
+		);
+
+		assertCachedPlans( scope, 1, 9 );
+	}
+
+	@Test
+	public void testSimpleDeleteAndInsert(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 5; i++ ) {
+						assertThat( session.createMutationQuery( "delete from Job where id = :id" )
+											.setParameter( "id", i )
+											.executeUpdate() )
+								.isEqualTo( 1 );
+						assertThat( session.createMutationQuery( "insert into Job (id, status) values (:id, :s)" )
+											.setParameter( "id", 100 + i )
+											.setParameter( "s", "inserted" )
+											.executeUpdate() )
+								.isEqualTo( 1 );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> assertThat( session.createSelectionQuery( "select count(*) from Job where status = 'inserted'", Long.class )
+											.getSingleResult() )
+						.isEqualTo( 5L )
+		);
+
+		assertCachedPlans( scope, 3, 8 );
+	}
+
+	@Test
+	public void testMultiTableUpdate(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 5; i++ ) {
+						assertThat( session.createMutationQuery( "update ScheduledTask set status = :s, delay = :d where id = :id" )
+											.setParameter( "s", "done" )
+											.setParameter( "d", 0 )
+											.setParameter( "id", i )
+											.executeUpdate() )
+								.isEqualTo( 1 );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final ScheduledTask task = session.find( ScheduledTask.class, 5 );
+					assertThat( task.status ).isEqualTo( "done" );
+					assertThat( task.delay ).isEqualTo( 0 );
+					assertThat( session.find( ScheduledTask.class, 6 ).status ).isEqualTo( "new" );
+				}
+		);
+
+		// the multi-table strategies translate the statement on each execution
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testNativeMutationNotCached(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						assertThat( session.createNativeMutationQuery( "update Job set status = :s where id = :id" )
+											.setParameter( "s", "native " + i )
+											.setParameter( "id", i )
+											.executeUpdate() )
+								.isEqualTo( 1 );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					assertThat( session.find( Job.class, 1 ).status ).isEqualTo( "native 1" );
+					assertThat( session.find( Job.class, 3 ).status ).isEqualTo( "native 3" );
+				}
+		);
+
+		// a native plan holds the parameter occurrences of the query which built it
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testQueryPlanCachingDisabled(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final MutationQuery query = session.createMutationQuery( "update Job set status = 'x' where id = :id" );
+						( (QueryImplementor<?>) query ).setQueryPlanCacheable( false );
+						query.setParameter( "id", i ).executeUpdate();
+					}
+				}
+		);
+
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 0 );
+	}
+
+	private static void assertCachedPlans(SessionFactoryScope scope, int plans, long hits) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( getInterpretationCache( scope ).getNumberOfCachedQueryPlans() ).isGreaterThanOrEqualTo( plans );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThanOrEqualTo( hits );
+	}
+
+	private static QueryInterpretationCache getInterpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Job")
+	public static class Job {
+		@Id
+		private Integer id;
+
+		private String status;
+
+		public Job() {
+		}
+
+		public Job(Integer id, String status) {
+			this.id = id;
+			this.status = status;
+		}
+	}
+
+	@Entity(name = "Task")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Task {
+		@Id
+		Integer id;
+
+		String status;
+
+		public Task() {
+		}
+
+		public Task(Integer id, String status) {
+			this.id = id;
+			this.status = status;
+		}
+	}
+
+	@Entity(name = "ScheduledTask")
+	public static class ScheduledTask extends Task {
+		Integer delay;
+
+		public ScheduledTask() {
+		}
+
+		public ScheduledTask(Integer id, String status, Integer delay) {
+			super( id, status );
+			this.delay = delay;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.named;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NamedQueryValidationException;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that named queries are checked at startup when
+ * {@value AvailableSettings#QUERY_STARTUP_CHECKING_THREADS}
+ * is greater than one.
+ */
+public class ConcurrentNamedQueryCheckingTest {
+
+	@Test
+	public void testLegalQueries() {
+		try ( SessionFactory sessionFactory = buildSessionFactory( Book.class ) ) {
+			assertThat( ( (SessionFactoryImplementor) sessionFactory ).getQueryEngine()
+								.getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isGreaterThanOrEqualTo( 4 );
+		}
+	}
+
+	@Test
+	public void testIllegalQueries() {
+		assertThatThrownBy( () -> buildSessionFactory( Book.class, Broken.class ) )
+				.isInstanceOf( NamedQueryValidationException.class )
+				.satisfies( e -> assertThat( ( (NamedQueryValidationException) e ).getErrors() )
+						.containsOnlyKeys( "Broken.unknownAttribute", "Broken.unknownEntity" ) );
+	}
+
+	private static SessionFactory buildSessionFactory(Class<?>... entityClasses) {
+		final Configuration cfg = new Configuration()
+				.setProperty( AvailableSettings.QUERY_STARTUP_CHECKING_THREADS, "4" );
+		for ( Class<?> entityClass : entityClasses ) {
+			cfg.addAnnotatedClass( entityClass );
+		}
+		ServiceRegistryUtil.applySettings( cfg.getStandardServiceRegistryBuilder() );
+		return cfg.buildSessionFactory();
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byIsbn", query = "from Book where isbn = :isbn")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title like :title")
+	@NamedQuery(name = "Book.titles", query = "select title from Book order by title")
+	@NamedQuery(name = "Book.count", query = "select count(*) from Book")
+	public static class Book {
+		@Id
+		private String isbn;
+
+		private String title;
+	}
+
+	@Entity(name = "Broken")
+	@NamedQuery(name = "Broken.legal", query = "from Broken")
+	@NamedQuery(name = "Broken.unknownAttribute", query = "select b.missing from Broken b")
+	@NamedQuery(name = "Broken.unknownEntity", query = "from Missing")
+	public static class Broken {
+		@Id
+		private Long id;
+	}
+}
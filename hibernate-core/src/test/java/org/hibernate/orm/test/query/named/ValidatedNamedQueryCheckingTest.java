@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.named;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that named queries listed in
+ * {@value NamedObjectRepository#VALIDATED_QUERIES_RESOURCE} are only
+ * skipped by the startup check when
+ * {@value AvailableSettings#QUERY_STARTUP_CHECKING_SKIP_VALIDATED}
+ * is enabled, and only if their query string is the listed one.
+ */
+public class ValidatedNamedQueryCheckingTest {
+
+	@Test
+	public void testListedQueriesSkipped() {
+		try ( SessionFactory sessionFactory = buildSessionFactory( true, Listed.class ) ) {
+			final QueryInterpretationCache interpretationCache =
+					( (SessionFactoryImplementor) sessionFactory ).getQueryEngine().getInterpretationCache();
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 0 );
+
+			// the query is interpreted on first use instead
+			sessionFactory.inSession( session -> session.createNamedQuery( "Listed.all", Listed.class ) );
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testListedQueriesCheckedByDefault() {
+		assertThatThrownBy( () -> buildSessionFactory( false, Listed.class ) )
+				.isInstanceOf( NamedQueryValidationException.class )
+				.satisfies( e -> assertThat( ( (NamedQueryValidationException) e ).getErrors() )
+						.containsOnlyKeys( "Listed.broken" ) );
+	}
+
+	@Test
+	public void testChangedQueriesChecked() {
+		assertThatThrownBy( () -> buildSessionFactory( true, Changed.class ) )
+				.isInstanceOf( NamedQueryValidationException.class )
+				.satisfies( e -> assertThat( ( (NamedQueryValidationException) e ).getErrors() )
+						.containsOnlyKeys( "Changed.broken" ) );
+	}
+
+	private static SessionFactory buildSessionFactory(boolean skipValidated, Class<?>... entityClasses) {
+		final Configuration cfg = new Configuration();
+		if ( skipValidated ) {
+			cfg.setProperty( AvailableSettings.QUERY_STARTUP_CHECKING_SKIP_VALIDATED, "true" );
+		}
+		for ( Class<?> entityClass : entityClasses ) {
+			cfg.addAnnotatedClass( entityClass );
+		}
+		ServiceRegistryUtil.applySettings( cfg.getStandardServiceRegistryBuilder() );
+		return cfg.buildSessionFactory();
+	}
+
+	@Entity(name = "Listed")
+	@NamedQuery(name = "Listed.all", query = "from Listed")
+	// listed as validated, even though it isn't legal
+	@NamedQuery(name = "Listed.broken", query = "from MissingEntity")
+	public static class Listed {
+		@Id
+		private Long id;
+	}
+
+	@Entity(name = "Changed")
+	// listed as validated with a different query string
+	@NamedQuery(name = "Changed.broken", query = "from MissingEntity")
+	public static class Changed {
+		@Id
+		private Long id;
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.internal.CompactCachedJdbcValues;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#USE_COMPACT_QUERY_CACHE_ENTRIES}
+ */
+@DomainModel(annotatedClasses = CompactQueryCacheEntriesTest.Invoice.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.querycache.CompactQueryCacheEntriesTest$RecordingRegionFactory"),
+		@Setting(name = AvailableSettings.USE_COMPACT_QUERY_CACHE_ENTRIES, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class CompactQueryCacheEntriesTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Invoice( 1L, "first", new BigDecimal( "10.50" ), LocalDate.of( 2024, 1, 1 ), true ) );
+			session.persist( new Invoice( 2L, "second", new BigDecimal( "-3.25" ), LocalDate.of( 1999, 12, 31 ), null ) );
+			session.persist( new Invoice( 3L, null, BigDecimal.ZERO, null, false ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	private static <T> List<T> cached(SessionFactoryScope scope, String hql, Class<T> resultType) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( hql, resultType )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	/**
+	 * The entry which was last put in the query cache region.
+	 */
+	private static List<?> lastCachedEntry(SessionFactoryScope scope) {
+		assertThat( RecordingRegionFactory.lastQueryKey ).isNotNull();
+		return scope.fromSession( session -> scope.getSessionFactory().getCache().getDefaultQueryResultsCache()
+				.get( RecordingRegionFactory.lastQueryKey, new String[0], session ) );
+	}
+
+	private static void assertCacheHit(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1 );
+		scope.getCollectingStatementInspector().assertExecutedCount( 0 );
+	}
+
+	private static void clearCounts(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+		scope.getCollectingStatementInspector().clear();
+	}
+
+	@Test
+	public void testTuples(SessionFactoryScope scope) {
+		final String hql = "select id, description, amount, issued, paid from Invoice order by id";
+		final List<Object[]> results = cached( scope, hql, Object[].class );
+		assertThat( lastCachedEntry( scope ) ).hasAtLeastOneElementOfType( CompactCachedJdbcValues.class )
+				.doesNotHaveAnyElementsOfTypes( Object[].class );
+		clearCounts( scope );
+		final List<Object[]> cachedResults = cached( scope, hql, Object[].class );
+		assertCacheHit( scope );
+		assertThat( cachedResults ).hasSize( 3 );
+		for ( int i = 0; i < results.size(); i++ ) {
+			assertThat( cachedResults.get( i ) ).containsExactly( results.get( i ) );
+		}
+	}
+
+	@Test
+	public void testSingleValues(SessionFactoryScope scope) {
+		final String hql = "select amount from Invoice order by id";
+		final List<BigDecimal> results = cached( scope, hql, BigDecimal.class );
+		assertThat( lastCachedEntry( scope ) ).hasAtLeastOneElementOfType( CompactCachedJdbcValues.class )
+				.doesNotHaveAnyElementsOfTypes( BigDecimal.class );
+		clearCounts( scope );
+		assertThat( cached( scope, hql, BigDecimal.class ) ).containsExactlyElementsOf( results );
+		assertCacheHit( scope );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		final String hql = "from Invoice order by id";
+		cached( scope, hql, Invoice.class );
+		assertThat( lastCachedEntry( scope ) ).hasAtLeastOneElementOfType( CompactCachedJdbcValues.class );
+		clearCounts( scope );
+		final List<Invoice> cachedResults = cached( scope, hql, Invoice.class );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( cachedResults ).extracting( invoice -> invoice.description )
+				.containsExactly( "first", "second", null );
+	}
+
+	@Test
+	public void testUnsupportedType(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Invoice.class, 1L ).due =
+				OffsetDateTime.of( 2024, 2, 1, 12, 0, 0, 0, ZoneOffset.ofHours( 2 ) ) );
+		final String hql = "select id, due from Invoice where due is not null";
+		final List<Object[]> results = cached( scope, hql, Object[].class );
+		// the rows are cached as they are
+		assertThat( lastCachedEntry( scope ) ).hasAtLeastOneElementOfType( Object[].class )
+				.doesNotHaveAnyElementsOfTypes( CompactCachedJdbcValues.class );
+		clearCounts( scope );
+		final List<Object[]> cachedResults = cached( scope, hql, Object[].class );
+		assertCacheHit( scope );
+		assertThat( cachedResults.get( 0 ) ).containsExactly( results.get( 0 ) );
+	}
+
+	@Test
+	public void testEncoding() {
+		final List<Object[]> rows = new ArrayList<>();
+		for ( int i = -200; i < 200; i++ ) {
+			rows.add( new Object[] {
+					i, (long) i << 40, "row " + i, null, i % 2 == 0, (short) i, (byte) i, 0.5f * i, 1.5d * i, 'c',
+					BigDecimal.valueOf( i, 3 ), LocalDate.ofEpochDay( i * 1000L ), UUID.randomUUID(), new byte[] { 1, (byte) i }
+			} );
+		}
+		final CompactCachedJdbcValues compactValues = CompactCachedJdbcValues.encode( rows );
+		assertThat( compactValues ).isNotNull();
+		assertThat( compactValues.getRowCount() ).isEqualTo( rows.size() );
+
+		final CompactCachedJdbcValues.Cursor cursor = compactValues.cursor();
+		for ( int i = 0; i < rows.size(); i++ ) {
+			assertThat( Arrays.deepEquals( rows.get( i ), (Object[]) cursor.getRow( i ) ) ).isTrue();
+		}
+		// random access
+		for ( int i = rows.size() - 1; i >= 0; i -= 13 ) {
+			assertThat( Arrays.deepEquals( rows.get( i ), (Object[]) cursor.getRow( i ) ) ).isTrue();
+		}
+
+		assertThat( CompactCachedJdbcValues.encode( List.of( new Object[] { OffsetDateTime.now() } ) ) ).isNull();
+		assertThat( CompactCachedJdbcValues.encode( List.of( (Object) new Integer[] { 1 } ) ) ).isNull();
+	}
+
+	/**
+	 * Records the key of the last entry put in a query cache region.
+	 */
+	public static class RecordingRegionFactory extends CachingRegionFactory {
+		static volatile QueryKey lastQueryKey;
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl() {
+				@Override
+				public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+					lastQueryKey = (QueryKey) key;
+					super.putIntoCache( key, value, session );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		private Long id;
+		private String description;
+		private BigDecimal amount;
+		private LocalDate issued;
+		private Boolean paid;
+		private OffsetDateTime due;
+
+		public Invoice(Long id, String description, BigDecimal amount, LocalDate issued, Boolean paid) {
+			this.id = id;
+			this.description = description;
+			this.amount = amount;
+			this.issued = issued;
+			this.paid = paid;
+		}
+
+		protected Invoice() {
+		}
+	}
+}
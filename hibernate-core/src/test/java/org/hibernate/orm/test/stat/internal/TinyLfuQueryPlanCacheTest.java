@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the query plan cache with the {@code tinylfu} eviction policy.
+ */
+@DomainModel(annotatedClasses = TinyLfuQueryPlanCacheTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY, value = "tinylfu"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class TinyLfuQueryPlanCacheTest {
+
+	@Test
+	public void testHitsMissesAndEvictions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final QueryInterpretationCache interpretationCache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		statistics.clear();
+
+		scope.inSession(
+				session -> {
+					for ( int round = 0; round < 2; round++ ) {
+						session.createSelectionQuery( "from Employee where id = 1", Employee.class ).list();
+					}
+					assertThat( statistics.getQueryPlanCacheHitCount() ).isPositive();
+					assertThat( statistics.getQueryPlanCacheMissCount() ).isPositive();
+					assertThat( statistics.getQueryPlanCacheEvictionCount() ).isZero();
+
+					for ( int i = 0; i < 50; i++ ) {
+						session.createSelectionQuery( "from Employee where id = " + i, Employee.class ).list();
+					}
+				}
+		);
+
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isLessThanOrEqualTo( 10 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isPositive();
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
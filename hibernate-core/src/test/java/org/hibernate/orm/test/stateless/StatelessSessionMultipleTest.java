@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple},
+ * {@link org.hibernate.StatelessSession#updateMultiple} and
+ * {@link org.hibernate.StatelessSession#deleteMultiple}
+ */
+@SessionFactory(useCollectingStatementInspector = true)
+@DomainModel(annotatedClasses = StatelessSessionMultipleTest.Record.class)
+public class StatelessSessionMultipleTest {
+	private static final int RECORDS = 20;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testMultipleOperations(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final List<Record> records = new ArrayList<>();
+		for ( long i = 0; i < RECORDS; i++ ) {
+			records.add( new Record( i, "hello " + i ) );
+		}
+
+		inspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( records ) );
+		// a single batched statement
+		inspector.assertExecutedCount( 1 );
+		inspector.assertIsInsert( 0 );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Record> all = session.getAll( Record.class, List.of( 0L, 7L, 19L ) );
+			assertEquals( "hello 0", all.get( 0 ).message );
+			assertEquals( "hello 7", all.get( 1 ).message );
+			assertEquals( "hello 19", all.get( 2 ).message );
+		} );
+
+		for ( Record record : records ) {
+			record.message = "goodbye " + record.id;
+		}
+		inspector.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( records ) );
+		inspector.assertExecutedCount( 1 );
+		inspector.assertIsUpdate( 0 );
+
+		scope.inStatelessTransaction( session -> {
+			assertEquals( "goodbye 7", session.get( Record.class, 7L ).message );
+		} );
+
+		inspector.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( records.subList( 0, 10 ) ) );
+		inspector.assertExecutedCount( 1 );
+
+		scope.inStatelessTransaction( session -> {
+			assertNull( session.get( Record.class, 7L ) );
+			assertEquals( "goodbye 17", session.get( Record.class, 17L ).message );
+		} );
+	}
+
+	@Entity(name = "Record")
+	static class Record {
+		@Id
+		Long id;
+		String message;
+
+		Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+
+		Record() {
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.hibernate.internal.util.collections.OpenAddressingMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingMapTest {
+
+	/**
+	 * A key with lots of collisions, to exercise probing and backward shifting
+	 */
+	private record CollidingKey(int value) {
+		@Override
+		public int hashCode() {
+			return value % 7;
+		}
+	}
+
+	@Test
+	public void testBasicOperations() {
+		final Map<String, Integer> map = new OpenAddressingMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( 1, map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( 3, map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertEquals( 2, map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertNull( map.get( null ) );
+		assertEquals( Map.of( "a", 3 ), map );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertThrows( NullPointerException.class, () -> map.put( null, 1 ) );
+	}
+
+	@Test
+	public void testGrowth() {
+		final Map<Integer, Integer> map = new OpenAddressingMap<>( 1 );
+		for ( int i = 0; i < 10_000; i++ ) {
+			map.put( i, -i );
+		}
+		assertEquals( 10_000, map.size() );
+		for ( int i = 0; i < 10_000; i++ ) {
+			assertEquals( -i, map.get( i ) );
+		}
+	}
+
+	@Test
+	public void testRandomOperationsAgainstHashMap() {
+		final Random random = new Random( 42 );
+		for ( int round = 0; round < 200; round++ ) {
+			final Map<Object, Integer> expected = new HashMap<>();
+			final Map<Object, Integer> map = new OpenAddressingMap<>( random.nextInt( 4 ) );
+			final int range = 1 + random.nextInt( 60 );
+			for ( int operation = 0; operation < 300; operation++ ) {
+				final Object key = random.nextBoolean()
+						? new CollidingKey( random.nextInt( range ) )
+						: (Object) random.nextInt( range );
+				switch ( random.nextInt( 4 ) ) {
+					case 0:
+					case 1:
+						assertEquals( expected.put( key, operation ), map.put( key, operation ) );
+						break;
+					case 2:
+						assertEquals( expected.remove( key ), map.remove( key ) );
+						break;
+					default:
+						assertEquals( expected.get( key ), map.get( key ) );
+				}
+				assertEquals( expected, map );
+			}
+		}
+	}
+
+	@Test
+	public void testIteratorRemoval() {
+		final Random random = new Random( 42 );
+		for ( int round = 0; round < 200; round++ ) {
+			final Map<Object, Integer> expected = new HashMap<>();
+			final Map<Object, Integer> map = new OpenAddressingMap<>();
+			for ( int i = 0; i < 50; i++ ) {
+				final CollidingKey key = new CollidingKey( random.nextInt( 100 ) );
+				expected.put( key, i );
+				map.put( key, i );
+			}
+
+			final Set<Object> seen = new HashSet<>();
+			final Iterator<Map.Entry<Object, Integer>> iterator = map.entrySet().iterator();
+			while ( iterator.hasNext() ) {
+				final Map.Entry<Object, Integer> entry = iterator.next();
+				// every entry is seen exactly once, even though removals shift entries around
+				assertTrue( seen.add( entry.getKey() ) );
+				assertEquals( expected.get( entry.getKey() ), entry.getValue() );
+				if ( random.nextBoolean() ) {
+					iterator.remove();
+					expected.remove( entry.getKey() );
+				}
+			}
+			assertThat( seen ).containsAll( expected.keySet() );
+			assertEquals( expected, map );
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuCacheTest {
+
+	@Test
+	public void testBasicOperations() {
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 10 );
+		assertThat( cache.get( "a" ) ).isNull();
+		cache.put( "a", 1 );
+		cache.put( "b", 2 );
+		cache.put( "a", 3 );
+		assertThat( cache.size() ).isEqualTo( 2 );
+		assertThat( cache.get( "a" ) ).isEqualTo( 3 );
+		assertThat( cache.containsKey( "b" ) ).isTrue();
+		cache.remove( "b" );
+		assertThat( cache.containsKey( "b" ) ).isFalse();
+		assertThat( cache.computeIfAbsent( "c", key -> 4 ) ).isEqualTo( 4 );
+		assertThat( cache.computeIfAbsent( "c", key -> 5 ) ).isEqualTo( 4 );
+		cache.clear();
+		assertThat( cache.size() ).isZero();
+		assertThat( cache.getEvictionCount() ).isZero();
+	}
+
+	@Test
+	public void testBoundedSize() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			cache.put( i, i );
+			assertThat( cache.size() ).isLessThanOrEqualTo( 100 );
+		}
+		assertThat( cache.size() ).isEqualTo( 100 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 900 );
+	}
+
+	@Test
+	public void testEvictionListener() {
+		final List<Integer> evicted = new ArrayList<>();
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 10, 0, System::nanoTime, evicted::add );
+		for ( int i = 0; i < 30; i++ ) {
+			cache.put( i, i );
+		}
+		final List<Integer> survivors = survivors( cache, 30 );
+		assertThat( survivors ).hasSize( 10 );
+		assertThat( evicted ).hasSize( 20 ).doesNotContainAnyElementsOf( survivors );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 20 );
+	}
+
+	private static List<Integer> survivors(TinyLfuCache<Integer, Integer> cache, int count) {
+		final List<Integer> survivors = new ArrayList<>();
+		for ( int i = 0; i < count; i++ ) {
+			if ( cache.containsKey( i ) ) {
+				survivors.add( i );
+			}
+		}
+		return survivors;
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( i, i );
+		}
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( cache.get( i ) ).isEqualTo( i );
+			}
+		}
+		// each of these is used once, and so is never admitted in place of a frequently used entry
+		for ( int i = 1_000; i < 1_500; i++ ) {
+			cache.put( i, i );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( cache.get( i ) ).isEqualTo( i );
+		}
+	}
+
+	@Test
+	public void testTimeToLive() {
+		final AtomicLong time = new AtomicLong();
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 10, 100, time::get );
+		cache.put( "a", 1 );
+		time.addAndGet( 50 );
+		cache.put( "b", 2 );
+		assertThat( cache.get( "a" ) ).isEqualTo( 1 );
+
+		time.addAndGet( 50 );
+		assertThat( cache.containsKey( "a" ) ).isFalse();
+		assertThat( cache.get( "a" ) ).isNull();
+		assertThat( cache.get( "b" ) ).isEqualTo( 2 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 1 );
+
+		// writing an entry again resets its time to live
+		cache.put( "b", 3 );
+		time.addAndGet( 50 );
+		assertThat( cache.get( "b" ) ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws InterruptedException {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 50 );
+		final AtomicInteger mismatches = new AtomicInteger();
+		final List<Thread> threads = new ArrayList<>();
+		for ( int t = 0; t < 4; t++ ) {
+			threads.add( new Thread( () -> {
+				final ThreadLocalRandom random = ThreadLocalRandom.current();
+				for ( int i = 0; i < 100_000; i++ ) {
+					final int key = random.nextInt( 200 );
+					if ( random.nextBoolean() ) {
+						cache.put( key, key );
+					}
+					else {
+						final Integer value = cache.get( key );
+						if ( value != null && value != key ) {
+							mismatches.incrementAndGet();
+						}
+					}
+				}
+			} ) );
+		}
+		threads.forEach( Thread::start );
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+		// any pending maintenance is done by the next write
+		cache.put( -1, -1 );
+		assertThat( mismatches.get() ).isZero();
+		assertThat( cache.size() ).isLessThanOrEqualTo( 50 );
+	}
+}
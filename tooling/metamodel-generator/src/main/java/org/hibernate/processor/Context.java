@@ -11,6 +11,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.AnnotationMirror;
@@ -99,6 +100,10 @@ public final class Context {
 	// keep track of which named queries have been checked
 	private final Set<String> checkedNamedQueries = new HashSet<>();
 
+	// keep track of the named queries which were validated without errors
+	private final Map<String, String> validatedNamedQueries = new TreeMap<>();
+	private final boolean writeValidatedQueryIndex;
+
 	private boolean usesQuarkusOrm = false;
 	private boolean usesQuarkusReactive = false;
 
@@ -140,6 +145,7 @@ public final class Context {
 
 		lazyXmlParsing = parseBoolean( options.get( HibernateProcessor.LAZY_XML_PARSING ) );
 		logDebug = parseBoolean( options.get( HibernateProcessor.DEBUG_OPTION ) );
+		writeValidatedQueryIndex = parseBoolean( options.get( HibernateProcessor.VALIDATED_QUERY_INDEX ) );
 	}
 
 	public ProcessingEnvironment getProcessingEnvironment() {
@@ -407,6 +413,18 @@ public final class Context {
 		return checkedNamedQueries.add(name);
 	}
 
+	public boolean writeValidatedQueryIndex() {
+		return writeValidatedQueryIndex;
+	}
+
+	public void addValidatedNamedQuery(String name, String hql) {
+		validatedNamedQueries.put( name, hql );
+	}
+
+	public Map<String, String> getValidatedNamedQueries() {
+		return validatedNamedQueries;
+	}
+
 	public void setUsesQuarkusOrm(boolean b) {
 		usesQuarkusOrm = b;
 	}
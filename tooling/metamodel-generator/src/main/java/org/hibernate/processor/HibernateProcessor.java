@@ -38,6 +38,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 import static java.lang.Boolean.parseBoolean;
@@ -54,6 +55,7 @@ import static org.hibernate.processor.HibernateProcessor.LAZY_XML_PARSING;
 import static org.hibernate.processor.HibernateProcessor.ORM_XML_OPTION;
 import static org.hibernate.processor.HibernateProcessor.PERSISTENCE_XML_OPTION;
 import static org.hibernate.processor.HibernateProcessor.SUPPRESS_JAKARTA_DATA_METAMODEL;
+import static org.hibernate.processor.HibernateProcessor.VALIDATED_QUERY_INDEX;
 import static org.hibernate.processor.util.Constants.EMBEDDABLE;
 import static org.hibernate.processor.util.Constants.ENTITY;
 import static org.hibernate.processor.util.Constants.FIND;
@@ -82,6 +84,7 @@ import static org.hibernate.processor.util.TypeUtils.getAnnotationMirror;
 import static org.hibernate.processor.util.TypeUtils.getAnnotationValue;
 import static org.hibernate.processor.util.TypeUtils.hasAnnotation;
 import static org.hibernate.processor.util.TypeUtils.isClassOrRecordType;
+import static org.hibernate.query.named.NamedObjectRepository.VALIDATED_QUERIES_RESOURCE;
 
 /**
  * Main annotation processor.
@@ -115,6 +118,7 @@ import static org.hibernate.processor.util.TypeUtils.isClassOrRecordType;
 		ADD_GENERATED_ANNOTATION,
 		ADD_SUPPRESS_WARNINGS_ANNOTATION,
 		SUPPRESS_JAKARTA_DATA_METAMODEL,
+		VALIDATED_QUERY_INDEX,
 		INCLUDE, EXCLUDE
 })
 public class HibernateProcessor extends AbstractProcessor {
@@ -169,6 +173,17 @@ public class HibernateProcessor extends AbstractProcessor {
 	 */
 	public static final String SUPPRESS_JAKARTA_DATA_METAMODEL = "suppressJakartaDataMetamodel";
 
+	/**
+	 * Whether the processor should write the named HQL queries it validated
+	 * without errors to the resource
+	 * {@value org.hibernate.query.named.NamedObjectRepository#VALIDATED_QUERIES_RESOURCE},
+	 * so that they are not validated again when the {@code SessionFactory}
+	 * is created with
+	 * {@value org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECKING_SKIP_VALIDATED}
+	 * enabled.
+	 */
+	public static final String VALIDATED_QUERY_INDEX = "validatedQueryIndex";
+
 	/**
 	 * Option to include only certain types, according to a list of patterns.
 	 * The wildcard character is {@code *}, and patterns are comma-separated.
@@ -308,6 +323,9 @@ public class HibernateProcessor extends AbstractProcessor {
 				context.logMessage( Diagnostic.Kind.ERROR, "Failed to generate code for " + elementsToRedo );
 			}
 			writeIndex();
+			if ( context.writeValidatedQueryIndex() ) {
+				writeValidatedQueryIndex();
+			}
 		}
 		else if ( context.isFullyXmlConfigured() ) {
 			context.logMessage(
@@ -745,4 +763,20 @@ public class HibernateProcessor extends AbstractProcessor {
 			}
 		});
 	}
+
+	private void writeValidatedQueryIndex() {
+		final ProcessingEnvironment processingEnvironment = context.getProcessingEnvironment();
+		final Properties validatedQueries = new Properties();
+		validatedQueries.putAll( context.getValidatedNamedQueries() );
+		try (Writer writer = processingEnvironment.getFiler()
+				.createResource( StandardLocation.CLASS_OUTPUT, "", VALIDATED_QUERIES_RESOURCE )
+				.openWriter()) {
+			validatedQueries.store( writer, null );
+		}
+		catch (IOException e) {
+			processingEnvironment.getMessager()
+					.printMessage(Diagnostic.Kind.WARNING,
+							"could not write validated query index " + e.getMessage());
+		}
+	}
 }
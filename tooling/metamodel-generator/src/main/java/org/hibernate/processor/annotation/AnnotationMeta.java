@@ -94,19 +94,24 @@ public abstract class AnnotationMeta implements Metamodel {
 			final AnnotationValue value = getAnnotationValue( mirror, "query" );
 			if ( value != null ) {
 				if ( value.getValue() instanceof String hql ) {
+					// If we are in the scope of @CheckHQL, semantic errors in the
+					// query result in compilation errors. Otherwise, they only
+					// result in warnings, so we don't break working code.
+					final WarningErrorHandler handler =
+							new WarningErrorHandler( context, getElement(), mirror, value, hql,
+									reportErrors, checkHql );
 					final SqmStatement<?> statement =
 							Validation.validate(
 									hql,
 									null,
 									true,
-									// If we are in the scope of @CheckHQL, semantic errors in the
-									// query result in compilation errors. Otherwise, they only
-									// result in warnings, so we don't break working code.
-									new WarningErrorHandler( context, getElement(), mirror, value, hql,
-											reportErrors, checkHql ),
+									handler,
 									ProcessorSessionFactory.create( context.getProcessingEnvironment(),
 											context.getEntityNameMappings(), context.getEnumTypesByValue() )
 							);
+					if ( statement != null && reportErrors && handler.isValid() ) {
+						context.addValidatedNamedQuery( name, hql );
+					}
 					if ( statement instanceof SqmSelectStatement<?> selectStatement ) {
 						if ( isQueryMethodName( name ) ) {
 							putMember( name,
@@ -242,6 +247,7 @@ public abstract class AnnotationMeta implements Metamodel {
 	private static class WarningErrorHandler extends ErrorHandler {
 		private final boolean reportErrors;
 		private final boolean checkHql;
+		private boolean valid = true;
 
 		private WarningErrorHandler(
 				Context context,
@@ -255,8 +261,16 @@ public abstract class AnnotationMeta implements Metamodel {
 			this.checkHql = checkHql;
 		}
 
+		/**
+		 * Whether no problem was found, even if it was not reported.
+		 */
+		boolean isValid() {
+			return valid;
+		}
+
 		@Override
 		public void error(int start, int end, String message) {
+			valid = false;
 			if (reportErrors) {
 				if (checkHql) {
 					super.error( start, end, message );
@@ -278,6 +292,7 @@ public abstract class AnnotationMeta implements Metamodel {
 		public void syntaxError(
 				Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
 				String message, RecognitionException e) {
+			valid = false;
 			if (reportErrors) {
 				super.syntaxError( recognizer, offendingSymbol, line, charPositionInLine, message, e );
 			}
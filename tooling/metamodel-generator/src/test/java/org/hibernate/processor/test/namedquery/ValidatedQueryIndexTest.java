@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.processor.test.namedquery;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Properties;
+
+import org.hibernate.processor.HibernateProcessor;
+import org.hibernate.processor.test.util.CompilationTest;
+import org.hibernate.processor.test.util.TestUtil;
+import org.hibernate.processor.test.util.WithClasses;
+import org.hibernate.processor.test.util.WithProcessorOption;
+import org.junit.Test;
+
+import static org.hibernate.query.named.NamedObjectRepository.VALIDATED_QUERIES_RESOURCE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ValidatedQueryIndexTest extends CompilationTest {
+	@Test
+	@WithClasses({ Book.class, Main.class })
+	@WithProcessorOption(key = HibernateProcessor.VALIDATED_QUERY_INDEX, value = "true")
+	public void test() throws IOException {
+		final File index = new File( TestUtil.getOutBaseDir( ValidatedQueryIndexTest.class ), VALIDATED_QUERIES_RESOURCE );
+		assertTrue( "Missing validated query index", index.exists() );
+
+		final Properties validatedQueries = new Properties();
+		try ( Reader reader = new FileReader( index ) ) {
+			validatedQueries.load( reader );
+		}
+		assertEquals( "from Book where isbn = :isbn", validatedQueries.getProperty( "#bookByIsbn" ) );
+		assertEquals( "from Book where title = :title", validatedQueries.getProperty( "#bookByTitle" ) );
+	}
+}